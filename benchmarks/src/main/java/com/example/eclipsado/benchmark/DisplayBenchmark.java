@@ -0,0 +1,53 @@
+package com.example.eclipsado.benchmark;
+
+import com.example.eclipsado.model.GameSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how the text of the DiscoveredWord label is built after a guess
+ * (updateDisplayedWord and its `replace("", " ")`).
+ * @author Brandon Fernandez
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DisplayBenchmark {
+
+    private LegacyGame legacyGame; // Partida original con la mitad de las letras descubiertas
+    private GameSession session; // Partida del motor con las mismas letras descubiertas
+
+    @Setup
+    public void setup(WordState state) {
+        legacyGame = new LegacyGame(state.word);
+        session = new GameSession(state.word, 5, 3, new Random(0));
+        for (int i = 0; i < state.word.length(); i += 2) {
+            legacyGame.guess(state.word.charAt(i));
+            session.guess(state.word.charAt(i));
+        }
+    }
+
+    @Benchmark
+    public String legacyDisplayedText() {
+        return legacyGame.displayedText();
+    }
+
+    @Benchmark
+    public String sessionDisplayedText() {
+        return session.getDisplayedWord().replace("", " ").trim();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.eclipsado.benchmark;
+
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.LetterIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures guess checking: the original stream-based isCorrectLetterInWord against the bit mask
+ * {@link LetterIndex}, both for a single membership test and for a whole game of guesses.
+ * @author Brandon Fernandez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GuessBenchmark {
+
+    @Benchmark
+    public void legacyIsCorrectLetterInWord(WordState state, Blackhole blackhole) {
+        LegacyGame game = new LegacyGame(state.word);
+        for (char guess : state.guesses) {
+            blackhole.consume(game.isCorrectLetterInWord(LegacyGame.normalizeLetter(guess)));
+        }
+    }
+
+    @Benchmark
+    public void indexContains(WordState state, Blackhole blackhole) {
+        LetterIndex index = new LetterIndex(state.word);
+        for (char guess : state.guesses) {
+            blackhole.consume(index.positionsOf(LetterIndex.letterId(guess)) != 0);
+        }
+    }
+
+    @Benchmark
+    public boolean legacyGame(WordState state) {
+        LegacyGame game = new LegacyGame(state.word);
+        boolean won = false;
+        for (char guess : state.guesses) {
+            won |= game.guess(guess);
+        }
+        return won;
+    }
+
+    @Benchmark
+    public boolean sessionGame(WordState state) {
+        GameSession session = new GameSession(state.word, 5, 3, new Random(0));
+        for (char guess : state.guesses) {
+            session.guess(guess);
+        }
+        return session.isWon();
+    }
+}
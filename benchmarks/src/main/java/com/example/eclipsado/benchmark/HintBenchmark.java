@@ -0,0 +1,52 @@
+package com.example.eclipsado.benchmark;
+
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.HintPolicy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the hint path: a fresh game that uses its three hints, with the original
+ * revealRandomLetter against {@link GameSession#useHint()} with the random and ranked hint policies.
+ * @author Brandon Fernandez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HintBenchmark {
+
+    @Benchmark
+    public void legacyRevealRandomLetter(WordState state, Blackhole blackhole) {
+        LegacyGame game = new LegacyGame(state.word);
+        for (int i = 0; i < GameSession.DEFAULT_MAX_HINTS; i++) {
+            blackhole.consume(game.revealRandomLetter());
+        }
+    }
+
+    @Benchmark
+    public void sessionUseHint(WordState state, Blackhole blackhole) {
+        GameSession session = new GameSession(state.word, 5, 3, new Random(0));
+        for (int i = 0; i < GameSession.DEFAULT_MAX_HINTS; i++) {
+            blackhole.consume(session.useHint());
+        }
+    }
+
+    @Benchmark
+    public void sessionUseHintMostRevealing(WordState state, Blackhole blackhole) {
+        GameSession session = new GameSession(state.word, 5, 3, HintPolicy.MOST_REVEALING, GameSession.SHARED_RANDOM);
+        for (int i = 0; i < GameSession.DEFAULT_MAX_HINTS; i++) {
+            blackhole.consume(session.useHint());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.eclipsado.benchmark;
+
+import com.example.eclipsado.journal.GameJournal;
+import com.example.eclipsado.model.GameSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Measures the game journal: events recorded per second with group commit, events per second when
+ * every event waits for the disk, and the time to recover the last game from a full journal file.
+ * @author Brandon Fernandez
+ */
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JournalBenchmark {
+
+    private static final String WORD = "murciélago"; // Palabra de las partidas grabadas
+
+    private Path directory; // Carpeta temporal de los diarios
+    private Path fullJournal; // Diario lleno de partidas para medir la recuperación
+    private GameJournal journal; // Diario en el que se graban los eventos
+    private int letter; // Siguiente letra que se graba
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("eclipsado-journal");
+        journal = GameJournal.open(directory.resolve("benchmark.journal"));
+        journal.startGame(new GameSession(WORD));
+
+        // Llena un diario con partidas terminadas y deja la última a medias
+        fullJournal = directory.resolve("full.journal");
+        try (GameJournal filler = GameJournal.open(fullJournal)) {
+            int gameSize = 5 + WORD.length() + 2 * 8 + 1; // Inicio, ocho letras y final
+            for (int games = GameJournal.DEFAULT_CAPACITY / gameSize - 1; games > 0; games--) {
+                GameSession session = new GameSession(WORD);
+                filler.startGame(session);
+                for (char c : "zxwkaeou".toCharArray()) {
+                    session.guess(c);
+                }
+                filler.endGame(session);
+            }
+            GameSession last = new GameSession(WORD);
+            filler.startGame(last);
+            last.guess('a');
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        journal.close();
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void recordEventGroupCommit() {
+        journal.letterGuessed(nextLetter()); // El hilo escritor agrupa los eventos en lotes
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.Throughput)
+    @OutputTimeUnit(TimeUnit.SECONDS)
+    public void recordEventAndFlush() throws IOException {
+        journal.letterGuessed(nextLetter());
+        journal.flush(); // Cada evento espera a estar en disco
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public GameSession recoverFullJournal() throws IOException {
+        return GameJournal.readLastGame(fullJournal, GameSession.SHARED_RANDOM);
+    }
+
+    /**
+     * Cycles through the letter identifiers.
+     * @return The next identifier.
+     */
+    private int nextLetter() {
+        letter = letter == 26 ? 0 : letter + 1;
+        return letter;
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.eclipsado.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Copy of the game logic as it was written in SecondStageController before the
+ * {@link com.example.eclipsado.model.GameSession} engine existed. It is kept only as the
+ * baseline the benchmarks compare against.
+ * @author Brandon Fernandez
+ */
+final class LegacyGame {
+
+    private final String secretWord; // La palabra secreta a ser adivinada
+    private final char[] displayedWord; // Array que muestra las letras descubiertas
+    private final Set<Character> guessedLetters = new HashSet<>(); // Conjunto de letras ya adivinadas
+    private int remainingAttempts = 5; // Intentos restantes para adivinar la palabra
+
+    LegacyGame(String secretWord) {
+        this.secretWord = secretWord.toLowerCase();
+        this.displayedWord = new char[this.secretWord.length()];
+        for (int i = 0; i < displayedWord.length; i++) {
+            displayedWord[i] = '_';
+        }
+    }
+
+    /**
+     * Guesses a letter exactly as OnTryButtonClick used to do.
+     * @param letter The guessed letter.
+     * @return true if the word has been discovered.
+     */
+    boolean guess(char letter) {
+        char guessedLetter = normalizeLetter(letter);
+        if (guessedLetters.contains(guessedLetter)) {
+            return false;
+        }
+        guessedLetters.add(guessedLetter);
+        if (isCorrectLetterInWord(guessedLetter)) {
+            for (int i = 0; i < secretWord.length(); i++) {
+                if (normalizeLetter(secretWord.charAt(i)) == guessedLetter) {
+                    displayedWord[i] = secretWord.charAt(i);
+                }
+            }
+            return new String(displayedWord).equals(secretWord);
+        }
+        remainingAttempts--;
+        return false;
+    }
+
+    boolean isCorrectLetterInWord(char guessedLetter) {
+        return secretWord.chars()
+                .mapToObj(c -> (char) c)
+                .anyMatch(letter -> normalizeLetter(letter) == guessedLetter);
+    }
+
+    static char normalizeLetter(char letter) {
+        return switch (letter) {
+            case 'á', 'a' -> 'a';
+            case 'é', 'e' -> 'e';
+            case 'í', 'i' -> 'i';
+            case 'ó', 'o' -> 'o';
+            case 'ú', 'u' -> 'u';
+            default -> letter;
+        };
+    }
+
+    /**
+     * Reveals a random hidden letter exactly as revealRandomLetter used to do.
+     * @return true if the word has been discovered.
+     */
+    boolean revealRandomLetter() {
+        List<Integer> unrevealedIndices = new ArrayList<>();
+        for (int i = 0; i < secretWord.length(); i++) {
+            if (displayedWord[i] == '_') {
+                unrevealedIndices.add(i);
+            }
+        }
+        if (!unrevealedIndices.isEmpty()) {
+            Random random = new Random();
+            int randomIndex = unrevealedIndices.get(random.nextInt(unrevealedIndices.size()));
+            char revealedLetter = secretWord.charAt(randomIndex);
+            for (int i = 0; i < secretWord.length(); i++) {
+                if (normalizeLetter(secretWord.charAt(i)) == normalizeLetter(revealedLetter)) {
+                    displayedWord[i] = secretWord.charAt(i);
+                }
+            }
+        }
+        return new String(displayedWord).equals(secretWord);
+    }
+
+    /**
+     * Builds the text of the DiscoveredWord label exactly as updateDisplayedWord used to do.
+     * @return The spaced-out progress of the word.
+     */
+    String displayedText() {
+        return new String(displayedWord).replace("", " ").trim();
+    }
+
+    int getRemainingAttempts() {
+        return remainingAttempts;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.eclipsado.benchmark;
+
+import com.example.eclipsado.model.LetterIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the normalization of every letter of a word: the original `switch` against the
+ * lookup table of {@link LetterIndex}.
+ * @author Brandon Fernandez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NormalizationBenchmark {
+
+    @Benchmark
+    public int legacySwitch(WordState state) {
+        int hash = 0;
+        String word = state.word;
+        for (int i = 0; i < word.length(); i++) {
+            hash = 31 * hash + LegacyGame.normalizeLetter(word.charAt(i));
+        }
+        return hash;
+    }
+
+    @Benchmark
+    public int lookupTable(WordState state) {
+        int hash = 0;
+        String word = state.word;
+        for (int i = 0; i < word.length(); i++) {
+            hash = 31 * hash + LetterIndex.normalizeLetter(word.charAt(i));
+        }
+        return hash;
+    }
+}
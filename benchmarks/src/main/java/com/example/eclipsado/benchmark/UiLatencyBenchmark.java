@@ -0,0 +1,350 @@
+package com.example.eclipsado.benchmark;
+
+import com.example.eclipsado.metrics.Histogram;
+import com.example.eclipsado.view.FirstStage;
+import com.example.eclipsado.view.StageManager;
+import javafx.application.Platform;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Button;
+import javafx.scene.control.TextField;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Click-to-render latency of the real windows of the game, without a display. The JavaFX platform
+ * is started with the headless Monocle backend and software rendering, the FXML views are the ones
+ * of the application, and the player is scripted: each round types a secret word and clicks "Jugar",
+ * guesses several letters, asks for a hint, misses a letter and goes back to the first window.
+ * Every click is measured from the moment the button fires until the next pulse has laid out the
+ * scene that shows the result, which is the moment the frame is rendered.
+ * <p>
+ * Besides the clicks it measures the time from the start of the JVM to the first frame, in this JVM
+ * and in {@code --forks} fresh JVMs, and the time to switch windows. The percentiles are written as
+ * JSON to {@code ui-latency.json} (or {@code --result}) so runs on a plain Linux machine can be compared.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar com.example.eclipsado.benchmark.UiLatencyBenchmark
+ * [--warmup=20] [--iterations=200] [--forks=5] [--result=ui-latency.json]}
+ * @author Brandon Fernandez
+ */
+public final class UiLatencyBenchmark {
+
+    private static final String DEFAULT_RESULT_FILE = "ui-latency.json"; // Fichero de resultados por defecto
+    private static final String STARTUP_ONLY = "--startup-only"; // Opción de las JVM hijas: solo miden el arranque
+    private static final String STARTUP_PREFIX = "STARTUP "; // Línea con la que una JVM hija informa de su arranque
+    private static final long PULSE_TIMEOUT_SECONDS = 10; // Espera máxima a que se dibuje un fotograma
+    private static final String SECRET_WORD = "murciélago"; // Diez letras distintas: la ronda nunca se gana
+    private static final String LETTERS = "mrcielg"; // Letras acertadas en cada ronda (quedan u, a y o)
+    private static final String MISSED_LETTER = "z"; // Letra fallada en cada ronda (no se pierde: sobran intentos)
+
+    private final Map<String, Histogram> results = new LinkedHashMap<>(); // Latencias de cada acción
+    private boolean measuring; // false durante el calentamiento
+
+    /**
+     * Private constructor; the benchmark is run from {@link #main(String[])}.
+     */
+    private UiLatencyBenchmark() {}
+
+    /**
+     * Runs the benchmark and exits, with status 1 if it fails.
+     * @param args The options, in the form {@code --name=value}.
+     */
+    public static void main(String[] args) {
+        int status = 0;
+        try {
+            configureHeadless();
+            if (args.length == 1 && args[0].equals(STARTUP_ONLY)) {
+                System.out.println(STARTUP_PREFIX + startPlatform()); // La JVM padre lee esta línea
+            } else {
+                status = run(args);
+            }
+        } catch (Exception e) {
+            e.printStackTrace();
+            status = 1;
+        }
+        Platform.exit();
+        System.exit(status); // Los hilos de las notificaciones y del temporizador no deben retrasar la salida
+    }
+
+    /**
+     * Measures the startup and the scripted rounds, and writes the results.
+     * @param args The options, in the form {@code --name=value}.
+     * @return The exit status: 0, or 2 if an option is not valid.
+     * @throws Exception If the platform cannot start or a frame is not rendered in time.
+     */
+    private static int run(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                System.err.println("Opción no válida: " + arg);
+                return 2;
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+
+        UiLatencyBenchmark benchmark = new UiLatencyBenchmark();
+        benchmark.histogram("startup").record(startPlatform());
+        benchmark.play(Integer.parseInt(options.getOrDefault("warmup", "20")),
+                Integer.parseInt(options.getOrDefault("iterations", "200")));
+        for (long startup : forkStartups(Integer.parseInt(options.getOrDefault("forks", "5")))) {
+            benchmark.histogram("startup").record(startup);
+        }
+
+        Path result = Path.of(options.getOrDefault("result", DEFAULT_RESULT_FILE));
+        Files.writeString(result, benchmark.toJson(), StandardCharsets.UTF_8);
+        System.out.print(benchmark.toText());
+        System.out.println("Resultados en " + result.toAbsolutePath());
+        return 0;
+    }
+
+    /**
+     * Selects the headless Monocle backend and software rendering unless other values were given,
+     * and isolates the files of the game (journal and statistics) in a temporary home directory.
+     * @throws IOException If the temporary directory cannot be created.
+     */
+    private static void configureHeadless() throws IOException {
+        setDefault("glass.platform", "Monocle");
+        setDefault("monocle.platform", "Headless");
+        setDefault("prism.order", "sw");
+        // Las bibliotecas nativas se siguen extrayendo en la caché de siempre, no en cada ejecución
+        setDefault("javafx.cachedir", Path.of(System.getProperty("user.home"), ".openjfx", "cache").toString());
+        // Las rondas no terminan: sin esto se reanudaría una de ellas al arrancar la aplicación real
+        System.setProperty("user.home", Files.createTempDirectory("eclipsado-ui-").toString());
+    }
+
+    /**
+     * Sets a system property if it has no value.
+     * @param key   The property.
+     * @param value The default value.
+     */
+    private static void setDefault(String key, String value) {
+        if (System.getProperty(key) == null) {
+            System.setProperty(key, value);
+        }
+    }
+
+    /**
+     * Starts the platform and shows the first window, as {@code Main} does.
+     * @return The nanoseconds from the start of the JVM to the first frame of the window.
+     * @throws Exception If the window cannot be shown, for example because a native library of JavaFX
+     *                   cannot be loaded, or its first frame is not rendered in time.
+     */
+    private static long startPlatform() throws Exception {
+        long jvmStart = System.nanoTime() - TimeUnit.MILLISECONDS.toNanos(ManagementFactory.getRuntimeMXBean().getUptime());
+        CompletableFuture<Long> firstFrame = new CompletableFuture<>();
+        Platform.startup(() -> {
+            try {
+                StageManager.getInstance().preload();
+                Scene scene = FirstStage.getInstance().getScene();
+                onNextPulse(scene, () -> firstFrame.complete(System.nanoTime() - jvmStart));
+            } catch (IOException | RuntimeException | LinkageError e) {
+                // Sin las bibliotecas de texto del sistema (Pango) falla al crear la escena: se avisa sin esperar
+                firstFrame.completeExceptionally(e);
+            }
+        });
+        return firstFrame.get(PULSE_TIMEOUT_SECONDS * 3, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Plays the scripted rounds.
+     * @param warmup     The rounds played before measuring.
+     * @param iterations The rounds measured.
+     * @throws Exception If a frame is not rendered in time.
+     */
+    private void play(int warmup, int iterations) throws Exception {
+        StageManager manager = StageManager.getInstance();
+        Parent first = manager.getFirstRoot();
+        Parent second = manager.getSecondRoot();
+        for (int round = 0; round < warmup + iterations; round++) {
+            measuring = round >= warmup;
+            type(first, "#SecretWord", SECRET_WORD);
+            measure("play", second, () -> button(first, "#PlayButton").fire()); // Cambia a la segunda ventana
+            for (int i = 0; i < LETTERS.length(); i++) {
+                type(second, "#DiscoverSecretWord", String.valueOf(LETTERS.charAt(i)));
+                measure("try", second, () -> button(second, "#TryButton").fire());
+            }
+            measure("help", second, () -> button(second, "#HelpButton").fire());
+            type(second, "#DiscoverSecretWord", MISSED_LETTER);
+            measure("try.miss", second, () -> button(second, "#TryButton").fire()); // Avanza el eclipse
+            measure("switch", first, () -> {
+                try {
+                    manager.showFirstStage();
+                } catch (IOException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        }
+    }
+
+    /**
+     * Runs an action on the JavaFX thread and measures the time until the next pulse lays out the scene of a view.
+     * @param name   The name of the measurement.
+     * @param view   The root of the view that shows the result.
+     * @param action The action, for example firing a button.
+     * @throws Exception If the frame is not rendered in time.
+     */
+    private void measure(String name, Parent view, Runnable action) throws Exception {
+        CompletableFuture<Long> latency = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            long start = System.nanoTime();
+            try {
+                action.run();
+                // La escena se busca después de la acción: al cambiar de ventana puede crearse en ella
+                onNextPulse(view.getScene(), () -> latency.complete(System.nanoTime() - start));
+                Platform.requestNextPulse(); // Garantiza un pulso aunque la acción no cambie nada visible
+            } catch (RuntimeException | LinkageError e) {
+                latency.completeExceptionally(e);
+            }
+        });
+        long nanos = latency.get(PULSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        if (measuring) {
+            histogram(name).record(nanos);
+        }
+    }
+
+    /**
+     * Types a text in a text field of a view, on the JavaFX thread.
+     * @param view     The root of the view.
+     * @param selector The selector of the text field.
+     * @param text     The text.
+     * @throws Exception If the JavaFX thread does not run the action.
+     */
+    private static void type(Parent view, String selector, String text) throws Exception {
+        CompletableFuture<Void> typed = new CompletableFuture<>();
+        Platform.runLater(() -> {
+            ((TextField) lookup(view, selector)).setText(text);
+            typed.complete(null);
+        });
+        typed.get(PULSE_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Finds a button of a view.
+     * @param view     The root of the view.
+     * @param selector The selector of the button.
+     * @return The button.
+     */
+    private static Button button(Parent view, String selector) {
+        return (Button) lookup(view, selector);
+    }
+
+    /**
+     * Finds a node of a view.
+     * @param view     The root of the view.
+     * @param selector The selector of the node, such as {@code #PlayButton}.
+     * @return The node.
+     * @throws IllegalStateException If the view has no such node.
+     */
+    private static Node lookup(Parent view, String selector) {
+        Node node = view.lookup(selector);
+        if (node == null) {
+            throw new IllegalStateException("La vista no contiene " + selector);
+        }
+        return node;
+    }
+
+    /**
+     * Runs a task once, after the next pulse lays out a scene.
+     * @param scene The scene.
+     * @param task  The task.
+     */
+    private static void onNextPulse(Scene scene, Runnable task) {
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]); // Solo se mide el siguiente fotograma
+            task.run();
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    /**
+     * Measures the startup in fresh JVMs, with the same classpath and JVM options as this one.
+     * @param forks The number of JVMs.
+     * @return The nanoseconds from the start of each JVM to its first frame.
+     * @throws IOException          If a JVM cannot be started.
+     * @throws InterruptedException If the thread is interrupted while waiting for a JVM.
+     */
+    private static List<Long> forkStartups(int forks) throws IOException, InterruptedException {
+        List<Long> startups = new ArrayList<>(forks);
+        String java = ProcessHandle.current().info().command().orElse("java");
+        for (int fork = 0; fork < forks; fork++) {
+            List<String> command = new ArrayList<>();
+            command.add(java);
+            command.addAll(ManagementFactory.getRuntimeMXBean().getInputArguments());
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add(UiLatencyBenchmark.class.getName());
+            command.add(STARTUP_ONLY);
+            Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.INHERIT).start();
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.startsWith(STARTUP_PREFIX)) {
+                        startups.add(Long.parseLong(line.substring(STARTUP_PREFIX.length())));
+                    }
+                }
+            }
+            process.waitFor();
+        }
+        return startups;
+    }
+
+    /**
+     * Gets the histogram of a measurement, creating it the first time.
+     * @param name The name of the measurement.
+     * @return The histogram.
+     */
+    private Histogram histogram(String name) {
+        return results.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * Formats the results as JSON, with the percentiles in nanoseconds.
+     * @return The JSON document.
+     */
+    private String toJson() {
+        StringBuilder json = new StringBuilder("{\n");
+        int remaining = results.size();
+        for (Map.Entry<String, Histogram> entry : results.entrySet()) {
+            Histogram histogram = entry.getValue();
+            json.append("  \"").append(entry.getKey()).append("\": {\"count\": ").append(histogram.getCount())
+                    .append(", \"p50\": ").append(histogram.percentile(50))
+                    .append(", \"p90\": ").append(histogram.percentile(90))
+                    .append(", \"p99\": ").append(histogram.percentile(99))
+                    .append(", \"max\": ").append(histogram.getMax()).append('}')
+                    .append(--remaining > 0 ? ",\n" : "\n");
+        }
+        return json.append("}\n").toString();
+    }
+
+    /**
+     * Formats the results as a table, with the percentiles in milliseconds.
+     * @return The table.
+     */
+    private String toText() {
+        StringBuilder text = new StringBuilder(String.format("%-10s %7s %9s %9s %9s %9s%n", "acción", "n", "p50 ms",
+                "p90 ms", "p99 ms", "máx ms"));
+        for (Map.Entry<String, Histogram> entry : results.entrySet()) {
+            Histogram histogram = entry.getValue();
+            text.append(String.format("%-10s %7d %9.2f %9.2f %9.2f %9.2f%n", entry.getKey(), histogram.getCount(),
+                    histogram.percentile(50) / 1e6, histogram.percentile(90) / 1e6, histogram.percentile(99) / 1e6,
+                    histogram.getMax() / 1e6));
+        }
+        return text.toString();
+    }
+}
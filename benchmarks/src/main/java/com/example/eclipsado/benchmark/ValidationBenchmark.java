@@ -0,0 +1,51 @@
+package com.example.eclipsado.benchmark;
+
+import com.example.eclipsado.model.GameModel;
+import com.example.eclipsado.model.SpanishAlphabet;
+import com.example.eclipsado.model.ValidationResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the input validation done by the controllers: the secret word check in
+ * FirstStageController.OnPlayButtonClick and the letter check in SecondStageController.OnTryButtonClick.
+ * The original regular expressions are compared with the lookup tables of {@link SpanishAlphabet}.
+ * @author Brandon Fernandez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidationBenchmark {
+
+    @Benchmark
+    public boolean secretWordRegex(WordState state) {
+        String secretWord = state.upperCaseWord;
+        return secretWord.length() >= 6 && secretWord.length() <= 12
+                && secretWord.matches("[a-zA-ZñÑáéíóúÁÉÍÓÚ]+");
+    }
+
+    @Benchmark
+    public boolean letterRegex(WordState state) {
+        String input = state.letterInput.trim().toLowerCase();
+        return input.matches("[a-záéíóúñ]") && input.length() == 1;
+    }
+
+    @Benchmark
+    public ValidationResult secretWordTable(WordState state) {
+        return SpanishAlphabet.validateWord(state.upperCaseWord, GameModel.MIN_WORD_LENGTH, GameModel.MAX_WORD_LENGTH);
+    }
+
+    @Benchmark
+    public ValidationResult letterTable(WordState state) {
+        return SpanishAlphabet.validateLetter(state.letterInput);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.eclipsado.benchmark;
+
+import java.util.SplittableRandom;
+
+/**
+ * Generates reproducible pseudo-Spanish words for the benchmarks.
+ * @author Brandon Fernandez
+ */
+final class WordGenerator {
+
+    private static final String LETTERS = "abcdefghijklmnñopqrstuvwxyz"; // Letras sin acento
+    private static final String ACCENTED = "áéíóú"; // Vocales con acento
+
+    private WordGenerator() {}
+
+    /**
+     * Generates a word.
+     * @param length        The number of letters.
+     * @param accentDensity The probability (0-1) that each letter is an accented vowel.
+     * @param seed          The seed, so every fork benchmarks the same words.
+     * @return The generated word, in lower case.
+     */
+    static String generate(int length, double accentDensity, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        char[] word = new char[length];
+        for (int i = 0; i < length; i++) {
+            word[i] = random.nextDouble() < accentDensity
+                    ? ACCENTED.charAt(random.nextInt(ACCENTED.length()))
+                    : LETTERS.charAt(random.nextInt(LETTERS.length()));
+        }
+        return new String(word);
+    }
+
+    /**
+     * Builds the guess sequence of a game: every letter of the word, in order,
+     * interleaved with a few letters that are not in the word.
+     * @param word The secret word.
+     * @return The letters to guess.
+     */
+    static char[] guessSequence(String word) {
+        StringBuilder sequence = new StringBuilder();
+        int misses = 0;
+        for (int i = 0; i < word.length(); i++) {
+            sequence.append(word.charAt(i));
+            if (misses < 3) {
+                for (int j = 0; j < LETTERS.length(); j++) {
+                    char miss = LETTERS.charAt(LETTERS.length() - 1 - j);
+                    if (word.indexOf(miss) < 0 && sequence.indexOf(String.valueOf(miss)) < 0) {
+                        sequence.append(miss); // Letra que no está en la palabra
+                        misses++;
+                        break;
+                    }
+                }
+            }
+        }
+        return sequence.toString().toCharArray();
+    }
+}
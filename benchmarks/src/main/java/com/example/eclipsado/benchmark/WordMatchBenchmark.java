@@ -0,0 +1,80 @@
+package com.example.eclipsado.benchmark;
+
+import com.example.eclipsado.model.LetterIndex;
+import com.example.eclipsado.model.WordMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the feedback of a whole-word guess: the edit distance computed with the textbook
+ * dynamic programming table against the bit-parallel {@link WordMatcher}, which reuses the
+ * position masks of the {@link LetterIndex} and does not allocate.
+ * @author Brandon Fernandez
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WordMatchBenchmark {
+
+    /**
+     * Secret word and a guess that differs from it in a few letters.
+     */
+    @State(Scope.Benchmark)
+    public static class AttemptState {
+        LetterIndex index; // Índice de la palabra secreta
+        String attempt; // Palabra intentada
+
+        @Setup
+        public void setup(WordState word) {
+            index = new LetterIndex(word.word);
+            char[] letters = word.word.toCharArray();
+            letters[0] = letters[0] == 'z' ? 'y' : 'z'; // Una sustitución
+            attempt = new String(letters, 0, letters.length - 1) + "ae"; // Una eliminación y una inserción
+        }
+    }
+
+    @Benchmark
+    public int dynamicProgramming(AttemptState state) {
+        String secret = state.index.getWord();
+        String attempt = state.attempt;
+        int[] previous = new int[attempt.length() + 1];
+        int[] current = new int[attempt.length() + 1];
+        for (int j = 0; j <= attempt.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= secret.length(); i++) {
+            current[0] = i;
+            int letter = LetterIndex.letterId(secret.charAt(i - 1));
+            for (int j = 1; j <= attempt.length(); j++) {
+                int cost = letter == LetterIndex.letterId(attempt.charAt(j - 1)) ? 0 : 1;
+                current[j] = Math.min(Math.min(previous[j] + 1, current[j - 1] + 1), previous[j - 1] + cost);
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[attempt.length()];
+    }
+
+    @Benchmark
+    public int bitParallel(AttemptState state) {
+        return WordMatcher.distance(state.index, state.attempt);
+    }
+
+    @Benchmark
+    public long matchingPositions(AttemptState state) {
+        return WordMatcher.matchingPositions(state.index, state.attempt);
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.eclipsado.benchmark;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Shared benchmark state: a secret word of a given length and accent density,
+ * plus the guesses used to play it.
+ * @author Brandon Fernandez
+ */
+@State(Scope.Benchmark)
+public class WordState {
+
+    @Param({"6", "9", "12"})
+    public int length;
+
+    @Param({"0.0", "0.3", "0.6"})
+    public double accentDensity;
+
+    String word; // Palabra secreta generada
+    char[] guesses; // Letras que se intentan en cada partida
+    String upperCaseWord; // Palabra como la escribiría el usuario en la primera ventana
+    String letterInput; // Letra como la escribiría el usuario en la segunda ventana
+
+    @Setup
+    public void setup() {
+        word = WordGenerator.generate(length, accentDensity, 42L);
+        guesses = WordGenerator.guessSequence(word);
+        upperCaseWord = word.toUpperCase();
+        letterInput = " " + Character.toUpperCase(word.charAt(length / 2)) + " ";
+    }
+}
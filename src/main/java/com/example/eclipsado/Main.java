@@ -1,6 +1,11 @@
 package com.example.eclipsado;
 
+import com.example.eclipsado.metrics.MetricsExporter;
+import com.example.eclipsado.model.GameModel;
+import com.example.eclipsado.model.GameRules;
+import com.example.eclipsado.model.WordDictionary;
 import com.example.eclipsado.view.FirstStage;
+import com.example.eclipsado.view.StageManager;
 import javafx.application.Application;
 import javafx.stage.Stage;
 import java.io.IOException;
@@ -27,6 +32,22 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage primaryStage) throws IOException {
-        FirstStage.getInstance(); // Carga y muestra la primera ventana (FirstStage)
+        MetricsExporter.startFromSystemProperties(); // Solo si se configuró -Declipsado.metrics.file
+        GameModel.getInstance().setRules(GameRules.loadFromSystemProperties()); // Se compilan una vez al arrancar
+        GameModel.getInstance().setDictionary(WordDictionary.openFromSystemProperties()); // Solo proyecta el fichero
+        // Carga en segundo plano ambas escenas, el icono y las estadísticas
+        StageManager.getInstance().preload();
+        // Si la aplicación se cerró con una partida a medias, se reanuda directamente
+        if (!StageManager.getInstance().resumeSavedGame()) {
+            FirstStage.getInstance(); // Carga y muestra la primera ventana (FirstStage)
+        }
+    }
+
+    /**
+     * Stop method that saves the pending moves of the current game before the application exits.
+     */
+    @Override
+    public void stop() {
+        StageManager.getInstance().closeJournal();
     }
 }
@@ -1,5 +1,8 @@
 package com.example.eclipsado.alert;
 
+import com.example.eclipsado.metrics.AlertEvent;
+import com.example.eclipsado.metrics.MetricsRegistry;
+import com.example.eclipsado.metrics.Timer;
 import javafx.scene.control.Alert;
 
 /**
@@ -9,6 +12,8 @@ import javafx.scene.control.Alert;
  */
 public class AlertManagerLogic implements AlertManagerInterface {
 
+    private static final Timer BLOCKING_TIMER = MetricsRegistry.getInstance().timer("ui.alert.blocking"); // Tiempo que bloquea cada alerta
+
     /**
      * Displays an informational alert with a custom title and message.
      * @param title   The title of the informational alert.
@@ -20,7 +25,7 @@ public class AlertManagerLogic implements AlertManagerInterface {
         alert.setTitle(title); // Establecer el título de la alerta
         alert.setHeaderText(null); // Elimina el encabezado
         alert.setContentText(message); // Establecer el mensaje de la alerta
-        alert.showAndWait(); // Mostrar la alerta y esperar a que el usuario la cierre
+        showAndWait(alert); // Mostrar la alerta y esperar a que el usuario la cierre
     }
 
     /**
@@ -34,7 +39,7 @@ public class AlertManagerLogic implements AlertManagerInterface {
         alert.setTitle(title); // Establecer el título de la alerta
         alert.setHeaderText(null); // Elimina el encabezado
         alert.setContentText(message); // Establecer el mensaje de la alerta
-        alert.showAndWait(); // Mostrar la alerta y esperar a que el usuario la cierre
+        showAndWait(alert); // Mostrar la alerta y esperar a que el usuario la cierre
     }
 
     /**
@@ -48,6 +53,24 @@ public class AlertManagerLogic implements AlertManagerInterface {
         alert.setTitle(title); // Establecer el título de la alerta
         alert.setHeaderText(null); // Elimina el encabezado
         alert.setContentText(message); // Establecer el mensaje de la alerta
-        alert.showAndWait(); // Mostrar la alerta y esperar a que el usuario la cierre
+        showAndWait(alert); // Mostrar la alerta y esperar a que el usuario la cierre
+    }
+
+    /**
+     * Shows an alert and waits for the user to close it, measuring how long the UI thread is blocked.
+     * @param alert The alert to show.
+     */
+    private static void showAndWait(Alert alert) {
+        AlertEvent event = new AlertEvent(); // Solo se registra si Flight Recorder está grabando
+        event.begin();
+        long start = BLOCKING_TIMER.start();
+        alert.showAndWait();
+        BLOCKING_TIMER.stop(start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.type = alert.getAlertType().name();
+            event.title = alert.getTitle();
+            event.commit();
+        }
     }
 }
@@ -0,0 +1,119 @@
+package com.example.eclipsado.alert;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * Implementation of the {@link AlertManagerInterface} that does not show anything on screen.
+ * It takes the same decisions as {@link ToastAlertManager} (repeated messages are merged and
+ * new ones are rate-limited) and records the notifications a player would have seen, so tests
+ * and batch runs can check which messages the game produced. It does not depend on JavaFX and is thread-safe.
+ * @author Brandon Fernandez
+ */
+public class HeadlessAlertManager implements AlertManagerInterface {
+
+    private final LongSupplier clock; // Reloj en nanosegundos
+    private final ToastQueue queue = new ToastQueue(); // Mismas decisiones que en pantalla
+    private final List<Notification> notifications = new ArrayList<>(); // Notificaciones registradas
+    private final int[] shownBy = new int[ToastQueue.POOL_SIZE]; // Posición en la lista de lo que muestra cada hueco
+
+    /**
+     * Creates the manager using the system clock.
+     */
+    public HeadlessAlertManager() {
+        this(System::nanoTime);
+    }
+
+    /**
+     * Creates the manager with a given clock, so a test can control the rate limit and the display time.
+     * @param clock The clock, in nanoseconds.
+     */
+    public HeadlessAlertManager(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    /**
+     * Records an informational alert.
+     * @param title   The title of the alert.
+     * @param message The message of the alert.
+     */
+    @Override
+    public void showInfoAlert(String title, String message) {
+        record(NotificationLevel.INFO, title, message);
+    }
+
+    /**
+     * Records a warning alert.
+     * @param title   The title of the alert.
+     * @param message The message of the alert.
+     */
+    @Override
+    public void showWarningAlert(String title, String message) {
+        record(NotificationLevel.WARNING, title, message);
+    }
+
+    /**
+     * Records an error alert.
+     * @param title   The title of the alert.
+     * @param message The message of the alert.
+     */
+    @Override
+    public void showErrorAlert(String title, String message) {
+        record(NotificationLevel.ERROR, title, message);
+    }
+
+    /**
+     * Returns a copy of the notifications recorded so far, in the order they were shown.
+     * @return The recorded notifications.
+     */
+    public synchronized List<Notification> getNotifications() {
+        return new ArrayList<>(notifications);
+    }
+
+    /**
+     * Returns the last notification recorded.
+     * @return The last notification, or null if nothing has been recorded.
+     */
+    public synchronized Notification getLastNotification() {
+        return notifications.isEmpty() ? null : notifications.get(notifications.size() - 1);
+    }
+
+    /**
+     * Returns how many notifications were discarded because they exceeded the rate limit.
+     * @return The number of discarded notifications.
+     */
+    public synchronized int getDroppedCount() {
+        return queue.getDroppedCount();
+    }
+
+    /**
+     * Removes every recorded notification.
+     */
+    public synchronized void clear() {
+        notifications.clear();
+        for (int i = 0; i < shownBy.length; i++) {
+            queue.expire(i); // Lo que se repita después se registra como nuevo
+        }
+    }
+
+    /**
+     * Stores a notification, or increases the counter of the visible one with the same message.
+     * @param level   The severity.
+     * @param title   The title.
+     * @param message The message.
+     */
+    private synchronized void record(NotificationLevel level, String title, String message) {
+        ToastQueue.Decision decision = queue.offer(level, title, message, clock.getAsLong());
+        switch (decision.outcome()) {
+            case SHOWN -> {
+                shownBy[decision.slot()] = notifications.size();
+                notifications.add(new Notification(level, title, message, 1));
+            }
+            case MERGED -> notifications.set(shownBy[decision.slot()], new Notification(level, title, message, decision.count()));
+            case DROPPED -> {
+                // El limitador la descarta, igual que en pantalla
+            }
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.eclipsado.alert;
+
+/**
+ * A notification recorded by {@link HeadlessAlertManager}.
+ * @param level   The severity of the notification.
+ * @param title   The title of the notification.
+ * @param message The message of the notification.
+ * @param count   How many times the message was shown while it was visible; repetitions are merged into one notification.
+ * @author Brandon Fernandez
+ */
+public record Notification(NotificationLevel level, String title, String message, int count) {
+}
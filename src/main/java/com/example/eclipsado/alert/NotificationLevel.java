@@ -0,0 +1,14 @@
+package com.example.eclipsado.alert;
+
+/**
+ * Severity of a notification, equivalent to the three kinds of alerts of {@link AlertManagerInterface}.
+ * @author Brandon Fernandez
+ */
+public enum NotificationLevel {
+    /** Informational message. */
+    INFO,
+    /** Warning message. */
+    WARNING,
+    /** Error message. */
+    ERROR
+}
@@ -0,0 +1,199 @@
+package com.example.eclipsado.alert;
+
+import javafx.animation.PauseTransition;
+import javafx.application.Platform;
+import javafx.geometry.Pos;
+import javafx.scene.Node;
+import javafx.scene.control.Label;
+import javafx.scene.layout.VBox;
+import javafx.scene.text.Font;
+import javafx.stage.Popup;
+import javafx.stage.Window;
+import javafx.util.Duration;
+
+/**
+ * Implementation of the {@link AlertManagerInterface} that shows non-blocking "toast" notifications
+ * at the bottom of the window instead of modal dialogs, so the game keeps accepting input.
+ * The toasts are a fixed pool of labels that are reused, bursts of the same message are merged
+ * into one toast with a counter, and new toasts are rate-limited; those decisions are taken by a
+ * {@link ToastQueue}. It never blocks the calling thread: calls from outside the JavaFX thread are forwarded to it.
+ * @author Brandon Fernandez
+ */
+public class ToastAlertManager implements AlertManagerInterface {
+
+    private static final Duration DISPLAY_TIME = Duration.millis(ToastQueue.DISPLAY_NANOS / 1_000_000.0); // Tiempo que se muestra cada notificación
+    private static final double BOTTOM_MARGIN = 30.0; // Separación respecto al borde inferior de la ventana
+
+    private final Node anchor; // Nodo de la escena cuya ventana muestra las notificaciones
+    private final VBox container = new VBox(6.0); // Contenedor de las notificaciones
+    private final Toast[] toasts = new Toast[ToastQueue.POOL_SIZE]; // Notificaciones reutilizables
+    private final ToastQueue queue = new ToastQueue(); // Decide qué se muestra
+    private Popup popup; // Capa que se dibuja sobre la ventana (se crea en el hilo de JavaFX al primer uso)
+
+    /**
+     * Creates the toast manager.
+     * @param anchor A node of the scene where the notifications are shown.
+     */
+    public ToastAlertManager(Node anchor) {
+        this.anchor = anchor;
+        container.setAlignment(Pos.CENTER);
+        container.setMouseTransparent(true); // No interfiere con los clics del jugador
+        for (int i = 0; i < ToastQueue.POOL_SIZE; i++) {
+            toasts[i] = new Toast(i);
+            container.getChildren().add(toasts[i].label);
+        }
+    }
+
+    /**
+     * Shows an informational toast.
+     * @param title   The title of the notification.
+     * @param message The message of the notification.
+     */
+    @Override
+    public void showInfoAlert(String title, String message) {
+        show(NotificationLevel.INFO, title, message);
+    }
+
+    /**
+     * Shows a warning toast.
+     * @param title   The title of the notification.
+     * @param message The message of the notification.
+     */
+    @Override
+    public void showWarningAlert(String title, String message) {
+        show(NotificationLevel.WARNING, title, message);
+    }
+
+    /**
+     * Shows an error toast.
+     * @param title   The title of the notification.
+     * @param message The message of the notification.
+     */
+    @Override
+    public void showErrorAlert(String title, String message) {
+        show(NotificationLevel.ERROR, title, message);
+    }
+
+    /**
+     * Returns how many notifications were discarded because they exceeded the rate limit.
+     * @return The number of discarded notifications.
+     */
+    public int getDroppedCount() {
+        return queue.getDroppedCount();
+    }
+
+    /**
+     * Shows a notification, merging it with an identical visible one if there is any.
+     * @param level   The severity.
+     * @param title   The title.
+     * @param message The message.
+     */
+    private void show(NotificationLevel level, String title, String message) {
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> show(level, title, message)); // Nunca bloquea al hilo que llama
+            return;
+        }
+
+        ToastQueue.Decision decision = queue.offer(level, title, message, System.nanoTime());
+        switch (decision.outcome()) {
+            case DROPPED -> {
+                return;
+            }
+            case MERGED -> {
+                toasts[decision.slot()].repeat();
+                return;
+            }
+            case SHOWN -> {
+                Toast toast = toasts[decision.slot()];
+                toast.show(level);
+                container.getChildren().remove(toast.label); // La más reciente se muestra al final
+                container.getChildren().add(toast.label);
+            }
+        }
+        showPopup();
+    }
+
+    /**
+     * Shows the popup over the window of the anchor node, centered at the bottom.
+     */
+    private void showPopup() {
+        if (anchor.getScene() == null || anchor.getScene().getWindow() == null) {
+            return; // La ventana todavía no existe
+        }
+        Window window = anchor.getScene().getWindow();
+        if (popup == null) {
+            popup = new Popup();
+            popup.getContent().add(container);
+            popup.setAutoFix(true);
+        }
+        if (!popup.isShowing()) {
+            popup.show(window);
+        }
+        container.applyCss();
+        container.layout();
+        popup.setX(window.getX() + (window.getWidth() - container.prefWidth(-1)) / 2);
+        popup.setY(window.getY() + window.getHeight() - container.prefHeight(-1) - BOTTOM_MARGIN);
+    }
+
+    /**
+     * Hides the popup when no toast is visible anymore.
+     */
+    private void hidePopupIfEmpty() {
+        if (popup != null && queue.isEmpty(System.nanoTime())) {
+            popup.hide();
+        }
+    }
+
+    /**
+     * A reusable notification: one label and the timer that hides it.
+     */
+    private class Toast {
+        private final int slot; // Posición en la cola de notificaciones
+        private final Label label = new Label(); // Texto de la notificación
+        private final PauseTransition timer = new PauseTransition(DISPLAY_TIME); // Temporizador para ocultarla
+
+        private Toast(int slot) {
+            this.slot = slot;
+            label.setFont(new Font("Georgia", 16.0));
+            label.setWrapText(true);
+            label.setMaxWidth(340.0);
+            label.setVisible(false);
+            label.setManaged(false);
+            timer.setOnFinished(event -> hide());
+        }
+
+        private void show(NotificationLevel level) {
+            label.setStyle("-fx-background-color: Black; -fx-text-fill: White; -fx-padding: 8 14 8 14; "
+                    + "-fx-border-color: " + borderColor(level) + ";");
+            label.setText(queue.text(slot));
+            label.setVisible(true);
+            label.setManaged(true);
+            timer.playFromStart();
+        }
+
+        private void repeat() {
+            label.setText(queue.text(slot));
+            timer.playFromStart(); // Reinicia el tiempo de visualización
+        }
+
+        private void hide() {
+            queue.expire(slot);
+            label.setVisible(false);
+            label.setManaged(false);
+            hidePopupIfEmpty();
+        }
+    }
+
+    /**
+     * Returns the border color used for each severity.
+     * @param level The severity.
+     * @return The CSS color.
+     */
+    private static String borderColor(NotificationLevel level) {
+        return switch (level) {
+            case INFO -> "White";
+            case WARNING -> "Orange";
+            case ERROR -> "Red";
+        };
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.eclipsado.alert;
+
+/**
+ * The decisions behind the toast notifications, without any JavaFX dependency: which slot of the
+ * fixed pool shows each notification, when a burst of the same message is merged into the visible
+ * one with a counter, and when a new notification is dropped by the rate limit.
+ * The time is always given by the caller. It is not thread-safe.
+ * @author Brandon Fernandez
+ */
+final class ToastQueue {
+
+    /**
+     * What happened to an offered notification.
+     */
+    enum Outcome {
+        /** It was placed in a slot of the pool. */
+        SHOWN,
+        /** It was merged with an identical visible notification. */
+        MERGED,
+        /** It exceeded the rate limit and was discarded. */
+        DROPPED
+    }
+
+    /**
+     * The decision taken for an offered notification.
+     * @param outcome What happened to it.
+     * @param slot    The slot that shows it, or -1 if it was dropped.
+     * @param count   How many times the slot has shown the same message.
+     */
+    record Decision(Outcome outcome, int slot, int count) {
+    }
+
+    static final int POOL_SIZE = 3; // Número máximo de notificaciones visibles a la vez
+    static final long DISPLAY_NANOS = 2_500_000_000L; // Tiempo que se muestra cada notificación (2,5 s)
+    static final long RATE_WINDOW_NANOS = 1_000_000_000L; // Ventana para limitar la frecuencia (1 s)
+    static final int MAX_TOASTS_PER_WINDOW = 4; // Notificaciones nuevas permitidas por ventana
+
+    private final long displayNanos; // Tiempo que se muestra cada notificación
+    private final long windowNanos; // Ventana para limitar la frecuencia
+    private final int maxPerWindow; // Notificaciones nuevas permitidas por ventana
+    private final Slot[] slots; // Notificaciones del conjunto reutilizable
+    private long windowStart; // Inicio de la ventana de limitación actual
+    private boolean windowOpen; // Indica si ya se abrió alguna ventana
+    private int shownInWindow; // Notificaciones nuevas mostradas en la ventana actual
+    private int droppedCount; // Notificaciones descartadas por el limitador
+
+    /**
+     * Creates the queue used by the toast notifications: three visible at once, 2.5 seconds each,
+     * and at most four new ones per second.
+     */
+    ToastQueue() {
+        this(POOL_SIZE, DISPLAY_NANOS, RATE_WINDOW_NANOS, MAX_TOASTS_PER_WINDOW);
+    }
+
+    /**
+     * Creates the queue.
+     * @param size         The number of notifications that can be visible at once.
+     * @param displayNanos How long each notification stays visible after its last repetition.
+     * @param windowNanos  The length of the rate-limit window.
+     * @param maxPerWindow The new notifications allowed in each window.
+     */
+    ToastQueue(int size, long displayNanos, long windowNanos, int maxPerWindow) {
+        if (size < 1 || maxPerWindow < 1 || displayNanos <= 0 || windowNanos <= 0) {
+            throw new IllegalArgumentException("Configuración de notificaciones inválida.");
+        }
+        this.displayNanos = displayNanos;
+        this.windowNanos = windowNanos;
+        this.maxPerWindow = maxPerWindow;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++) {
+            slots[i] = new Slot();
+        }
+    }
+
+    /**
+     * Decides how to show a notification.
+     * @param level   The severity.
+     * @param title   The title.
+     * @param message The message.
+     * @param now     The current time, in nanoseconds.
+     * @return The decision.
+     */
+    Decision offer(NotificationLevel level, String title, String message, long now) {
+        // Agrupa los mensajes repetidos en la misma notificación
+        for (int i = 0; i < slots.length; i++) {
+            Slot slot = slots[i];
+            if (slot.isShowing(now) && slot.level == level && slot.title.equals(title) && slot.message.equals(message)) {
+                slot.count++;
+                slot.hideAt = now + displayNanos; // Reinicia el tiempo de visualización
+                return new Decision(Outcome.MERGED, i, slot.count);
+            }
+        }
+
+        // Limita la cantidad de notificaciones nuevas por ventana
+        if (!windowOpen || now - windowStart >= windowNanos) {
+            windowOpen = true;
+            windowStart = now;
+            shownInWindow = 0;
+        }
+        if (shownInWindow >= maxPerWindow) {
+            droppedCount++;
+            return new Decision(Outcome.DROPPED, -1, 0);
+        }
+        shownInWindow++;
+
+        int index = freeOrOldest(now);
+        Slot slot = slots[index];
+        slot.level = level;
+        slot.title = title;
+        slot.message = message;
+        slot.count = 1;
+        slot.shownAt = now;
+        slot.hideAt = now + displayNanos;
+        slot.visible = true;
+        return new Decision(Outcome.SHOWN, index, 1);
+    }
+
+    /**
+     * Marks a slot as hidden, for example when its timer finishes before the next offer.
+     * @param slot The slot.
+     */
+    void expire(int slot) {
+        slots[slot].visible = false;
+    }
+
+    /**
+     * Indicates whether no notification is visible anymore.
+     * @param now The current time, in nanoseconds.
+     * @return true if every slot is free.
+     */
+    boolean isEmpty(long now) {
+        for (Slot slot : slots) {
+            if (slot.isShowing(now)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the text shown by a slot, with the repetition counter when there is more than one.
+     * @param slot The slot.
+     * @return The text.
+     */
+    String text(int slot) {
+        Slot s = slots[slot];
+        String text = s.title + ": " + s.message;
+        return s.count > 1 ? text + " (x" + s.count + ")" : text;
+    }
+
+    /**
+     * Returns how many notifications were discarded because they exceeded the rate limit.
+     * @return The number of discarded notifications.
+     */
+    int getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * Finds a free slot, or the one that has been visible the longest.
+     * @param now The current time, in nanoseconds.
+     * @return The slot to reuse.
+     */
+    private int freeOrOldest(long now) {
+        int oldest = 0;
+        for (int i = 0; i < slots.length; i++) {
+            if (!slots[i].isShowing(now)) {
+                return i;
+            }
+            if (slots[i].shownAt < slots[oldest].shownAt) {
+                oldest = i;
+            }
+        }
+        return oldest;
+    }
+
+    /**
+     * The state of one notification of the pool.
+     */
+    private static final class Slot {
+        private NotificationLevel level; // Severidad mostrada
+        private String title; // Título mostrado
+        private String message; // Mensaje mostrado
+        private int count; // Veces que se ha repetido el mensaje
+        private long shownAt; // Momento en que se mostró
+        private long hideAt; // Momento en que se oculta si no se repite
+        private boolean visible; // Indica si la notificación está en pantalla
+
+        private boolean isShowing(long now) {
+            return visible && now - hideAt < 0;
+        }
+    }
+}
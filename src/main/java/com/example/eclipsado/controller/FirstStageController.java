@@ -1,20 +1,26 @@
 package com.example.eclipsado.controller;
 
 import com.example.eclipsado.alert.AlertManagerInterface;
-import com.example.eclipsado.alert.AlertManagerLogic;
+import com.example.eclipsado.alert.ToastAlertManager;
+import com.example.eclipsado.model.Alphabet;
+import com.example.eclipsado.model.Difficulty;
 import com.example.eclipsado.model.GameModel;
-import com.example.eclipsado.view.FirstStage;
-import com.example.eclipsado.view.SecondStage;
+import com.example.eclipsado.model.GameRules;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.view.StageManager;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
 
 import java.io.IOException;
+import java.util.random.RandomGenerator;
 
 /**
  * The controller for the first stage of the game. Allows the user to input the secret word and validates it.
- * If the word is valid, this window is closed and the second window is opened.
+ * If the word is valid, this window is closed and the second window is opened. If a word list was loaded,
+ * leaving the word empty plays a random word of the list instead.
+ * The view is loaded once and reused for every round.
  * @author Brandon Fernandez
  */
 public class FirstStageController {
@@ -26,7 +32,18 @@ public class FirstStageController {
     @FXML
     private TextField SecretWord; // Campo de texto donde el usuario ingresa la palabra secreta
 
-    private AlertManagerInterface AlertManager = new AlertManagerLogic(); // Instancia para gestionar alertas
+    private AlertManagerInterface AlertManager; // Notificaciones no bloqueantes sobre esta ventana
+
+    /**
+     * Controller initialization method. Creates the notifications shown over this window.
+     */
+    @FXML
+    public void initialize() {
+        AlertManager = new ToastAlertManager(SecretWord);
+        if (canDrawWord(GameModel.getInstance().getRules())) {
+            SecretWord.setPromptText("Vacía: palabra al azar");
+        }
+    }
 
     /**
      * Method that is executed when the user clicks the "Play" button.
@@ -38,28 +55,69 @@ public class FirstStageController {
     public void OnPlayButtonClick() throws IOException {
         // Obtiene la palabra secreta ingresada por el usuario
         String secretWord = SecretWord.getText();
-
-        // Valida que la palabra tenga entre 6 y 12 letras
-        if (secretWord.length() < 6 || secretWord.length() > 12) {
-            AlertManager.showWarningAlert("Entrada inválida", "La palabra debe tener entre 6 y 12 letras.");
-            SecretWord.clear();
+        GameRules rules = GameModel.getInstance().getRules();
+        if (secretWord.isBlank() && canDrawWord(rules)) {
+            playRandomWord(rules);
             return;
         }
 
-        // Valida que la palabra solo contenga letras del alfabeto español (incluye la ñ y vocales con acento)
-        if (!secretWord.matches("[a-zA-ZñÑáéíóúÁÉÍÓÚ]+")) {
-            AlertManager.showWarningAlert("Entrada inválida", "La palabra solo debe contener letras del alfabeto español.");
-            SecretWord.clear();
-            return;
+        // Valida que la longitud y las letras de la palabra estén permitidas por las reglas
+        switch (rules.validateWord(secretWord)) {
+            case TOO_SHORT, TOO_LONG -> {
+                AlertManager.showWarningAlert("Entrada inválida", "La palabra debe tener entre " + rules.getMinLength()
+                        + " y " + rules.getMaxLength() + " letras.");
+                SecretWord.clear();
+                return;
+            }
+            case INVALID_CHARACTER -> {
+                AlertManager.showWarningAlert("Entrada inválida", "La palabra solo debe contener letras permitidas del alfabeto "
+                        + rules.getAlphabet().getName() + ".");
+                SecretWord.clear();
+                return;
+            }
+            default -> { } // VALID
         }
 
         // Si la palabra es válida, se guarda en el modelo del juego
-        GameModel.getInstance().setSecretWord(secretWord);
-        // Cierra la primera ventana
-        FirstStage.getInstance().close();
-        // Abre la segunda ventana
-        SecondStage.getInstance().show();
+        // Une los acentos combinables (NFD) y las letras de varios caracteres en un carácter por letra
+        GameModel.getInstance().setSecretWord(rules.getAlphabet().compose(secretWord));
+        // Cierra la primera ventana y abre la segunda, que ya está precargada
+        StageManager.getInstance().showSecondStage();
     }
-}
 
+    /**
+     * Starts a round with a random word of the word list, of a length allowed by the rules and any difficulty.
+     * @param rules The rules of the game.
+     * @throws IOException If an error occurs while opening the second window.
+     */
+    private void playRandomWord(GameRules rules) throws IOException {
+        RandomGenerator random = GameSession.SHARED_RANDOM;
+        int length = rules.getMinLength() + random.nextInt(rules.getMaxLength() - rules.getMinLength() + 1);
+        Difficulty difficulty = Difficulty.values()[random.nextInt(Difficulty.values().length)];
+        try {
+            GameModel.getInstance().drawSecretWord(length, difficulty, random);
+        } catch (IllegalStateException e) {
+            AlertManager.showWarningAlert("Sin palabras", e.getMessage()); // La lista no tiene palabras de esa longitud
+            return;
+        }
+        StageManager.getInstance().showSecondStage();
+    }
 
+    /**
+     * Indicates whether a secret word can be drawn from the word list: there must be one, and the rules must
+     * accept any of its words (Spanish, with every letter allowed).
+     * @param rules The rules of the game.
+     * @return true if an empty word plays a random one.
+     */
+    private static boolean canDrawWord(GameRules rules) {
+        return GameModel.getInstance().getDictionary() != null && rules.getAlphabet() == Alphabet.SPANISH
+                && rules.getAllowedLetters() == Alphabet.SPANISH.getFullMask();
+    }
+
+    /**
+     * Prepares the window for a new round by clearing the previous secret word.
+     */
+    public void reset() {
+        SecretWord.clear();
+    }
+}
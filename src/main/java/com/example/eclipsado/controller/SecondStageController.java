@@ -2,22 +2,42 @@ package com.example.eclipsado.controller;
 
 import com.example.eclipsado.alert.AlertManagerInterface;
 import com.example.eclipsado.alert.AlertManagerLogic;
+import com.example.eclipsado.alert.ToastAlertManager;
+import com.example.eclipsado.journal.GameJournal;
+import com.example.eclipsado.metrics.Counter;
+import com.example.eclipsado.metrics.GuessEvent;
+import com.example.eclipsado.metrics.HintEvent;
+import com.example.eclipsado.metrics.MetricsRegistry;
+import com.example.eclipsado.metrics.Timer;
+import com.example.eclipsado.model.Alphabet;
+import com.example.eclipsado.model.CandidateIndex;
 import com.example.eclipsado.model.GameModel;
-import com.example.eclipsado.view.SecondStage;
+import com.example.eclipsado.model.GameRules;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.GuessResult;
+import com.example.eclipsado.model.HintResult;
+import com.example.eclipsado.model.ValidationResult;
+import com.example.eclipsado.model.WordDictionary;
+import com.example.eclipsado.stats.PlayerStatistics;
+import com.example.eclipsado.trace.TraceRecorder;
+import com.example.eclipsado.view.EclipseRenderer;
+import com.example.eclipsado.view.LetterRow;
+import com.example.eclipsado.view.StageManager;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
 import javafx.scene.control.TextField;
-import javafx.scene.image.Image;
-import javafx.scene.image.ImageView;
 
 import java.io.IOException;
-import java.util.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * The controller for the second stage of the game. Manages user interactions,
  * including letter validation, word discovery updates, and eclipse state updates.
+ * The game rules are delegated to a {@link GameSession}, so this class only updates the view.
  * @author Brandon Fernandez
  */
 public class SecondStageController {
@@ -25,219 +45,306 @@ public class SecondStageController {
     @FXML
     private Label InstructionTextTwo; // Instrucciones para el usuario en la segunda ventana
     @FXML
-    private TextField DiscoverSecretWord; // Campo de texto donde el usuario ingresa una letra
+    private TextField DiscoverSecretWord; // Campo de texto donde el usuario ingresa una letra o la palabra
     @FXML
-    private Label DiscoveredWord; // Label que muestra el progreso de la palabra descubierta
+    private LetterRow DiscoveredWord; // Fila de casillas que muestra el progreso de la palabra descubierta
     @FXML
-    private Button TryButton; // Botón para intentar adivinar la letra
+    private Button TryButton; // Botón para intentar adivinar la letra o la palabra
     @FXML
     private Button HelpButton; // Botón para pedir ayuda (revelar una letra aleatoria)
     @FXML
-    private ImageView EclipseImage; // ImageView que muestra el estado del eclipse
+    private EclipseRenderer EclipseImage; // Lienzo que dibuja el estado del eclipse
 
-    private AlertManagerInterface AlertManager = new AlertManagerLogic(); // Interfaz para manejar las alertas
+    private static final System.Logger LOGGER = System.getLogger(SecondStageController.class.getName());
+    private static final String TRACE_DIRECTORY = System.getProperty("eclipsado.trace.dir"); // Carpeta de las grabaciones (null = no se graba)
+    private static final Timer GUESS_TIMER = MetricsRegistry.getInstance().timer("game.guess"); // Tiempo de cada intento
+    private static final Timer HINT_TIMER = MetricsRegistry.getInstance().timer("game.hint"); // Tiempo de cada ayuda
+    private static final int SUGGESTIONS = 5; // Palabras posibles que se muestran tras una palabra incorrecta
+    private static final Counter[] GUESS_RESULTS = new Counter[GuessResult.values().length]; // Intentos por resultado
 
-    private String secretWord; // La palabra secreta a ser adivinada
-    private char[] displayedWord; // Array que muestra las letras descubiertas
-    private int remainingAttempts = 5; // Intentos restantes para adivinar la palabra
-    private Set<Character> guessedLetters; // Conjunto de letras ya adivinadas
-    private int HelpUsed = 0; // Contador para las ayudas utilizadas
-    private final int MaxHelpUses = 3; // Límite máximo de veces que se puede usar la ayuda
+    static {
+        for (GuessResult result : GuessResult.values()) {
+            GUESS_RESULTS[result.ordinal()] = MetricsRegistry.getInstance().counter("game.guess." + result.name().toLowerCase());
+        }
+    }
+
+    private AlertManagerInterface AlertManager = new AlertManagerLogic(); // Alertas modales para el final de la partida
+    private AlertManagerInterface Notifier; // Notificaciones no bloqueantes durante la partida
+
+    private GameSession session; // Estado de la partida (reglas del juego sin JavaFX)
+    private GameRules rules = GameRules.DEFAULT; // Reglas de la partida: letras permitidas y avance del eclipse
+    private TraceRecorder recorder; // Graba las jugadas de la partida (null si no se graba)
 
     /**
-     * Controller initialization method. Prepares the game by setting the secret word and displaying the initial eclipse.
+     * Controller initialization method. Prepares the notifications; the game itself starts in {@link #startGame(String)}
+     * or {@link #resumeGame(GameSession)}
+     * because the view is loaded before the secret word is known.
      */
     @FXML
     public void initialize() {
-        secretWord = GameModel.getInstance().getSecretWord().toLowerCase(); // Obtiene la palabra secreta desde el modelo del juego
-        displayedWord = new char[secretWord.length()]; // Inicializa el array de letras descubiertas
-        guessedLetters = new HashSet<>(); // Inicializa el conjunto de letras adivinadas
+        Notifier = new ToastAlertManager(DiscoveredWord); // Las notificaciones se muestran sobre esta ventana
+    }
 
-        // Rellena el array de la palabra mostrada con guiones bajos
-        for (int i = 0; i < secretWord.length(); i++) {
-            displayedWord[i] = '_';
+    /**
+     * Starts a new round, resetting the view so it can be reused without loading it again.
+     * The moves of the round are saved in the game journal, if there is one, and recorded
+     * in a trace file if the property {@code eclipsado.trace.dir} names a directory.
+     * @param secretWord The secret word to be guessed.
+     */
+    public void startGame(String secretWord) {
+        TraceRecorder newRecorder = null;
+        GameSession newSession;
+        GameRules gameRules = GameModel.getInstance().getRules();
+        if (TRACE_DIRECTORY != null) {
+            // La semilla se guarda en la grabación, así las ayudas se repiten al reproducirla
+            newRecorder = new TraceRecorder(secretWord, gameRules.getMaxAttempts(), gameRules.getMaxHints(),
+                    gameRules.getHintPolicy(), gameRules.getAlphabet(), ThreadLocalRandom.current().nextLong());
+            newSession = newRecorder.getSession();
+        } else {
+            newSession = gameRules.newSession(secretWord, GameSession.SHARED_RANDOM); // Crea la partida con la palabra secreta
         }
-        updateDisplayedWord(); // Actualiza el label para mostrar la palabra con guiones bajos
-        updateEclipseImage(); // Muestra el eclipse inicial basado en los intentos restantes
+        GameJournal journal = StageManager.getInstance().getJournal();
+        if (journal != null) {
+            journal.startGame(newSession); // Guarda cada jugada para poder reanudar la partida
+        }
+        showGame(newSession, newRecorder);
+    }
+
+    /**
+     * Shows a game that is already in progress, for example one recovered from the game journal.
+     * It is not recorded, because the seed of its random generator is not known.
+     * @param session The game.
+     */
+    public void resumeGame(GameSession session) {
+        showGame(session, null);
+    }
+
+    /**
+     * Resets the view to show a game.
+     * @param session  The game.
+     * @param recorder The recorder of the game, or null if it is not recorded.
+     */
+    private void showGame(GameSession session, TraceRecorder recorder) {
+        this.session = session;
+        this.recorder = recorder;
+        this.rules = GameModel.getInstance().getRules();
+        DiscoverSecretWord.clear();
+        DiscoveredWord.reset(session.length()); // Reutiliza las casillas: una por letra, todas ocultas
+        updateDisplayedWord(); // Muestra las letras ya descubiertas (si se reanuda una partida)
+        EclipseImage.show(rules.eclipseCoverage(session.getRemainingAttempts()), false); // Eclipse inicial, sin animación
     }
 
     /**
      * Method executed when the user clicks the "Try" button.
-     * Validates the entered letter and updates the UI based on whether the guess is correct or not.
+     * The input can be a single letter or the whole word; it is validated and the UI is updated
+     * based on whether the guess is correct or not.
      * @param actionEvent Event triggered when the button is clicked
-     * @throws IOException if there is an error closing the window
+     * @throws IOException if there is an error switching windows
      */
     public void OnTryButtonClick(ActionEvent actionEvent) throws IOException {
-        String input = DiscoverSecretWord.getText().trim().toLowerCase(); // Obtiene la letra ingresada por el usuario
-
-        // Valida que la entrada sea solo una letra del alfabeto español
-        if (input.matches("[a-záéíóúñ]") && input.length() == 1) {
-            char guessedLetter = normalizeLetter(input.charAt(0)); // Normaliza las vocales con acento
-
-            // Verifica si la letra ya fue adivinada
-            if (guessedLetters.contains(guessedLetter)) {
-                AlertManager.showInfoAlert("Letra repetida", "Ya has adivinado esa letra. Intenta con otra.");
-            } else {
-                guessedLetters.add(guessedLetter); // Añade la letra a las adivinadas
-
-                // Verifica si la letra está en la palabra secreta
-                if (isCorrectLetterInWord(guessedLetter)) {
-                    // Actualiza la palabra mostrada
-                    for (int i = 0; i < secretWord.length(); i++) {
-                        if (normalizeLetter(secretWord.charAt(i)) == guessedLetter) {
-                            displayedWord[i] = secretWord.charAt(i); // Descubre la letra correcta
-                        }
-                    }
-                    updateDisplayedWord();
-
-                    // Verifica si el jugador ha descubierto toda la palabra
-                    if (new String(displayedWord).equals(secretWord)) {
-                        AlertManager.showInfoAlert("¡Felicidades!", "Has descubierto la palabra secreta.");
-                        SecondStage.getInstance().close(); // Cierra la ventana si se adivina la palabra
-                    }
-                } else {
-                    remainingAttempts--; // Reduce el número de intentos si la letra es incorrecta
-                    updateEclipseImage(); // Actualiza la imagen del eclipse según los intentos restantes
-                    if (remainingAttempts > 0) {
-                        AlertManager.showErrorAlert("Incorrecto", "Letra incorrecta. Intentos restantes: " + remainingAttempts);
-                    } else {
-                        AlertManager.showInfoAlert("Has perdido", "Se te han acabado los intentos. La palabra era: " + secretWord);
-                        SecondStage.getInstance().close(); // Cierra la ventana si no se adivina la palabra
-                    }
-                }
-            }
+        String input = DiscoverSecretWord.getText(); // Obtiene la letra o la palabra ingresada por el usuario
+        Alphabet alphabet = rules.getAlphabet();
+
+        // Valida que la entrada sea una letra permitida por las reglas o una palabra completa
+        if (rules.validateLetter(input) == ValidationResult.VALID) {
+            guessLetter(alphabet.parseLetter(input));
+        } else if (rules.validateGuessedWord(input.strip()) == ValidationResult.VALID) {
+            guessWord(alphabet.compose(input.strip()));
         } else {
-            AlertManager.showWarningAlert("Entrada inválida", "Debes ingresar solo una letra del alfabeto español.");
+            Notifier.showWarningAlert("Entrada inválida", "Debes ingresar una letra permitida o una palabra con letras"
+                    + " permitidas del alfabeto " + alphabet.getName() + ".");
         }
 
         DiscoverSecretWord.clear(); // Limpia el campo de texto después de cada intento
     }
 
     /**
-     * Method to check if the guessed letter is correct and present in the secret word.
-     * Normalizes both the guessed letter and the secret word's letters to compare them.
-     * @param guessedLetter The guessed letter entered by the user
-     * @return true if the letter is present in the word, false otherwise
+     * Plays a guessed letter and shows its outcome.
+     * @param letter The letter.
+     * @throws IOException if there is an error switching windows
      */
-    private boolean isCorrectLetterInWord(char guessedLetter) {
-        return secretWord.chars()
-                .mapToObj(c -> (char) c)
-                .anyMatch(letter -> normalizeLetter(letter) == guessedLetter);
+    private void guessLetter(char letter) throws IOException {
+        GuessEvent event = new GuessEvent(); // Solo se registra si Flight Recorder está grabando
+        event.begin();
+        long start = GUESS_TIMER.start();
+        GuessResult result = recorder != null ? recorder.guess(letter) : session.guess(letter);
+        updateView(result); // Antes de medir, sin contar el tiempo que las alertas esperan al jugador
+        GUESS_TIMER.stop(start);
+        GUESS_RESULTS[result.ordinal()].increment();
+        event.end();
+        if (event.shouldCommit()) {
+            event.letter = letter;
+            event.result = result.name();
+            event.remainingAttempts = session.getRemainingAttempts();
+            event.commit();
+        }
+
+        switch (result) {
+            case REPEATED -> Notifier.showInfoAlert("Letra repetida", "Ya has adivinado esa letra. Intenta con otra.");
+            case WRONG -> Notifier.showErrorAlert("Incorrecto", "Letra incorrecta. Intentos restantes: " + session.getRemainingAttempts());
+            default -> showGameEnd(result); // CORRECT ya se mostró; INVALID y GAME_OVER no requieren acción
+        }
     }
 
     /**
-     * Method that normalizes vowels with accents, converting them to their unaccented equivalents.
-     * This allows the game to treat accented and non-accented vowels as equivalent.
-     * @param letter The letter entered by the user
-     * @return The normalized letter (without accents)
+     * Plays a guess of the whole word and shows its outcome. A wrong word costs an attempt and
+     * tells the player how close it was and, if there is a dictionary, which words are still possible.
+     * @param word The word, with one character per letter.
+     * @throws IOException if there is an error switching windows
      */
-    private char normalizeLetter(char letter) {
-        return switch (letter) {
-            case 'á', 'a' -> 'a';
-            case 'é', 'e' -> 'e';
-            case 'í', 'i' -> 'i';
-            case 'ó', 'o' -> 'o';
-            case 'ú', 'u' -> 'u';
-            default -> letter; // Para consonantes u otros caracteres
-        };
+    private void guessWord(String word) throws IOException {
+        GuessEvent event = new GuessEvent(); // Solo se registra si Flight Recorder está grabando
+        event.begin();
+        long start = GUESS_TIMER.start();
+        GuessResult result = recorder != null ? recorder.guessWord(word) : session.guessWord(word);
+        updateView(result);
+        GUESS_TIMER.stop(start);
+        GUESS_RESULTS[result.ordinal()].increment();
+        event.end();
+        if (event.shouldCommit()) {
+            event.word = word;
+            event.result = result.name();
+            event.remainingAttempts = session.getRemainingAttempts();
+            event.commit();
+        }
+
+        if (result == GuessResult.WRONG) {
+            Notifier.showErrorAlert("Palabra incorrecta", "Estás a " + session.getLastWordDistance()
+                    + " cambios de la palabra y tienes " + Long.bitCount(session.getLastWordMatches())
+                    + " letras en su sitio. Intentos restantes: " + session.getRemainingAttempts() + suggestions());
+        } else {
+            showGameEnd(result);
+        }
     }
 
     /**
-     * Updates the Label that displays the progress of the discovered word.
+     * Lists some dictionary words that agree with what the player has discovered.
+     * @return A sentence to append to a message, or an empty string if there is no dictionary.
      */
-    private void updateDisplayedWord() {
-        DiscoveredWord.setText(new String(displayedWord).replace("", " ").trim());
+    private String suggestions() {
+        WordDictionary dictionary = GameModel.getInstance().getDictionary();
+        if (dictionary == null) {
+            return "";
+        }
+        CandidateIndex candidates = dictionary.candidates();
+        int count = candidates.count(session);
+        if (count == 0) {
+            return "";
+        }
+        String words = String.join(", ", candidates.suggest(session, SUGGESTIONS));
+        return "\nPalabras posibles: " + words + (count > SUGGESTIONS ? " y " + (count - SUGGESTIONS) + " más." : ".");
     }
 
     /**
-     * Method executed when the help button is clicked. Reveals a random letter
-     * from the secret word, up to a maximum of 3 hints. If the letter revealed
-     * is part of the secret word, all occurrences of that letter will be uncovered.
-     * @param actionEvent Event triggered when the help button is pressed.
+     * Updates the word or the eclipse after a guess.
+     * @param result The outcome of the guess.
      */
-    public void OnHelpButtonClick(ActionEvent actionEvent) throws IOException {
-        if (HelpUsed < MaxHelpUses) {
-            revealRandomLetter(); // Revela una letra aleatoria de la palabra secreta
-            HelpUsed++; // Aumenta el contador de ayudas utilizadas
-        } else {
-            AlertManager.showInfoAlert("Límite alcanzado", "Ya has usado el máximo número de ayudas.");
+    private void updateView(GuessResult result) {
+        switch (result) {
+            case CORRECT, WON -> updateDisplayedWord();
+            case WRONG, LOST -> updateEclipseImage(); // La luna avanza según los intentos restantes
+            default -> { }
         }
     }
 
     /**
-     * Reveals a random letter from the secret word that has not been discovered yet.
-     * This method also updates the displayed word and checks if the player has
-     * uncovered the entire secret word after the hint is revealed. If the letter revealed
-     * is part of the secret word, all occurrences of that letter will be uncovered.
+     * Shows the end of the game, if the guess finished it, and goes back to the first window.
+     * @param result The outcome of the guess.
+     * @throws IOException if there is an error switching windows
      */
-    private void revealRandomLetter() throws IOException {
-        List<Integer> unrevealedIndices = new ArrayList<>();
-
-        // Encuentra las letras que aún no se han revelado
-        for (int i = 0; i < secretWord.length(); i++) {
-            if (displayedWord[i] == '_') {
-                unrevealedIndices.add(i);
+    private void showGameEnd(GuessResult result) throws IOException {
+        switch (result) {
+            case WON -> {
+                AlertManager.showInfoAlert("¡Felicidades!", "Has descubierto la palabra secreta." + endGame());
+                StageManager.getInstance().showFirstStage(); // Vuelve a la primera ventana para otra ronda
+            }
+            case LOST -> {
+                AlertManager.showInfoAlert("Has perdido", "Se te han acabado los intentos. La palabra era: "
+                        + session.getSecretWord() + endGame());
+                StageManager.getInstance().showFirstStage(); // Vuelve a la primera ventana para otra ronda
             }
+            default -> { }
         }
+    }
 
-        if (!unrevealedIndices.isEmpty()) {
-            // Selecciona un índice aleatorio de las letras no reveladas
-            Random random = new Random();
-            int randomIndex = unrevealedIndices.get(random.nextInt(unrevealedIndices.size()));
+    /**
+     * Records the result of the finished game in the player statistics and marks it as finished
+     * in the game journal, so it is not resumed on the next start. If the game was recorded, its trace is saved.
+     * @return A summary of the statistics to append to the end-of-game message.
+     */
+    private String endGame() {
+        GameJournal journal = StageManager.getInstance().getJournal();
+        if (journal != null) {
+            journal.endGame(session);
+        }
+        if (recorder != null) {
+            saveTrace();
+        }
+        PlayerStatistics statistics = PlayerStatistics.getInstance();
+        int rank = statistics.record(session);
+        String summary = "\nPartidas ganadas: " + statistics.getWins(0) + " de " + statistics.getGames(0) + ".";
+        if (rank > 0) {
+            summary += "\nPuesto " + rank + " en la clasificación con " + PlayerStatistics.score(session) + " puntos.";
+        }
+        return summary;
+    }
 
-            // Letra que se va a revelar
-            char revealedLetter = secretWord.charAt(randomIndex);
+    /**
+     * Writes the recording of the finished game to the trace directory.
+     */
+    private void saveTrace() {
+        try {
+            Path directory = Files.createDirectories(Path.of(TRACE_DIRECTORY));
+            recorder.finish().write(directory.resolve("partida-" + System.currentTimeMillis() + ".trace"));
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "No se pudo guardar la grabación de la partida", e);
+        }
+        recorder = null;
+    }
 
-            // Revela todas las ocurrencias de esa letra en la palabra secreta
-            for (int i = 0; i < secretWord.length(); i++) {
-                if (normalizeLetter(secretWord.charAt(i)) == normalizeLetter(revealedLetter)) {
-                    displayedWord[i] = secretWord.charAt(i);
-                }
-            }
+    /**
+     * Updates the cells of the positions discovered since the last update; the rest of the word is not redrawn.
+     */
+    private void updateDisplayedWord() {
+        DiscoveredWord.showRevealed(session.getRevealedPositions(), session.getSecretWord());
+    }
 
-            // Actualiza el progreso de la palabra en pantalla
-            updateDisplayedWord();
+    /**
+     * Method executed when the help button is clicked. Reveals a letter
+     * from the secret word, up to the number of hints allowed by the rules. If the letter revealed
+     * is part of the secret word, all occurrences of that letter will be uncovered.
+     * @param actionEvent Event triggered when the help button is pressed.
+     */
+    public void OnHelpButtonClick(ActionEvent actionEvent) throws IOException {
+        HintEvent event = new HintEvent(); // Solo se registra si Flight Recorder está grabando
+        event.begin();
+        long start = HINT_TIMER.start();
+        HintResult result = recorder != null ? recorder.useHint() : session.useHint();
+        if (result == HintResult.REVEALED || result == HintResult.WON) {
+            updateDisplayedWord(); // Actualiza el progreso de la palabra en pantalla
+        }
+        HINT_TIMER.stop(start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.result = result.name();
+            event.hintsUsed = session.getHintsUsed();
+            event.commit();
+        }
 
-            // Verifica si el jugador ha descubierto toda la palabra tras la ayuda
-            if (new String(displayedWord).equals(secretWord)) {
-                AlertManager.showInfoAlert("¡Felicidades!", "Has descubierto la palabra secreta.");
-                SecondStage.getInstance().close(); // Cierra la ventana si se adivina la palabra
+        switch (result) {
+            case WON -> {
+                AlertManager.showInfoAlert("¡Felicidades!", "Has descubierto la palabra secreta." + endGame());
+                StageManager.getInstance().showFirstStage(); // Vuelve a la primera ventana para otra ronda
             }
+            case LIMIT_REACHED -> Notifier.showInfoAlert("Límite alcanzado", "Ya has usado el máximo número de ayudas.");
+            default -> { } // REVEALED ya se mostró; GAME_OVER no requiere acción
         }
     }
 
     /**
-     * Updates the eclipse image based on the number of remaining attempts.
+     * Updates the eclipse based on the number of remaining attempts, sliding the moon to its new position.
      */
     private void updateEclipseImage() {
-        String imagePath;
-        switch (remainingAttempts) {
-            case 5:
-                imagePath = "/com/example/eclipsado/Sun/Sun.png"; // Eclipse 0% (sol completo)
-                break;
-            case 4:
-                imagePath = "/com/example/eclipsado/Sun/Eclipse20%.png"; // Eclipse 20%
-                break;
-            case 3:
-                imagePath = "/com/example/eclipsado/Sun/Eclipse40%.png"; // Eclipse 40%
-                break;
-            case 2:
-                imagePath = "/com/example/eclipsado/Sun/Eclipse60%.png"; // Eclipse 60%
-                break;
-            case 1:
-                imagePath = "/com/example/eclipsado/Sun/Eclipse80%.png"; // Eclipse 80%
-                break;
-            case 0:
-                imagePath = "/com/example/eclipsado/Sun/Eclipse100%.png"; // Eclipse completo
-                break;
-            default:
-                imagePath = "/com/example/eclipsado/Sun/Sun.png"; // Imagen predeterminada
-                break;
-        }
-
-        // Carga la imagen y la muestra en el ImageView
-        Image eclipseImage = new Image(getClass().getResourceAsStream(imagePath));
-        EclipseImage.setImage(eclipseImage);
+        EclipseImage.show(rules.eclipseCoverage(session.getRemainingAttempts()), true);
     }
 }
-
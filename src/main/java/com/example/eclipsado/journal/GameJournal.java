@@ -0,0 +1,661 @@
+package com.example.eclipsado.journal;
+
+import com.example.eclipsado.model.Alphabet;
+import com.example.eclipsado.model.GameEventListener;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.GuessResult;
+import com.example.eclipsado.model.HintPolicy;
+import com.example.eclipsado.model.HintResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.random.RandomGenerator;
+
+/**
+ * Append-only journal that saves every move of the current game so it can be resumed after the
+ * application is closed or crashes. Each move is a compact binary record of a few bytes.
+ * <p>
+ * Recording a move only copies it to an in-memory buffer; a background thread writes the pending
+ * records to a memory-mapped file and forces them to disk in batches (group commit), so the thread
+ * that plays the game never waits for the disk.
+ * <p>
+ * The records are kept in one of the two halves of the file. When the active half is full, or is half
+ * full when a new game starts, it is compacted: a single snapshot of the current game is written at the
+ * start of the other half, and the header then switches to that half, so the old games are dropped
+ * without replacing the mapped file and a crash during the compaction keeps the old half.
+ * <p>
+ * File format (big-endian): magic number, version and the end of the committed records, whose highest bit
+ * selects the active half, followed by the two halves. A game starts with a START or SNAPSHOT record, continues
+ * with GUESS, WORD and HINT records and ends with an END record. Recovering replays the records from the last
+ * START or SNAPSHOT of the active half.
+ * @author Brandon Fernandez
+ */
+public final class GameJournal implements GameEventListener, AutoCloseable {
+
+    /**
+     * Default size of the journal file.
+     */
+    public static final int DEFAULT_CAPACITY = 64 * 1024;
+
+    private static final System.Logger LOGGER = System.getLogger(GameJournal.class.getName());
+
+    private static final int MAGIC = 0x45434C4A; // "ECLJ"
+    private static final int VERSION = 1; // Versión del formato
+    private static final int END_OFFSET = 8; // Posición del final de los registros confirmados
+    private static final int SECOND_HALF = 1 << 31; // Bit del final que indica que la mitad activa es la segunda
+    private static final int HEADER_SIZE = 12; // Magia, versión y final
+    private static final byte START = 1; // Partida nueva: palabra, límites, política de ayudas y alfabeto
+    private static final byte GUESS = 2; // Letra intentada
+    private static final byte HINT = 3; // Letra revelada por una ayuda
+    private static final byte END = 4; // Partida terminada o abandonada
+    private static final byte SNAPSHOT = 5; // Estado completo de una partida (tras una compactación)
+    private static final byte WORD = 6; // Palabra completa intentada: longitud y caracteres
+
+    private final int halfSize; // Tamaño de cada mitad del fichero
+    private final Object lock = new Object(); // Protege los registros pendientes y los contadores
+    private final Thread writer; // Hilo que escribe los lotes en el fichero
+    private final MappedByteBuffer map; // Fichero proyectado en memoria (solo lo usa el hilo escritor tras abrirlo)
+    private int start; // Inicio de la mitad activa
+    private int end; // Final de los registros escritos en el fichero
+    private ByteBuffer pending = ByteBuffer.allocate(256); // Registros aún no escritos
+    private ByteBuffer writing = ByteBuffer.allocate(256); // Lote que está escribiendo el hilo escritor
+    private long appended; // Bytes añadidos desde que se abrió el diario
+    private long committed; // Bytes ya forzados a disco
+    private long batches; // Lotes escritos
+    private long compactions; // Compactaciones realizadas
+    private boolean closed; // Indica si se ha cerrado el diario
+    private IOException failure; // Error del hilo escritor, si lo hubo; después no se aceptan más registros
+
+    /**
+     * Opens the journal and starts its writer thread.
+     * @param file     The journal file.
+     * @param capacity The size of the file, if it has to be created.
+     * @throws IOException If the file cannot be created or mapped.
+     */
+    private GameJournal(Path file, int capacity) throws IOException {
+        this.map = mapFile(file, capacity);
+        this.halfSize = halfSize(map.capacity());
+        this.start = activeStart(map.getInt(END_OFFSET), map.capacity());
+        this.end = map.getInt(END_OFFSET) & ~SECOND_HALF;
+        this.writer = new Thread(this::writeLoop, "game-journal");
+        writer.setDaemon(true); // No impide que la aplicación se cierre; close() vacía los pendientes
+        writer.start();
+    }
+
+    /**
+     * Opens a journal, creating the file if it does not exist.
+     * @param file The journal file.
+     * @return The journal.
+     * @throws IOException If the file cannot be created or is not a journal.
+     */
+    public static GameJournal open(Path file) throws IOException {
+        return open(file, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Opens a journal with a given file size, creating the file if it does not exist.
+     * @param file     The journal file.
+     * @param capacity The size of a new file; each half must hold at least the snapshot of a game
+     *                 and its next move. An existing file keeps its size.
+     * @return The journal.
+     * @throws IOException If the file cannot be created or is not a journal.
+     */
+    public static GameJournal open(Path file, int capacity) throws IOException {
+        return new GameJournal(file, capacity);
+    }
+
+    /**
+     * Reads a journal file and rebuilds the last game, without opening the journal for writing.
+     * @param file   The journal file.
+     * @param random The random generator for the hints of the rebuilt game.
+     * @return The game in progress, or null if the last game finished or the file does not exist.
+     * @throws IOException If the file cannot be read or is not a journal.
+     */
+    public static GameSession readLastGame(Path file, RandomGenerator random) throws IOException {
+        if (!Files.exists(file)) {
+            return null;
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            checkHeader(buffer);
+            int header = buffer.getInt(END_OFFSET);
+            return replay(buffer, activeStart(header, buffer.capacity()), header & ~SECOND_HALF, random);
+        }
+    }
+
+    /**
+     * Rebuilds the last game saved in this journal and keeps recording its moves.
+     * It must be called before recording anything else.
+     * @param random The random generator for the hints of the rebuilt game.
+     * @return The game in progress, or null if the last game finished.
+     */
+    public GameSession recover(RandomGenerator random) {
+        GameSession session;
+        synchronized (lock) {
+            session = replay(map.duplicate(), start, end, random);
+        }
+        if (session != null) {
+            session.setEventListener(this);
+        }
+        return session;
+    }
+
+    /**
+     * Records the start of a new game and starts recording its moves.
+     * @param session The new game, before any move.
+     */
+    public void startGame(GameSession session) {
+        byte[] word = session.getSecretWord().getBytes(StandardCharsets.UTF_8);
+        synchronized (lock) {
+            if (failure != null) {
+                return; // El diario ya no guarda nada: flush() informa del error
+            }
+            ByteBuffer out = reserve(6 + word.length);
+            out.put(START).put((byte) word.length).put(word)
+                    .put((byte) session.getMaxAttempts()).put((byte) session.getMaxHints())
+                    .put((byte) session.getHintPolicy().ordinal()).put((byte) session.getAlphabet().getCode());
+            appended(6 + word.length);
+        }
+        session.setEventListener(this);
+    }
+
+    /**
+     * Records that the current game has finished, so it is not resumed.
+     * @param session The game, which stops being recorded.
+     */
+    public void endGame(GameSession session) {
+        session.setEventListener(null);
+        synchronized (lock) {
+            if (failure != null) {
+                return;
+            }
+            reserve(1).put(END);
+            appended(1);
+        }
+    }
+
+    /**
+     * Records a guessed letter of the current game.
+     * @param letterId The identifier of the letter.
+     */
+    @Override
+    public void letterGuessed(int letterId) {
+        record(GUESS, letterId);
+    }
+
+    /**
+     * Records a whole word guessed in the current game.
+     * @param word The word guessed.
+     */
+    @Override
+    public void wordGuessed(CharSequence word) {
+        int length = word.length();
+        synchronized (lock) {
+            if (failure != null) {
+                return;
+            }
+            ByteBuffer out = reserve(2 + 2 * length);
+            out.put(WORD).put((byte) length);
+            for (int i = 0; i < length; i++) {
+                out.putChar(word.charAt(i)); // Dos bytes por carácter: sirve para cualquier alfabeto
+            }
+            appended(2 + 2 * length);
+        }
+    }
+
+    /**
+     * Records a letter revealed by a hint in the current game.
+     * @param letterId The identifier of the letter.
+     */
+    @Override
+    public void hintUsed(int letterId) {
+        record(HINT, letterId);
+    }
+
+    /**
+     * Waits until every record added so far has been forced to disk.
+     * @throws IOException If the writer thread failed or stopped before writing them.
+     */
+    public void flush() throws IOException {
+        synchronized (lock) {
+            long target = appended;
+            while (committed < target && failure == null && writer.isAlive()) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrumpido mientras se guardaba la partida.", e);
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+            if (committed < target) {
+                throw new IOException("El diario se detuvo sin guardar todas las jugadas.");
+            }
+        }
+    }
+
+    /**
+     * Gets the number of batches written, to measure how many records each disk write groups.
+     * @return The number of batches.
+     */
+    public long getBatches() {
+        synchronized (lock) {
+            return batches;
+        }
+    }
+
+    /**
+     * Gets the number of times the file has been compacted.
+     * @return The number of compactions.
+     */
+    public long getCompactions() {
+        synchronized (lock) {
+            return compactions;
+        }
+    }
+
+    /**
+     * Writes the pending records and stops the writer thread.
+     * @throws IOException If the pending records could not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            synchronized (lock) {
+                closed = true;
+                lock.notifyAll();
+            }
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Adds a one-letter record.
+     * @param type     The type of the record.
+     * @param letterId The identifier of the letter.
+     */
+    private void record(byte type, int letterId) {
+        synchronized (lock) {
+            if (failure != null) {
+                return;
+            }
+            reserve(2).put(type).put((byte) letterId);
+            appended(2);
+        }
+    }
+
+    /**
+     * Makes room in the pending buffer. Must be called while holding the lock.
+     * @param bytes The size of the next record.
+     * @return The pending buffer.
+     */
+    private ByteBuffer reserve(int bytes) {
+        if (pending.remaining() < bytes) {
+            ByteBuffer larger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + bytes));
+            pending.flip();
+            larger.put(pending);
+            pending = larger;
+        }
+        return pending;
+    }
+
+    /**
+     * Counts an added record and wakes the writer thread. Must be called while holding the lock.
+     * @param bytes The size of the record.
+     */
+    private void appended(int bytes) {
+        appended += bytes;
+        lock.notifyAll();
+    }
+
+    /**
+     * Body of the writer thread: takes all the pending records at once and writes them as one batch.
+     */
+    private void writeLoop() {
+        while (true) {
+            long target;
+            synchronized (lock) {
+                while (pending.position() == 0 && !closed) {
+                    try {
+                        lock.wait();
+                    } catch (InterruptedException e) {
+                        failure = new IOException("Se interrumpió el hilo del diario.", e);
+                        lock.notifyAll();
+                        return;
+                    }
+                }
+                if (pending.position() == 0) {
+                    return; // Cerrado y sin nada pendiente
+                }
+                // Intercambia los búferes: los nuevos registros se acumulan mientras se escribe este lote
+                ByteBuffer batch = pending;
+                pending = writing;
+                writing = batch;
+                target = appended;
+            }
+            try {
+                writeBatch(writing.flip());
+                writing.clear();
+                synchronized (lock) {
+                    committed = target;
+                    batches++;
+                    lock.notifyAll();
+                }
+            } catch (IOException | RuntimeException e) {
+                // Cualquier error detiene el diario: sin esto flush() daría por guardadas las jugadas
+                synchronized (lock) {
+                    failure = e instanceof IOException io ? io
+                            : e instanceof UncheckedIOException u ? u.getCause()
+                            : new IOException("No se pudo escribir el diario.", e);
+                    pending.clear(); // Lo pendiente ya no se escribirá
+                    lock.notifyAll();
+                }
+                LOGGER.log(System.Logger.Level.ERROR, "No se pudo guardar la partida", e);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Copies a batch of records to the file and forces it to disk. The active half is compacted when
+     * a record does not fit in it, and also when a new game starts with the half more than half full,
+     * so the finished games are dropped long before the file fills up.
+     * The records are forced before the header that commits them, so a crash never exposes a partial record.
+     * @param batch The records.
+     * @throws IOException If the file cannot be written or a record does not fit even after compacting.
+     */
+    private void writeBatch(ByteBuffer batch) throws IOException {
+        while (batch.hasRemaining()) {
+            int size = recordSize(batch, batch.position(), batch.limit());
+            if (size < 0) {
+                throw new IOException("Registro no válido en el lote del diario.");
+            }
+            boolean newGame = batch.get(batch.position()) == START;
+            if (end + size > start + halfSize || newGame && end - start > halfSize / 2) {
+                compact();
+                if (end + size > start + halfSize) {
+                    throw new IOException("El diario es demasiado pequeño para guardar la partida.");
+                }
+            }
+            map.put(end, batch, batch.position(), size);
+            batch.position(batch.position() + size);
+            end += size;
+        }
+        map.force();
+        map.putInt(END_OFFSET, start == HEADER_SIZE ? end : end | SECOND_HALF);
+        map.force(0, HEADER_SIZE);
+    }
+
+    /**
+     * Writes a snapshot of the current game at the start of the inactive half and then makes that half
+     * the active one. The header is switched only after the snapshot is on disk, so a crash during the
+     * compaction keeps the old half. The file is modified in place, because a mapped file cannot be
+     * unmapped to be replaced.
+     * @throws IOException If the snapshot does not fit in a half of the file.
+     */
+    private void compact() throws IOException {
+        GameSession current;
+        synchronized (lock) {
+            current = replay(map.duplicate(), start, end, GameSession.SHARED_RANDOM);
+        }
+        int target = start == HEADER_SIZE ? HEADER_SIZE + halfSize : HEADER_SIZE; // La otra mitad
+        int position = target;
+        if (current != null) {
+            if (snapshotSize(current) > halfSize) {
+                throw new IOException("El diario es demasiado pequeño para guardar la partida.");
+            }
+            position = writeSnapshot(map, position, current);
+        }
+        map.force(target, position - target);
+        map.putInt(END_OFFSET, target == HEADER_SIZE ? position : position | SECOND_HALF);
+        map.force(0, HEADER_SIZE);
+        start = target;
+        end = position;
+        synchronized (lock) {
+            compactions++;
+        }
+    }
+
+    /**
+     * Computes the size of the SNAPSHOT record of a game.
+     * @param session The game.
+     * @return The size, in bytes.
+     */
+    private static int snapshotSize(GameSession session) {
+        return 6 + session.getSecretWord().getBytes(StandardCharsets.UTF_8).length + 2 * Long.BYTES + 2;
+    }
+
+    /**
+     * Writes a SNAPSHOT record with the whole state of a game.
+     * @param buffer   The file.
+     * @param position The position of the record.
+     * @param session  The game.
+     * @return The position after the record.
+     */
+    private static int writeSnapshot(ByteBuffer buffer, int position, GameSession session) {
+        byte[] word = session.getSecretWord().getBytes(StandardCharsets.UTF_8);
+        buffer.position(position);
+        buffer.put(SNAPSHOT).put((byte) word.length).put(word)
+                .put((byte) session.getMaxAttempts()).put((byte) session.getMaxHints())
+                .put((byte) session.getHintPolicy().ordinal()).put((byte) session.getAlphabet().getCode())
+                .putLong(session.getGuessedLetters()).putLong(session.getRevealedPositions())
+                .put((byte) session.getRemainingAttempts()).put((byte) session.getHintsUsed());
+        return buffer.position();
+    }
+
+    /**
+     * Replays the records of a journal and rebuilds its last game. The contents are not trusted: the
+     * first record that is truncated, unknown or inconsistent with its game is taken as the end of the
+     * journal, so a damaged file loses at most the moves after the damage.
+     * @param buffer The journal contents.
+     * @param start  The start of the active half.
+     * @param end    The end of the committed records.
+     * @param random The random generator for the hints of the rebuilt game.
+     * @return The game in progress, or null if the last game finished.
+     */
+    private static GameSession replay(ByteBuffer buffer, int start, int end, RandomGenerator random) {
+        // Solo importa la última partida: se salta hasta su inicio sin reconstruir las anteriores
+        int last = start;
+        int position = start;
+        while (position < end) {
+            int size = recordSize(buffer, position, end);
+            if (size < 0) {
+                warnDamaged(position);
+                end = position; // Lo que sigue a un registro dañado no se puede delimitar
+                break;
+            }
+            byte type = buffer.get(position);
+            if (type == START || type == SNAPSHOT) {
+                last = position;
+            }
+            position += size;
+        }
+        GameSession session = null;
+        for (position = last; position < end; position += recordSize(buffer, position, end)) {
+            byte type = buffer.get(position);
+            if (type == START || type == SNAPSHOT) {
+                session = readGame(buffer, position, random);
+                if (session == null) {
+                    warnDamaged(position);
+                    return null;
+                }
+            } else if (type == END) {
+                session = null;
+            } else if (session != null && !replayMove(session, buffer, position)) {
+                warnDamaged(position);
+                break; // Se conserva la partida hasta la última jugada válida
+            }
+        }
+        return session == null || session.isOver() ? null : session;
+    }
+
+    /**
+     * Rebuilds a game from a START or SNAPSHOT record whose size has already been checked.
+     * @param buffer   The journal contents.
+     * @param position The position of the record.
+     * @param random   The random generator for the hints of the game.
+     * @return The game, or null if a field of the record is out of range.
+     */
+    private static GameSession readGame(ByteBuffer buffer, int position, RandomGenerator random) {
+        int length = buffer.get(position + 1) & 0xFF;
+        int limits = position + 2 + length;
+        int maxAttempts = buffer.get(limits);
+        int maxHints = buffer.get(limits + 1);
+        int policyCode = buffer.get(limits + 2) & 0xFF;
+        int alphabetCode = buffer.get(limits + 3) & 0xFF;
+        if (maxAttempts <= 0 || maxHints < 0 || policyCode >= HintPolicy.values().length
+                || alphabetCode >= Alphabet.packs().size()) {
+            return null;
+        }
+        HintPolicy policy = HintPolicy.values()[policyCode];
+        Alphabet alphabet = Alphabet.forCode(alphabetCode);
+        byte[] word = new byte[length];
+        buffer.get(position + 2, word);
+        String secretWord = new String(word, StandardCharsets.UTF_8);
+        try {
+            if (buffer.get(position) == START) {
+                return new GameSession(secretWord, maxAttempts, maxHints, policy, random, alphabet);
+            }
+            long guessed = buffer.getLong(limits + 4);
+            int remainingAttempts = buffer.get(limits + 20);
+            int hintsUsed = buffer.get(limits + 21);
+            if ((guessed & ~alphabet.getFullMask()) != 0 || remainingAttempts < 0 || remainingAttempts > maxAttempts
+                    || hintsUsed < 0 || hintsUsed > maxHints) {
+                return null;
+            }
+            return GameSession.restore(secretWord, maxAttempts, maxHints, policy, random, guessed,
+                    buffer.getLong(limits + 12), remainingAttempts, hintsUsed, alphabet);
+        } catch (IllegalArgumentException e) {
+            return null; // Palabra vacía, demasiado larga o con caracteres ajenos al alfabeto
+        }
+    }
+
+    /**
+     * Replays a GUESS, WORD or HINT record whose size has already been checked.
+     * @param session  The game.
+     * @param buffer   The journal contents.
+     * @param position The position of the record.
+     * @return false if the record is not a valid move of the game.
+     */
+    private static boolean replayMove(GameSession session, ByteBuffer buffer, int position) {
+        Alphabet alphabet = session.getAlphabet();
+        int id = buffer.get(position + 1);
+        return switch (buffer.get(position)) {
+            case GUESS -> id >= 0 && id < alphabet.size() && session.guess(alphabet.letterOf(id)) != GuessResult.INVALID;
+            case HINT -> session.revealHint(id) != HintResult.INVALID;
+            case WORD -> {
+                char[] word = new char[id & 0xFF];
+                for (int i = 0; i < word.length; i++) {
+                    word[i] = buffer.getChar(position + 2 + 2 * i);
+                }
+                yield session.guessWord(new String(word)) != GuessResult.INVALID;
+            }
+            default -> false;
+        };
+    }
+
+    /**
+     * Logs that the journal is damaged from a position on.
+     * @param position The position of the first record that cannot be replayed.
+     */
+    private static void warnDamaged(int position) {
+        LOGGER.log(System.Logger.Level.WARNING, "Registro dañado en la posición {0} del diario; se descarta desde ahí",
+                String.valueOf(position));
+    }
+
+    /**
+     * Computes the size of a record from its type.
+     * @param buffer   The buffer that holds the record.
+     * @param position The position of the record.
+     * @param end      The end of the records in the buffer.
+     * @return The size of the record, in bytes, or -1 if its type is unknown or it does not end before {@code end}.
+     */
+    private static int recordSize(ByteBuffer buffer, int position, int end) {
+        int length = position + 1 < end ? buffer.get(position + 1) & 0xFF : 0; // Longitud sin signo
+        int size = switch (buffer.get(position)) {
+            case START -> 6 + length;
+            case SNAPSHOT -> 6 + length + 2 * Long.BYTES + 2;
+            case GUESS, HINT -> 2;
+            case WORD -> 2 + 2 * length;
+            case END -> 1;
+            default -> -1;
+        };
+        return size > 0 && position + size <= end ? size : -1;
+    }
+
+    /**
+     * Computes the size of each half of a journal file.
+     * @param capacity The size of the file.
+     * @return The size of a half.
+     */
+    private static int halfSize(int capacity) {
+        return (capacity - HEADER_SIZE) / 2;
+    }
+
+    /**
+     * Finds the start of the active half from the header.
+     * @param header   The end of the committed records, as stored in the header.
+     * @param capacity The size of the file.
+     * @return The position of the first record of the active half.
+     */
+    private static int activeStart(int header, int capacity) {
+        return (header & SECOND_HALF) == 0 ? HEADER_SIZE : HEADER_SIZE + halfSize(capacity);
+    }
+
+    /**
+     * Maps a journal file, creating it with an empty header if it does not exist.
+     * @param file     The file.
+     * @param capacity The size of the file, if it has to be created; an existing file keeps its size,
+     *                 because the position of its halves depends on it.
+     * @return The mapped file.
+     * @throws IOException If the file cannot be created or is not a journal.
+     */
+    private static MappedByteBuffer mapFile(Path file, int capacity) throws IOException {
+        boolean created = !Files.exists(file) || Files.size(file) == 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, created ? capacity : channel.size());
+            if (created) {
+                buffer.putInt(0, MAGIC);
+                buffer.putInt(4, VERSION);
+                buffer.putInt(END_OFFSET, HEADER_SIZE);
+                buffer.force();
+            } else {
+                checkHeader(buffer);
+            }
+            return buffer;
+        }
+    }
+
+    /**
+     * Checks that a file is a journal in a supported format.
+     * @param buffer The contents of the file.
+     * @throws IOException If the file is not a journal.
+     */
+    private static void checkHeader(ByteBuffer buffer) throws IOException {
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("El fichero no es un diario de partidas válido.");
+        }
+        int header = buffer.getInt(END_OFFSET);
+        int start = activeStart(header, buffer.capacity());
+        int end = header & ~SECOND_HALF;
+        if (end < start || end > start + halfSize(buffer.capacity())) {
+            throw new IOException("El fichero no es un diario de partidas válido.");
+        }
+    }
+}
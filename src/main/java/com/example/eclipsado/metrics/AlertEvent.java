@@ -0,0 +1,24 @@
+package com.example.eclipsado.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event that measures how long a modal alert blocks the UI thread.
+ * @author Brandon Fernandez
+ */
+@Name("com.example.eclipsado.Alert")
+@Label("Blocking Alert")
+@Category({"Eclipsado", "UI"})
+@Description("Time the UI thread waits for the player to close a modal alert")
+public class AlertEvent extends Event {
+
+    @Label("Type")
+    public String type; // Tipo de alerta
+
+    @Label("Title")
+    public String title; // Título de la alerta
+}
@@ -0,0 +1,39 @@
+package com.example.eclipsado.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counter of a {@link MetricsRegistry}. Incrementing it from several threads does not contend,
+ * and it does nothing while the metrics are disabled.
+ * @author Brandon Fernandez
+ */
+public final class Counter {
+
+    private final MetricsRegistry registry; // Registro que indica si las métricas están activas
+    private final LongAdder count = new LongAdder(); // Valor del contador
+
+    /**
+     * Creates a counter; use {@link MetricsRegistry#counter(String)}.
+     * @param registry The registry that owns the counter.
+     */
+    Counter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Adds one to the counter.
+     */
+    public void increment() {
+        if (registry.isEnabled()) {
+            count.increment();
+        }
+    }
+
+    /**
+     * Gets the value of the counter.
+     * @return The number of increments recorded.
+     */
+    public long getCount() {
+        return count.sum();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.eclipsado.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event that measures the drawing of a frame of the eclipse.
+ * @author Brandon Fernandez
+ */
+@Name("com.example.eclipsado.EclipseDraw")
+@Label("Eclipse Draw")
+@Category({"Eclipsado", "UI"})
+@Description("Drawing of a frame of the eclipse on its canvas")
+public class EclipseDrawEvent extends Event {
+
+    @Label("Coverage")
+    public double coverage; // Fracción del sol cubierta por la luna
+
+    @Label("Size")
+    public int size; // Lado del lienzo en píxeles
+}
@@ -0,0 +1,21 @@
+package com.example.eclipsado.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event that measures the loading of an FXML view.
+ * @author Brandon Fernandez
+ */
+@Name("com.example.eclipsado.FxmlLoad")
+@Label("FXML Load")
+@Category({"Eclipsado", "UI"})
+@Description("Loading of an FXML file into a scene graph")
+public class FxmlLoadEvent extends Event {
+
+    @Label("File")
+    public String file; // Fichero FXML cargado
+}
@@ -0,0 +1,30 @@
+package com.example.eclipsado.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event that measures the handling of a guessed letter or word.
+ * @author Brandon Fernandez
+ */
+@Name("com.example.eclipsado.Guess")
+@Label("Guess")
+@Category({"Eclipsado", "Game"})
+@Description("Handling of a letter or a whole word guessed by the player")
+public class GuessEvent extends Event {
+
+    @Label("Letter")
+    public char letter; // Letra introducida (0 si se intentó la palabra completa)
+
+    @Label("Word")
+    public String word; // Palabra completa introducida (null si se intentó una letra)
+
+    @Label("Result")
+    public String result; // Resultado del intento
+
+    @Label("Remaining Attempts")
+    public int remainingAttempts; // Intentos restantes después del intento
+}
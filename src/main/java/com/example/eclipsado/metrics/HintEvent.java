@@ -0,0 +1,24 @@
+package com.example.eclipsado.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event that measures the reveal of a letter by a hint.
+ * @author Brandon Fernandez
+ */
+@Name("com.example.eclipsado.Hint")
+@Label("Hint")
+@Category({"Eclipsado", "Game"})
+@Description("Reveal of a letter requested with the help button")
+public class HintEvent extends Event {
+
+    @Label("Result")
+    public String result; // Resultado de la ayuda
+
+    @Label("Hints Used")
+    public int hintsUsed; // Ayudas usadas después de esta
+}
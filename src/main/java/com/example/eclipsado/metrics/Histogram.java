@@ -0,0 +1,171 @@
+package com.example.eclipsado.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram with log-linear buckets: each power of two is split into {@code 2^precision}
+ * buckets, so a percentile is off by at most {@code 1 / 2^precision} of its value (about 3% with the
+ * default precision of 5). Its memory is fixed, recording a value does not allocate, and it can be
+ * recorded from several threads. Histograms of the same precision can be merged, so each thread of a
+ * load test can keep its own one and add them up at the end.
+ * <p>
+ * The histograms of a {@link MetricsRegistry} do nothing while the metrics are disabled; the ones
+ * created with a public constructor always record.
+ * @author Brandon Fernandez
+ */
+public final class Histogram {
+
+    /**
+     * Default precision, in bits: 32 buckets per power of two.
+     */
+    public static final int DEFAULT_PRECISION = 5;
+
+    private final MetricsRegistry registry; // Registro que indica si las métricas están activas, o null
+    private final int precision; // Cada potencia de dos se divide en 2^precision cubetas
+    private final AtomicLongArray counts; // Valores de cada cubeta
+    private final LongAdder total = new LongAdder(); // Número de valores
+    private final LongAdder sum = new LongAdder(); // Suma de los valores
+    private final AtomicLong max = new AtomicLong(); // Valor máximo
+
+    /**
+     * Creates a histogram with the default precision.
+     */
+    public Histogram() {
+        this(null, DEFAULT_PRECISION);
+    }
+
+    /**
+     * Creates a histogram.
+     * @param precision The number of bits of each value that are kept exactly, from 1 to 10.
+     * @throws IllegalArgumentException If the precision is out of range.
+     */
+    public Histogram(int precision) {
+        this(null, precision);
+    }
+
+    /**
+     * Creates a histogram; use {@link MetricsRegistry#histogram(String)} for the ones of a registry.
+     * @param registry  The registry that owns the histogram, or null if it always records.
+     * @param precision The number of bits of each value that are kept exactly.
+     */
+    Histogram(MetricsRegistry registry, int precision) {
+        if (precision < 1 || precision > 10) {
+            throw new IllegalArgumentException("La precisión debe estar entre 1 y 10 bits.");
+        }
+        this.registry = registry;
+        this.precision = precision;
+        this.counts = new AtomicLongArray((64 - precision) << precision);
+    }
+
+    /**
+     * Records a value.
+     * @param value The value; negative values count as 0.
+     */
+    public void record(long value) {
+        if (registry != null && !registry.isEnabled()) {
+            return;
+        }
+        long v = Math.max(value, 0);
+        counts.incrementAndGet(bucketOf(v));
+        total.increment();
+        sum.add(v);
+        max.accumulateAndGet(v, Math::max);
+    }
+
+    /**
+     * Adds the values of another histogram to this one.
+     * @param other The histogram to add, with the same precision.
+     * @return This histogram.
+     * @throws IllegalArgumentException If the precisions differ.
+     */
+    public Histogram merge(Histogram other) {
+        if (other.precision != precision) {
+            throw new IllegalArgumentException("Solo se pueden sumar histogramas de la misma precisión.");
+        }
+        for (int i = 0; i < counts.length(); i++) {
+            long count = other.counts.get(i);
+            if (count != 0) {
+                counts.addAndGet(i, count);
+            }
+        }
+        total.add(other.total.sum());
+        sum.add(other.sum.sum());
+        max.accumulateAndGet(other.max.get(), Math::max);
+        return this;
+    }
+
+    /**
+     * Gets the number of values recorded.
+     * @return The number of values.
+     */
+    public long getCount() {
+        return total.sum();
+    }
+
+    /**
+     * Gets the average of the values recorded.
+     * @return The mean, or 0 if there are no values.
+     */
+    public double getMean() {
+        long count = total.sum();
+        return count == 0 ? 0 : (double) sum.sum() / count;
+    }
+
+    /**
+     * Gets the maximum value recorded.
+     * @return The maximum, or 0 if there are no values.
+     */
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Estimates a percentile.
+     * @param percentile The percentile, between 0 and 100.
+     * @return The value below which that percentage of values fall, or 0 if there are no values.
+     */
+    public long percentile(double percentile) {
+        long rank = (long) Math.ceil(total.sum() * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            long count = counts.get(i);
+            seen += count;
+            if (seen >= rank && count > 0) {
+                return Math.min(upperBound(i), max.get());
+            }
+        }
+        return max.get();
+    }
+
+    /**
+     * Finds the bucket of a value.
+     * @param value The value, not negative.
+     * @return The bucket index.
+     */
+    private int bucketOf(long value) {
+        int buckets = 1 << precision;
+        if (value < buckets) {
+            return (int) value; // Los valores pequeños tienen una cubeta propia
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) (value >>> (exponent - precision)) & (buckets - 1);
+        return ((exponent - precision + 1) << precision) + sub;
+    }
+
+    /**
+     * Finds the largest value that falls in a bucket.
+     * @param bucket The bucket index.
+     * @return The upper bound of the bucket.
+     */
+    private long upperBound(int bucket) {
+        int buckets = 1 << precision;
+        if (bucket < buckets) {
+            return bucket;
+        }
+        int shift = (bucket >>> precision) - 1;
+        long sub = bucket & (buckets - 1);
+        return ((buckets + sub + 1) << shift) - 1; // Para la última cubeta se desborda a Long.MAX_VALUE
+    }
+}
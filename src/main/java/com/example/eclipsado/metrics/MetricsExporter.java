@@ -0,0 +1,85 @@
+package com.example.eclipsado.metrics;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes a snapshot of the {@link MetricsRegistry} to a local file at a fixed period, replacing
+ * the file atomically so it can be read at any moment. It is configured with system properties:
+ * <ul>
+ *     <li>{@code eclipsado.metrics.file}: the snapshot file; without it nothing is exported.</li>
+ *     <li>{@code eclipsado.metrics.format}: {@code json} (default) or {@code text}.</li>
+ *     <li>{@code eclipsado.metrics.period}: the period in seconds (10 by default).</li>
+ * </ul>
+ * @author Brandon Fernandez
+ */
+public final class MetricsExporter {
+
+    /**
+     * System property with the path of the snapshot file.
+     */
+    public static final String FILE_PROPERTY = "eclipsado.metrics.file";
+
+    private static final System.Logger LOGGER = System.getLogger(MetricsExporter.class.getName());
+
+    /**
+     * Private constructor; this class only has static methods.
+     */
+    private MetricsExporter() {}
+
+    /**
+     * Starts the periodic export if {@value #FILE_PROPERTY} is set.
+     * @return true if the export was started.
+     */
+    public static boolean startFromSystemProperties() {
+        String file = System.getProperty(FILE_PROPERTY);
+        if (file == null || file.isBlank()) {
+            return false;
+        }
+        boolean json = !"text".equalsIgnoreCase(System.getProperty("eclipsado.metrics.format", "json"));
+        long period = Long.getLong("eclipsado.metrics.period", 10);
+        start(Path.of(file), json, period);
+        return true;
+    }
+
+    /**
+     * Starts exporting the metrics to a file and enables them.
+     * @param file          The snapshot file.
+     * @param json          true for JSON, false for text.
+     * @param periodSeconds The period between snapshots, in seconds.
+     */
+    public static void start(Path file, boolean json, long periodSeconds) {
+        MetricsRegistry registry = MetricsRegistry.getInstance();
+        registry.setEnabled(true);
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "metrics-exporter");
+            thread.setDaemon(true); // No impide que la aplicación se cierre
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(() -> export(registry, file, json), periodSeconds, periodSeconds, TimeUnit.SECONDS);
+        // Último volcado al cerrar, para no perder los datos desde el anterior
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> export(registry, file, json), "metrics-final-export"));
+    }
+
+    /**
+     * Writes one snapshot.
+     * @param registry The metrics.
+     * @param file     The snapshot file.
+     * @param json     true for JSON, false for text.
+     */
+    private static void export(MetricsRegistry registry, Path file, boolean json) {
+        try {
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.writeString(temporary, json ? registry.toJson() : registry.toText(), StandardCharsets.UTF_8);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "No se pudieron exportar las métricas", e);
+        }
+    }
+}
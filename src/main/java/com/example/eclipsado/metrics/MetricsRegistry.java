@@ -0,0 +1,159 @@
+package com.example.eclipsado.metrics;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process registry of the counters, timers and histograms of the game and the UI.
+ * The metrics are disabled unless the {@code eclipsado.metrics} system property is {@code true}
+ * or a snapshot file is configured for {@link MetricsExporter}; while disabled, recording only
+ * reads a volatile flag. The metrics are created on first use and are meant to be kept in
+ * static fields by the code that records them.
+ * Follows the singleton pattern.
+ * @author Brandon Fernandez
+ */
+public final class MetricsRegistry {
+
+    static final int PRECISION = 4; // Precisión de los histogramas y temporizadores: un 6% de error como mucho
+
+    private volatile boolean enabled = Boolean.getBoolean("eclipsado.metrics")
+            || System.getProperty(MetricsExporter.FILE_PROPERTY) != null; // Indica si se registran las métricas
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>(); // Contadores por nombre
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>(); // Temporizadores por nombre
+    private final Map<String, Histogram> histograms = new ConcurrentHashMap<>(); // Histogramas por nombre
+
+    /**
+     * Private constructor to prevent the creation of multiple instances of MetricsRegistry.
+     */
+    private MetricsRegistry() {}
+
+    /**
+     * Returns the only instance of MetricsRegistry.
+     * @return The instance of MetricsRegistry.
+     */
+    public static MetricsRegistry getInstance() {
+        return MetricsRegistryHolder.INSTANCE;
+    }
+
+    /**
+     * Indicates whether the metrics are being recorded.
+     * @return true if the metrics are enabled.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Turns the recording of metrics on or off.
+     * @param enabled true to record the metrics.
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets a counter, creating it if it does not exist.
+     * @param name The name of the counter.
+     * @return The counter.
+     */
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(name, key -> new Counter(this));
+    }
+
+    /**
+     * Gets a timer, creating it if it does not exist.
+     * @param name The name of the timer.
+     * @return The timer.
+     */
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(name, key -> new Timer(this));
+    }
+
+    /**
+     * Gets a histogram, creating it if it does not exist.
+     * @param name The name of the histogram.
+     * @return The histogram.
+     */
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(name, key -> new Histogram(this, PRECISION));
+    }
+
+    /**
+     * Writes the current value of every metric as a JSON object. Durations are in microseconds.
+     * @return The JSON text.
+     */
+    public String toJson() {
+        StringBuilder json = new StringBuilder(512).append("{\n  \"timestamp\": ").append(System.currentTimeMillis());
+        json.append(",\n  \"counters\": {");
+        String separator = "\n    ";
+        for (Map.Entry<String, Counter> counter : new TreeMap<>(counters).entrySet()) {
+            json.append(separator).append('"').append(counter.getKey()).append("\": ").append(counter.getValue().getCount());
+            separator = ",\n    ";
+        }
+        json.append("\n  },\n  \"timers\": {");
+        separator = "\n    ";
+        for (Map.Entry<String, Timer> timer : new TreeMap<>(timers).entrySet()) {
+            json.append(separator).append('"').append(timer.getKey()).append("\": ").append(histogramJson(timer.getValue().getDurations(), 1e3));
+            separator = ",\n    ";
+        }
+        json.append("\n  },\n  \"histograms\": {");
+        separator = "\n    ";
+        for (Map.Entry<String, Histogram> histogram : new TreeMap<>(histograms).entrySet()) {
+            json.append(separator).append('"').append(histogram.getKey()).append("\": ").append(histogramJson(histogram.getValue(), 1));
+            separator = ",\n    ";
+        }
+        return json.append("\n  }\n}\n").toString();
+    }
+
+    /**
+     * Writes the current value of every metric as aligned text, one metric per line. Durations are in microseconds.
+     * @return The text.
+     */
+    public String toText() {
+        StringBuilder text = new StringBuilder(512);
+        for (Map.Entry<String, Counter> counter : new TreeMap<>(counters).entrySet()) {
+            text.append(String.format(Locale.ROOT, "%-28s count=%d%n", counter.getKey(), counter.getValue().getCount()));
+        }
+        for (Map.Entry<String, Timer> timer : new TreeMap<>(timers).entrySet()) {
+            text.append(histogramText(timer.getKey() + " (µs)", timer.getValue().getDurations(), 1e3));
+        }
+        for (Map.Entry<String, Histogram> histogram : new TreeMap<>(histograms).entrySet()) {
+            text.append(histogramText(histogram.getKey(), histogram.getValue(), 1));
+        }
+        return text.toString();
+    }
+
+    /**
+     * Formats a histogram as a JSON object.
+     * @param histogram The histogram.
+     * @param scale     The divisor applied to the values.
+     * @return The JSON object.
+     */
+    private static String histogramJson(Histogram histogram, double scale) {
+        return String.format(Locale.ROOT, "{\"count\": %d, \"mean\": %.3f, \"p50\": %.3f, \"p99\": %.3f, \"max\": %.3f}",
+                histogram.getCount(), histogram.getMean() / scale, histogram.percentile(50) / scale,
+                histogram.percentile(99) / scale, histogram.getMax() / scale);
+    }
+
+    /**
+     * Formats a histogram as a line of text.
+     * @param name      The name of the metric.
+     * @param histogram The histogram.
+     * @param scale     The divisor applied to the values.
+     * @return The line.
+     */
+    private static String histogramText(String name, Histogram histogram, double scale) {
+        return String.format(Locale.ROOT, "%-28s count=%d mean=%.3f p50=%.3f p99=%.3f max=%.3f%n", name,
+                histogram.getCount(), histogram.getMean() / scale, histogram.percentile(50) / scale,
+                histogram.percentile(99) / scale, histogram.getMax() / scale);
+    }
+
+    /**
+     * Static inner class that maintains the only instance of MetricsRegistry.
+     */
+    private static class MetricsRegistryHolder {
+        private static final MetricsRegistry INSTANCE = new MetricsRegistry(); // Instancia única de MetricsRegistry
+    }
+}
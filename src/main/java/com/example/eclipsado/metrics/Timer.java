@@ -0,0 +1,52 @@
+package com.example.eclipsado.metrics;
+
+/**
+ * Timer of a {@link MetricsRegistry}: a {@link Histogram} of durations in nanoseconds.
+ * <pre>
+ * long start = timer.start();
+ * ...
+ * timer.stop(start);
+ * </pre>
+ * While the metrics are disabled, {@link #start()} does not read the clock and {@link #stop(long)} does nothing.
+ * @author Brandon Fernandez
+ */
+public final class Timer {
+
+    private final MetricsRegistry registry; // Registro que indica si las métricas están activas
+    private final Histogram durations; // Duraciones medidas, en nanosegundos
+
+    /**
+     * Creates a timer; use {@link MetricsRegistry#timer(String)}.
+     * @param registry The registry that owns the timer.
+     */
+    Timer(MetricsRegistry registry) {
+        this.registry = registry;
+        this.durations = new Histogram(registry, MetricsRegistry.PRECISION);
+    }
+
+    /**
+     * Starts measuring.
+     * @return The start time, or 0 if the metrics are disabled.
+     */
+    public long start() {
+        return registry.isEnabled() ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Records the time elapsed since {@link #start()}.
+     * @param start The value returned by {@link #start()}.
+     */
+    public void stop(long start) {
+        if (start != 0) {
+            durations.record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Gets the measured durations.
+     * @return The histogram of durations, in nanoseconds.
+     */
+    public Histogram getDurations() {
+        return durations;
+    }
+}
@@ -0,0 +1,494 @@
+package com.example.eclipsado.model;
+
+import java.text.Normalizer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Alphabet pack of a language: the letters that can be used in a secret word, the accented
+ * forms that count as the same letter, and the letters written with several characters.
+ * Each pack is compiled once into dense tables indexed by character, so normalizing,
+ * validating and indexing a character is a single array access:
+ * <ul>
+ * <li>the letter identifier of each character (upper or lower case, with or without accent),
+ * from 0 to {@link #size()} - 1, or -1 if it is not a letter of the pack;</li>
+ * <li>the lower-case form of each character, which keeps its accent so it can be shown;</li>
+ * <li>for each combining mark, the precomposed letter of each base character (decomposed input, NFD);</li>
+ * <li>the characters that start a multi-character letter, such as the Dutch "ij", which is written
+ * in the game as its single-character form "ĳ".</li>
+ * </ul>
+ * The identifiers fit in a {@code long}, so a set of letters is a bit mask.
+ * @author Brandon Fernandez
+ */
+public final class Alphabet {
+
+    /**
+     * Maximum number of letters of a pack (one bit per letter in a {@code long}).
+     */
+    public static final int MAX_SIZE = Long.SIZE;
+
+    /**
+     * Spanish: a-z and ñ; the accented vowels and ü count as the plain vowel.
+     */
+    public static final Alphabet SPANISH = new Alphabet(0, "es", "español", "abcdefghijklmnopqrstuvwxyzñ",
+            "áaéeíióoúuüu");
+
+    /**
+     * Portuguese: a-z; the accented vowels and ç count as the plain letter.
+     */
+    public static final Alphabet PORTUGUESE = new Alphabet(1, "pt", "portugués", "abcdefghijklmnopqrstuvwxyz",
+            "áaàaâaãaçcéeêeíióoôoõoúuüu");
+
+    /**
+     * French: a-z; the accented vowels and ç count as the plain letter.
+     */
+    public static final Alphabet FRENCH = new Alphabet(2, "fr", "francés", "abcdefghijklmnopqrstuvwxyz",
+            "àaâaäaçcéeèeêeëeîiïiôoöoùuûuüuÿy");
+
+    /**
+     * German: a-z plus ä, ö, ü and ß as letters of their own.
+     */
+    public static final Alphabet GERMAN = new Alphabet(3, "de", "alemán", "abcdefghijklmnopqrstuvwxyzäöüß", "");
+
+    /**
+     * Italian: a-z; the accented vowels count as the plain vowel.
+     */
+    public static final Alphabet ITALIAN = new Alphabet(4, "it", "italiano", "abcdefghijklmnopqrstuvwxyz",
+            "àaèeéeìiíiîiòoóoùuúu");
+
+    /**
+     * Dutch: a-z plus the letter "ij", written as "ĳ"; the accented vowels count as the plain vowel.
+     */
+    public static final Alphabet DUTCH = new Alphabet(5, "nl", "neerlandés", "abcdefghijklmnopqrstuvwxyzĳ",
+            "áaéeëeèeíiïióoöoúuüu", "ij", 'ĳ');
+
+    private static final List<Alphabet> PACKS = List.of(SPANISH, PORTUGUESE, FRENCH, GERMAN, ITALIAN, DUTCH);
+    private static final char FIRST_MARK = '\u0300'; // Primer signo diacrítico combinable
+    private static final char LAST_MARK = '\u036F'; // Último signo diacrítico combinable
+
+    private final int code; // Número del paquete en los ficheros
+    private final String tag; // Etiqueta del idioma (BCP 47)
+    private final String name; // Nombre del idioma, para los mensajes
+    private final char[] letters; // Letra en minúscula de cada identificador
+    private final byte[] ids; // Identificador de cada carácter (-1 si no es letra)
+    private final char[] lower; // Minúscula de cada letra, con su acento (0 si no es letra)
+    private final char[][] composed; // Letra compuesta por cada signo combinable y cada letra base (null si el signo no se usa)
+    private final boolean[] startsSequence; // Caracteres con los que empieza una letra de varios caracteres
+    private final String[] sequences; // Letras de varios caracteres, en minúscula
+    private final char[] sequenceLetters; // Forma de un carácter de cada letra de varios caracteres
+
+    /**
+     * Compiles a pack without multi-character letters.
+     * @param code    The number that identifies the pack in files.
+     * @param tag     The language tag.
+     * @param name    The name of the language.
+     * @param letters The letters, in lower case, in identifier order.
+     * @param folds   Pairs of characters: an accented form and the letter it counts as.
+     */
+    private Alphabet(int code, String tag, String name, String letters, String folds) {
+        this(code, tag, name, letters, folds, "", '\0');
+    }
+
+    /**
+     * Compiles a pack.
+     * @param code           The number that identifies the pack in files.
+     * @param tag            The language tag.
+     * @param name           The name of the language.
+     * @param letters        The letters, in lower case, in identifier order.
+     * @param folds          Pairs of characters: an accented form and the letter it counts as.
+     * @param sequence       A letter written with several characters, in lower case, or an empty string.
+     * @param sequenceLetter The single-character form of that letter, which must be one of {@code letters}.
+     */
+    private Alphabet(int code, String tag, String name, String letters, String folds, String sequence, char sequenceLetter) {
+        if (letters.length() > MAX_SIZE) {
+            throw new IllegalArgumentException("Un alfabeto no puede tener más de " + MAX_SIZE + " letras.");
+        }
+        this.code = code;
+        this.tag = tag;
+        this.name = name;
+        this.letters = letters.toCharArray();
+        this.sequences = sequence.isEmpty() ? new String[0] : new String[] {sequence};
+        this.sequenceLetters = sequence.isEmpty() ? new char[0] : new char[] {sequenceLetter};
+
+        // Tamaño de las tablas: el mayor carácter aceptado, en minúscula o mayúscula
+        String accepted = letters + folds;
+        int size = 'z' + 1;
+        for (int i = 0; i < accepted.length(); i++) {
+            size = Math.max(size, Math.max(accepted.charAt(i), Character.toUpperCase(accepted.charAt(i))) + 1);
+        }
+        this.ids = new byte[size];
+        this.lower = new char[size];
+        this.composed = new char[LAST_MARK - FIRST_MARK + 1][];
+        this.startsSequence = new boolean[size];
+        Arrays.fill(ids, (byte) -1);
+        for (int id = 0; id < letters.length(); id++) {
+            addCharacter(letters.charAt(id), id);
+        }
+        for (int i = 0; i + 1 < folds.length(); i += 2) {
+            addCharacter(folds.charAt(i), letters.indexOf(folds.charAt(i + 1)));
+        }
+        for (String multi : sequences) {
+            startsSequence[multi.charAt(0)] = true;
+            startsSequence[Character.toUpperCase(multi.charAt(0))] = true;
+        }
+    }
+
+    /**
+     * Registers a character, and its upper-case form, in the tables.
+     * @param c  The character, in lower case.
+     * @param id The identifier of the letter it counts as.
+     */
+    private void addCharacter(char c, int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Letra desconocida en el alfabeto " + tag + ": " + c);
+        }
+        char upper = Character.toUpperCase(c);
+        for (char form : new char[] {c, upper}) {
+            ids[form] = (byte) id;
+            lower[form] = c;
+            // Si la letra se descompone en base + signo (NFD), se guarda para componer la entrada descompuesta
+            String decomposed = Normalizer.normalize(String.valueOf(form), Normalizer.Form.NFD);
+            if (decomposed.length() == 2 && isCombiningMark(decomposed.charAt(1)) && decomposed.charAt(0) < ids.length) {
+                int mark = decomposed.charAt(1) - FIRST_MARK;
+                if (composed[mark] == null) {
+                    composed[mark] = new char[ids.length];
+                }
+                composed[mark][decomposed.charAt(0)] = form;
+            }
+        }
+    }
+
+    /**
+     * Gets every available pack.
+     * @return The packs, ordered by code.
+     */
+    public static List<Alphabet> packs() {
+        return PACKS;
+    }
+
+    /**
+     * Finds a pack by its language tag.
+     * @param tag The language tag, such as {@code es} or {@code de}.
+     * @return The pack.
+     * @throws IllegalArgumentException If there is no pack for that language.
+     */
+    public static Alphabet forTag(String tag) {
+        for (Alphabet alphabet : PACKS) {
+            if (alphabet.tag.equalsIgnoreCase(tag)) {
+                return alphabet;
+            }
+        }
+        throw new IllegalArgumentException("No hay alfabeto para el idioma: " + tag);
+    }
+
+    /**
+     * Finds a pack by the code stored in files.
+     * @param code The code.
+     * @return The pack.
+     * @throws IllegalArgumentException If there is no pack with that code.
+     */
+    public static Alphabet forCode(int code) {
+        if (code < 0 || code >= PACKS.size()) {
+            throw new IllegalArgumentException("Código de alfabeto desconocido: " + code);
+        }
+        return PACKS.get(code);
+    }
+
+    /**
+     * Returns the identifier of a letter, ignoring case and the accents that do not make a different letter.
+     * @param c The character.
+     * @return The letter identifier, or -1 if the character is not a letter of this pack.
+     */
+    public int letterId(char c) {
+        return c < ids.length ? ids[c] : -1;
+    }
+
+    /**
+     * Returns the normalized letter (lower case, without the accents that do not make a different letter) of an identifier.
+     * @param id The letter identifier.
+     * @return The normalized letter.
+     */
+    public char letterOf(int id) {
+        return letters[id];
+    }
+
+    /**
+     * Normalizes a letter, converting it to lower case and removing the accents that do not make a different letter.
+     * @param c The character.
+     * @return The normalized letter, or the same character if it is not a letter of this pack.
+     */
+    public char normalize(char c) {
+        int id = letterId(c);
+        return id < 0 ? c : letters[id];
+    }
+
+    /**
+     * Indicates whether a character is a (precomposed) letter of this pack.
+     * @param c The character.
+     * @return true if the character is a valid letter.
+     */
+    public boolean isLetter(char c) {
+        return c < ids.length && ids[c] >= 0;
+    }
+
+    /**
+     * Validates a secret word: it must only contain letters of this pack and have between
+     * {@code minLength} and {@code maxLength} letters. When both rules fail, the length is reported.
+     * A base letter followed by a combining mark and a multi-character letter count as one letter.
+     * @param word      The word entered by the player.
+     * @param minLength The minimum number of letters.
+     * @param maxLength The maximum number of letters.
+     * @return The validation result.
+     */
+    public ValidationResult validateWord(CharSequence word, int minLength, int maxLength) {
+        int count = 0;
+        boolean invalid = false;
+        char previous = 0; // Letra anterior que aún puede recibir un signo combinable
+        for (int i = 0; i < word.length(); i++) {
+            char c = word.charAt(i);
+            if (isCombiningMark(c)) {
+                // El signo se une a la letra anterior, que debe admitirlo
+                if (compose(previous, c) == 0) {
+                    invalid = true;
+                    count++; // Un signo suelto cuenta como un carácter más
+                }
+                previous = 0;
+                continue;
+            }
+            count++;
+            int sequence = sequenceAt(word, i);
+            if (sequence >= 0) {
+                i += sequences[sequence].length() - 1; // La letra de varios caracteres cuenta como una
+                previous = 0;
+            } else {
+                invalid |= !isLetter(c);
+                previous = c;
+            }
+        }
+
+        if (count < minLength) {
+            return ValidationResult.TOO_SHORT;
+        }
+        if (count > maxLength) {
+            return ValidationResult.TOO_LONG;
+        }
+        return invalid ? ValidationResult.INVALID_CHARACTER : ValidationResult.VALID;
+    }
+
+    /**
+     * Validates the input of a single letter. Surrounding whitespace is ignored and
+     * upper-case letters are accepted.
+     * @param input The text entered by the player.
+     * @return The validation result.
+     */
+    public ValidationResult validateLetter(CharSequence input) {
+        int start = trimStart(input);
+        int end = trimEnd(input, start);
+        int length = end - start;
+        if (length == 0) {
+            return ValidationResult.NOT_A_SINGLE_LETTER;
+        }
+        int sequence = sequenceAt(input, start);
+        if (sequence >= 0) {
+            return sequences[sequence].length() == length ? ValidationResult.VALID : ValidationResult.NOT_A_SINGLE_LETTER;
+        }
+        if (length > 2) {
+            return ValidationResult.NOT_A_SINGLE_LETTER;
+        }
+        char c = input.charAt(start);
+        if (length == 2) {
+            char mark = input.charAt(start + 1);
+            if (!isCombiningMark(mark)) {
+                return ValidationResult.NOT_A_SINGLE_LETTER;
+            }
+            return compose(c, mark) != 0 ? ValidationResult.VALID : ValidationResult.INVALID_CHARACTER;
+        }
+        return isLetter(c) ? ValidationResult.VALID : ValidationResult.INVALID_CHARACTER;
+    }
+
+    /**
+     * Returns the letter of an input accepted by {@link #validateLetter(CharSequence)},
+     * composed with its accent, in its single-character form and in lower case.
+     * @param input The text entered by the player.
+     * @return The letter.
+     */
+    public char parseLetter(CharSequence input) {
+        int start = trimStart(input);
+        int end = trimEnd(input, start);
+        int sequence = sequenceAt(input, start);
+        if (sequence >= 0) {
+            return sequenceLetters[sequence];
+        }
+        char c = input.charAt(start);
+        if (end - start == 2) {
+            c = compose(c, input.charAt(start + 1));
+        }
+        return lower[c];
+    }
+
+    /**
+     * Returns the word with its combining marks merged into the preceding letters (NFC form) and
+     * its multi-character letters replaced by their single-character form, keeping the case.
+     * A new string is only created when the word actually changes.
+     * @param word A word accepted by {@link #validateWord(CharSequence, int, int)}.
+     * @return The composed word, with one character per letter.
+     */
+    public String compose(String word) {
+        int first = -1;
+        for (int i = 0; i < word.length() && first < 0; i++) {
+            if (isCombiningMark(word.charAt(i)) || sequenceAt(word, i) >= 0) {
+                first = i;
+            }
+        }
+        if (first < 0) {
+            return word; // Ya tiene un carácter por letra
+        }
+
+        int start = Math.max(first - 1, 0);
+        StringBuilder result = new StringBuilder(word.length());
+        result.append(word, 0, start);
+        for (int i = start; i < word.length(); i++) {
+            char c = word.charAt(i);
+            int sequence = sequenceAt(word, i);
+            if (sequence >= 0) {
+                char letter = sequenceLetters[sequence];
+                result.append(Character.isUpperCase(c) ? Character.toUpperCase(letter) : letter);
+                i += sequences[sequence].length() - 1;
+                continue;
+            }
+            if (i + 1 < word.length() && isCombiningMark(word.charAt(i + 1))) {
+                char precomposed = compose(c, word.charAt(i + 1));
+                if (precomposed != 0) {
+                    c = precomposed;
+                    i++;
+                }
+            }
+            result.append(c);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Gets the number of letters of this pack.
+     * @return The number of letter identifiers.
+     */
+    public int size() {
+        return letters.length;
+    }
+
+    /**
+     * Gets the mask with every letter of this pack.
+     * @return A mask with one bit per letter identifier.
+     */
+    public long getFullMask() {
+        return letters.length == MAX_SIZE ? -1L : (1L << letters.length) - 1;
+    }
+
+    /**
+     * Gets the number that identifies this pack in files.
+     * @return The code.
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * Gets the language tag of this pack.
+     * @return The tag, such as {@code es}.
+     */
+    public String getTag() {
+        return tag;
+    }
+
+    /**
+     * Gets the name of the language, for messages.
+     * @return The name, in Spanish.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Finds the multi-character letter that starts at a position.
+     * @param text  The text.
+     * @param index The position.
+     * @return The index of the letter in {@link #sequences}, or -1 if none starts there.
+     */
+    private int sequenceAt(CharSequence text, int index) {
+        char c = text.charAt(index);
+        if (c >= startsSequence.length || !startsSequence[c]) {
+            return -1; // Caso habitual: una sola comprobación en la tabla
+        }
+        for (int s = 0; s < sequences.length; s++) {
+            String sequence = sequences[s];
+            if (index + sequence.length() > text.length()) {
+                continue;
+            }
+            boolean matches = true;
+            for (int k = 0; k < sequence.length() && matches; k++) {
+                char next = text.charAt(index + k);
+                matches = next < lower.length && lower[next] == sequence.charAt(k);
+            }
+            if (matches) {
+                return s;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Combines a base letter with a combining mark.
+     * @param base The base letter.
+     * @param mark The combining mark.
+     * @return The precomposed letter, or 0 if the combination is not a letter of this pack.
+     */
+    private char compose(char base, char mark) {
+        char[] forMark = composed[mark - FIRST_MARK];
+        return forMark == null || base >= forMark.length ? 0 : forMark[base];
+    }
+
+    /**
+     * Indicates whether a character is a combining diacritical mark.
+     * @param c The character.
+     * @return true for the characters from U+0300 to U+036F.
+     */
+    private static boolean isCombiningMark(char c) {
+        return c >= FIRST_MARK && c <= LAST_MARK;
+    }
+
+    /**
+     * Finds the first character that is not whitespace, as {@link String#trim()} does.
+     * @param input The text.
+     * @return The index of the first non-whitespace character.
+     */
+    private static int trimStart(CharSequence input) {
+        int start = 0;
+        while (start < input.length() && input.charAt(start) <= ' ') {
+            start++;
+        }
+        return start;
+    }
+
+    /**
+     * Finds the end of the text without trailing whitespace, as {@link String#trim()} does.
+     * @param input The text.
+     * @param start The index of the first non-whitespace character.
+     * @return The index after the last non-whitespace character.
+     */
+    private static int trimEnd(CharSequence input, int start) {
+        int end = input.length();
+        while (end > start && input.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
+    /**
+     * Returns the language tag of this pack.
+     * @return The tag.
+     */
+    @Override
+    public String toString() {
+        return tag;
+    }
+}
@@ -0,0 +1,276 @@
+package com.example.eclipsado.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Positional index of the words of a {@link WordDictionary}, used to suggest the words that are
+ * still possible in a game. For each word length it keeps one bit set per (position, letter), with
+ * a bit for every word that has that letter at that position, and one bit set per letter with the
+ * words that contain it. The words compatible with a game are found by intersecting the bit sets
+ * of its discovered letters and removing those of the letters that are known to be absent, so a
+ * query costs a few operations per 64 words instead of comparing every word.
+ * <p>
+ * The index of a length is built the first time it is needed and then kept until {@link #release()};
+ * it takes about {@code (length + 1) * 27} bits per word. Building one length only blocks the queries
+ * of that same length, and the queries take a {@link Clues} copy of the game, so they can run without
+ * holding any lock of the game. Letters are compared without accents. Instances are thread-safe.
+ * @author Brandon Fernandez
+ */
+public final class CandidateIndex {
+
+    private static final int LETTERS = LetterIndex.ALPHABET_SIZE;
+
+    private final WordDictionary dictionary; // Palabras indexadas
+    private final AtomicReferenceArray<Bucket> buckets = new AtomicReferenceArray<>(GameModel.MAX_WORD_LENGTH + 1); // Índice de cada longitud (null hasta que se usa)
+    private final Object[] buildLocks = new Object[GameModel.MAX_WORD_LENGTH + 1]; // Un cerrojo por longitud para construir su índice
+
+    /**
+     * Bit sets of the words of one length. A null bit set means that no word matches.
+     * @param words      The number of words of the length.
+     * @param letterAt   The words with each letter at each position, indexed by {@code position * LETTERS + letter}.
+     * @param containing The words that contain each letter.
+     */
+    private record Bucket(int words, long[][] letterAt, long[][] containing) {
+    }
+
+    /**
+     * What is known about the secret word of a game, copied from it so the index can be queried
+     * after releasing the game.
+     * @param alphabet  The alphabet of the game.
+     * @param displayed The word as shown to the player, with one character per letter.
+     * @param revealed  The discovered positions.
+     * @param guessed   The letters guessed so far.
+     */
+    public record Clues(Alphabet alphabet, String displayed, long revealed, long guessed) {
+
+        /**
+         * Copies the clues of a game.
+         * @param session The game.
+         * @return The clues.
+         */
+        public static Clues of(GameSession session) {
+            return new Clues(session.getAlphabet(), session.getDisplayedWord(), session.getRevealedPositions(),
+                    session.getGuessedLetters());
+        }
+    }
+
+    /**
+     * Creates the index of a dictionary. Nothing is built until the first query.
+     * @param dictionary The dictionary.
+     */
+    CandidateIndex(WordDictionary dictionary) {
+        this.dictionary = dictionary;
+        for (int length = 0; length < buildLocks.length; length++) {
+            buildLocks[length] = new Object();
+        }
+    }
+
+    /**
+     * Counts the dictionary words that agree with everything known about the secret word of a game:
+     * its length, the discovered letters (which cannot appear at the hidden positions either, because
+     * a letter reveals all its occurrences) and the letters guessed that are not in the word.
+     * @param session The game, which must use the Spanish alphabet of the dictionary.
+     * @return The number of compatible words.
+     */
+    public int count(GameSession session) {
+        return count(Clues.of(session));
+    }
+
+    /**
+     * Counts the dictionary words that agree with the clues of a game (see {@link #count(GameSession)}).
+     * @param clues The clues, which must use the Spanish alphabet of the dictionary.
+     * @return The number of compatible words.
+     */
+    public int count(Clues clues) {
+        long[] matches = matches(clues);
+        int count = 0;
+        if (matches != null) {
+            for (long block : matches) {
+                count += Long.bitCount(block);
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Lists the dictionary words that agree with everything known about the secret word of a game,
+     * in the order of the dictionary (by difficulty, then alphabetically).
+     * @param session The game, which must use the Spanish alphabet of the dictionary.
+     * @param limit   The maximum number of words returned.
+     * @return The compatible words; empty if the game is in another alphabet.
+     */
+    public List<String> suggest(GameSession session, int limit) {
+        return suggest(Clues.of(session), limit);
+    }
+
+    /**
+     * Lists the dictionary words that agree with the clues of a game (see {@link #suggest(GameSession, int)}).
+     * @param clues The clues.
+     * @param limit The maximum number of words returned.
+     * @return The compatible words; empty if the game is in another alphabet.
+     */
+    public List<String> suggest(Clues clues, int limit) {
+        long[] matches = matches(clues);
+        List<String> words = new ArrayList<>(Math.max(0, Math.min(limit, 16)));
+        if (matches == null) {
+            return words;
+        }
+        for (int block = 0; block < matches.length && words.size() < limit; block++) {
+            for (long rest = matches[block]; rest != 0 && words.size() < limit; rest &= rest - 1) {
+                words.add(dictionary.wordAt(clues.displayed().length(), block * Long.SIZE + Long.numberOfTrailingZeros(rest)));
+            }
+        }
+        return words;
+    }
+
+    /**
+     * Drops the bit sets built so far, to free their memory. They are built again when they are needed.
+     */
+    public void release() {
+        for (int length = 0; length < buckets.length(); length++) {
+            buckets.set(length, null);
+        }
+    }
+
+    /**
+     * Intersects the bit sets of what is known about a game.
+     * @param clues The clues of the game.
+     * @return One bit per compatible word, or null if no word can match.
+     */
+    private long[] matches(Clues clues) {
+        if (clues.alphabet() != Alphabet.SPANISH) {
+            return null; // El diccionario solo tiene palabras en español
+        }
+        int length = clues.displayed().length();
+        Bucket bucket = bucket(length);
+        if (bucket == null) {
+            return null;
+        }
+
+        long[] matches = new long[blocks(bucket.words())];
+        Arrays.fill(matches, -1L);
+        if (bucket.words() % Long.SIZE != 0) {
+            matches[matches.length - 1] = (1L << bucket.words() % Long.SIZE) - 1; // Sin palabras de más en el último bloque
+        }
+        long revealed = clues.revealed();
+        long present = 0; // Letras descubiertas
+        for (long rest = revealed; rest != 0; rest &= rest - 1) {
+            int position = Long.numberOfTrailingZeros(rest);
+            int letter = LetterIndex.letterId(clues.displayed().charAt(position));
+            present |= 1L << letter;
+            if (!and(matches, bucket.letterAt()[position * LETTERS + letter])) {
+                return null;
+            }
+        }
+        // Una letra descubierta aparece en todas sus posiciones: las ocultas tienen otras letras
+        long hidden = ~revealed & (length == Long.SIZE ? -1L : (1L << length) - 1);
+        for (long rest = hidden; rest != 0; rest &= rest - 1) {
+            int position = Long.numberOfTrailingZeros(rest);
+            for (long letters = present; letters != 0; letters &= letters - 1) {
+                andNot(matches, bucket.letterAt()[position * LETTERS + Long.numberOfTrailingZeros(letters)]);
+            }
+        }
+        // Las letras intentadas que no se descubrieron no están en la palabra
+        for (long letters = clues.guessed() & ~present; letters != 0; letters &= letters - 1) {
+            andNot(matches, bucket.containing()[Long.numberOfTrailingZeros(letters)]);
+        }
+        return matches;
+    }
+
+    /**
+     * Gets the index of a length, building it the first time. Only the queries of the same
+     * length wait while it is built.
+     * @param length The number of letters.
+     * @return The index, or null if the dictionary has no words of that length.
+     */
+    private Bucket bucket(int length) {
+        if (length >= buckets.length() || dictionary.count(length) == 0) {
+            return null;
+        }
+        Bucket bucket = buckets.get(length);
+        if (bucket == null) {
+            synchronized (buildLocks[length]) {
+                bucket = buckets.get(length); // Otro hilo pudo construirlo mientras se esperaba
+                if (bucket == null) {
+                    bucket = build(length);
+                    buckets.set(length, bucket);
+                }
+            }
+        }
+        return bucket;
+    }
+
+    /**
+     * Builds the bit sets of the words of one length, reading each letter once from the dictionary.
+     * @param length The number of letters.
+     * @return The index of the length.
+     */
+    private Bucket build(int length) {
+        int words = dictionary.count(length);
+        long[][] letterAt = new long[length * LETTERS][];
+        long[][] containing = new long[LETTERS][];
+        for (int word = 0; word < words; word++) {
+            long bit = 1L << word; // Desplazamiento módulo 64: el bit de la palabra dentro de su bloque
+            int block = word / Long.SIZE;
+            for (int position = 0; position < length; position++) {
+                int letter = LetterIndex.letterId(dictionary.letterAt(length, word, position));
+                int slot = position * LETTERS + letter;
+                if (letterAt[slot] == null) {
+                    letterAt[slot] = new long[blocks(words)];
+                }
+                letterAt[slot][block] |= bit;
+            }
+            for (long rest = dictionary.maskAt(length, word) & 0xFFFFFFFFL; rest != 0; rest &= rest - 1) {
+                int letter = Long.numberOfTrailingZeros(rest);
+                if (containing[letter] == null) {
+                    containing[letter] = new long[blocks(words)];
+                }
+                containing[letter][block] |= bit;
+            }
+        }
+        return new Bucket(words, letterAt, containing);
+    }
+
+    /**
+     * Keeps only the words that are also in another bit set.
+     * @param matches The words that match so far.
+     * @param words   The other bit set, or null if it is empty.
+     * @return false if no word remains.
+     */
+    private static boolean and(long[] matches, long[] words) {
+        if (words == null) {
+            return false;
+        }
+        long any = 0;
+        for (int i = 0; i < matches.length; i++) {
+            matches[i] &= words[i];
+            any |= matches[i];
+        }
+        return any != 0;
+    }
+
+    /**
+     * Removes the words of another bit set.
+     * @param matches The words that match so far.
+     * @param words   The words to remove, or null if there are none.
+     */
+    private static void andNot(long[] matches, long[] words) {
+        if (words != null) {
+            for (int i = 0; i < matches.length; i++) {
+                matches[i] &= ~words[i];
+            }
+        }
+    }
+
+    /**
+     * Computes the number of 64-bit blocks needed to hold one bit per word.
+     * @param words The number of words.
+     * @return The number of blocks.
+     */
+    private static int blocks(int words) {
+        return (words + Long.SIZE - 1) / Long.SIZE;
+    }
+}
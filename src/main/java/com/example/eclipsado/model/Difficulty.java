@@ -0,0 +1,28 @@
+package com.example.eclipsado.model;
+
+/**
+ * Difficulty of a secret word. A word is easier when its distinct letters are common in Spanish,
+ * because the player is more likely to guess them.
+ * @author Brandon Fernandez
+ */
+public enum Difficulty {
+    /** The distinct letters cover at least 50% of Spanish text. */
+    EASY,
+    /** The distinct letters cover between 35% and 50% of Spanish text. */
+    MEDIUM,
+    /** The distinct letters cover less than 35% of Spanish text. */
+    HARD;
+
+    /**
+     * Classifies a word from the letters it contains.
+     * @param letters A mask with one bit per letter identifier of {@link LetterIndex}.
+     * @return The difficulty of the word.
+     */
+    public static Difficulty of(long letters) {
+        double coverage = LetterFrequency.coverage(letters);
+        if (coverage >= 50.0) {
+            return EASY;
+        }
+        return coverage >= 35.0 ? MEDIUM : HARD;
+    }
+}
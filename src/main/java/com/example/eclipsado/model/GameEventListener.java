@@ -0,0 +1,27 @@
+package com.example.eclipsado.model;
+
+/**
+ * Receives the moves of a {@link GameSession} as they are played, for example to save them.
+ * The methods are called on the thread that plays the game, so they must return quickly.
+ * @author Brandon Fernandez
+ */
+public interface GameEventListener {
+
+    /**
+     * Called when a new letter is guessed, whether it is in the word or not. Invalid and repeated guesses are not reported.
+     * @param letterId The identifier of the letter in {@link LetterIndex}.
+     */
+    void letterGuessed(int letterId);
+
+    /**
+     * Called when the whole word is guessed, whether it is right or not. Words with invalid characters are not reported.
+     * @param word The word guessed, with one character per letter; it must be copied if it is kept.
+     */
+    void wordGuessed(CharSequence word);
+
+    /**
+     * Called when a hint reveals a letter.
+     * @param letterId The identifier of the revealed letter in {@link LetterIndex}.
+     */
+    void hintUsed(int letterId);
+}
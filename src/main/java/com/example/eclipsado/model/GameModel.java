@@ -1,13 +1,29 @@
 package com.example.eclipsado.model;
 
+import java.util.random.RandomGenerator;
+
 /**
  * This class represents the game's model.
  * Follows the singleton pattern to ensure only one instance of the secret word exists during the game.
+ * It holds the word of the desktop game only; the headless server keeps its games in a session store.
+ * It is safe to use from several threads.
  * @author Brandon Fernandez
  */
 public class GameModel {
-    private static GameModel instance; // Instancia única de la clase
-    private String secretWord; // Palabra secreta del juego
+
+    /**
+     * Minimum number of letters of the secret word.
+     */
+    public static final int MIN_WORD_LENGTH = 6;
+
+    /**
+     * Maximum number of letters of the secret word.
+     */
+    public static final int MAX_WORD_LENGTH = 12;
+
+    private volatile String secretWord; // Palabra secreta del juego
+    private volatile WordDictionary dictionary; // Lista de palabras para elegir la palabra secreta automáticamente
+    private volatile GameRules rules = GameRules.DEFAULT; // Reglas de la partida de escritorio
 
     /**
      * Private constructor to prevent the creation of multiple instances of GameModel.
@@ -19,10 +35,7 @@ public class GameModel {
      * @return The single instance of GameModel.
      */
     public static GameModel getInstance() {
-        if (instance == null) {
-            instance = new GameModel(); // Crea una nueva instancia si no existe
-        }
-        return instance;
+        return GameModelHolder.INSTANCE;
     }
 
     /**
@@ -40,6 +53,64 @@ public class GameModel {
     public void setSecretWord(String secretWord) {
         this.secretWord = secretWord;
     }
-}
 
+    /**
+     * Gets the word list used to choose secret words automatically.
+     * @return The dictionary, or null if none has been loaded.
+     */
+    public WordDictionary getDictionary() {
+        return dictionary;
+    }
 
+    /**
+     * Sets the word list used to choose secret words automatically.
+     * @param dictionary The dictionary.
+     */
+    public void setDictionary(WordDictionary dictionary) {
+        this.dictionary = dictionary;
+    }
+
+    /**
+     * Gets the rules of the desktop game.
+     * @return The rules; the classic ones unless others were loaded.
+     */
+    public GameRules getRules() {
+        return rules;
+    }
+
+    /**
+     * Sets the rules of the desktop game. They apply from the next game.
+     * @param rules The rules.
+     */
+    public void setRules(GameRules rules) {
+        this.rules = rules;
+    }
+
+    /**
+     * Chooses a random secret word from the dictionary and stores it as the current secret word.
+     * @param length     The number of letters, between {@link #MIN_WORD_LENGTH} and {@link #MAX_WORD_LENGTH}.
+     * @param difficulty The difficulty of the word.
+     * @param random     The random generator.
+     * @return The chosen word.
+     * @throws IllegalStateException If there is no dictionary or it has no words of that length and difficulty.
+     */
+    public String drawSecretWord(int length, Difficulty difficulty, RandomGenerator random) {
+        WordDictionary words = dictionary; // Una sola lectura del campo compartido
+        if (words == null) {
+            throw new IllegalStateException("No se ha cargado ninguna lista de palabras.");
+        }
+        String word = words.randomWord(length, difficulty, random);
+        if (word == null) {
+            throw new IllegalStateException("No hay palabras de " + length + " letras con dificultad " + difficulty + ".");
+        }
+        secretWord = word;
+        return word;
+    }
+
+    /**
+     * Static inner class that maintains the only instance of GameModel.
+     */
+    private static class GameModelHolder {
+        private static final GameModel INSTANCE = new GameModel(); // Instancia única de GameModel
+    }
+}
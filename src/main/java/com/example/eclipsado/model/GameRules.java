@@ -0,0 +1,371 @@
+package com.example.eclipsado.model;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Properties;
+import java.util.random.RandomGenerator;
+
+/**
+ * Rules of a variant of the game: the length of the secret word, the letters that can be used,
+ * the attempts and hints of each game and how much of the sun is covered after each mistake.
+ * The rules are read once from a properties file and compiled into immutable tables (a mask of
+ * allowed letters and the eclipse coverage for each number of remaining attempts), so the checks
+ * made on every move are a table lookup. Instances are immutable and several variants can be used
+ * at the same time, for example one per server.
+ * <p>
+ * Keys of the file, all optional (the default is the classic game):
+ * <pre>
+ * name=clásico
+ * alphabet=es
+ * word.min-length=6
+ * word.max-length=12
+ * attempts=5
+ * hints=3
+ * hint-policy=RANDOM
+ * letters=abcdefghijklmnñopqrstuvwxyz
+ * eclipse.coverage=0,0.2,0.4,0.6,0.8,1
+ * </pre>
+ * {@code eclipse.coverage} has one value per number of mistakes, from 0 to {@code attempts}; by
+ * default the sun is covered in equal steps. {@code alphabet} is the tag of an {@link Alphabet} pack
+ * and {@code letters} defaults to every letter of that alphabet.
+ * @author Brandon Fernandez
+ */
+public final class GameRules {
+
+    /**
+     * Rules of the classic game.
+     */
+    public static final GameRules DEFAULT = new GameRules(new Properties());
+
+    /**
+     * System property with the path of the rules file of the desktop game.
+     */
+    public static final String FILE_PROPERTY = "eclipsado.rules";
+
+    private static final System.Logger LOGGER = System.getLogger(GameRules.class.getName());
+    private static final Path DEFAULT_FILE = Path.of(System.getProperty("user.home"), ".eclipsado", "reglas.properties");
+
+    private final String name; // Nombre de la variante
+    private final Alphabet alphabet; // Idioma de las palabras y las letras
+    private final int minLength; // Letras mínimas de la palabra secreta
+    private final int maxLength; // Letras máximas de la palabra secreta
+    private final int maxAttempts; // Fallos permitidos por partida
+    private final int maxHints; // Ayudas permitidas por partida
+    private final HintPolicy hintPolicy; // Estrategia para elegir la letra de cada ayuda
+    private final long allowedLetters; // Letras permitidas (un bit por identificador del alfabeto)
+    private final double[] coverage; // Fracción del sol cubierta según los intentos restantes
+
+    /**
+     * Compiles the rules of a variant.
+     * @param properties The rules; missing keys take the value of the classic game.
+     * @throws IllegalArgumentException If a value is not valid.
+     */
+    private GameRules(Properties properties) {
+        this.name = properties.getProperty("name", "clásico");
+        this.alphabet = Alphabet.forTag(properties.getProperty("alphabet", Alphabet.SPANISH.getTag()).strip());
+        this.minLength = intValue(properties, "word.min-length", GameModel.MIN_WORD_LENGTH);
+        this.maxLength = intValue(properties, "word.max-length", GameModel.MAX_WORD_LENGTH);
+        this.maxAttempts = intValue(properties, "attempts", GameSession.DEFAULT_MAX_ATTEMPTS);
+        this.maxHints = intValue(properties, "hints", GameSession.DEFAULT_MAX_HINTS);
+        this.hintPolicy = hintPolicy(properties.getProperty("hint-policy", HintPolicy.RANDOM.name()));
+        if (minLength < 1 || minLength > maxLength || maxLength > GameModel.MAX_WORD_LENGTH) {
+            throw new IllegalArgumentException("La longitud de la palabra debe estar entre 1 y " + GameModel.MAX_WORD_LENGTH + ".");
+        }
+        if (maxAttempts < 1 || maxAttempts > Byte.MAX_VALUE || maxHints < 0 || maxHints > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Los intentos y las ayudas deben estar entre 1 y " + Byte.MAX_VALUE + ".");
+        }
+        String letters = properties.getProperty("letters");
+        this.allowedLetters = letters == null ? alphabet.getFullMask() : compileLetters(alphabet, letters);
+        this.coverage = compileCoverage(properties.getProperty("eclipse.coverage"), maxAttempts);
+    }
+
+    /**
+     * Reads the rules of a variant from a properties file (UTF-8).
+     * @param file The rules file.
+     * @return The compiled rules.
+     * @throws IOException              If the file cannot be read.
+     * @throws IllegalArgumentException If a value is not valid.
+     */
+    public static GameRules load(Path file) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file)) {
+            properties.load(reader);
+        }
+        return new GameRules(properties);
+    }
+
+    /**
+     * Builds the rules of a variant from properties already loaded.
+     * @param properties The rules.
+     * @return The compiled rules.
+     * @throws IllegalArgumentException If a value is not valid.
+     */
+    public static GameRules of(Properties properties) {
+        return new GameRules(properties);
+    }
+
+    /**
+     * Reads the rules of the desktop game: the file named by {@value #FILE_PROPERTY}, or
+     * {@code ~/.eclipsado/reglas.properties} if it exists. If the file cannot be used, the classic rules apply.
+     * @return The compiled rules.
+     */
+    public static GameRules loadFromSystemProperties() {
+        return loadFromSystemProperties(System.getProperty(FILE_PROPERTY), DEFAULT_FILE);
+    }
+
+    /**
+     * Reads the rules of the desktop game. The configured file always wins: if it is set but cannot be
+     * used, the classic rules apply and the default file is not read.
+     * @param configured  The value of {@value #FILE_PROPERTY}, or null if it is not set.
+     * @param defaultFile The file read when nothing is configured, if it exists.
+     * @return The compiled rules.
+     */
+    static GameRules loadFromSystemProperties(String configured, Path defaultFile) {
+        Path file = configured != null ? Path.of(configured) : defaultFile;
+        if (configured == null && !Files.exists(file)) {
+            return DEFAULT;
+        }
+        try {
+            return load(file);
+        } catch (IOException | IllegalArgumentException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "No se pudieron leer las reglas; se usan las del juego clásico", e);
+            return DEFAULT;
+        }
+    }
+
+    /**
+     * Creates a game with these rules.
+     * @param secretWord The secret word.
+     * @param random     The random generator used to pick hints.
+     * @return The new game.
+     */
+    public GameSession newSession(String secretWord, RandomGenerator random) {
+        return new GameSession(secretWord, maxAttempts, maxHints, hintPolicy, random, alphabet);
+    }
+
+    /**
+     * Validates a secret word: its length and its letters must be allowed by these rules.
+     * @param word The word entered by the player.
+     * @return The validation result.
+     */
+    public ValidationResult validateWord(CharSequence word) {
+        return validateWord(word, minLength, maxLength);
+    }
+
+    /**
+     * Validates a guess of the whole word. Any length the game can index is accepted, because a word of
+     * the wrong length is a wrong guess, but its letters must be allowed by these rules, as single letters are.
+     * @param word The word entered by the player.
+     * @return The validation result.
+     */
+    public ValidationResult validateGuessedWord(CharSequence word) {
+        return validateWord(word, 1, LetterIndex.MAX_LENGTH);
+    }
+
+    /**
+     * Validates the length and the letters of a word.
+     * @param word      The word entered by the player.
+     * @param minLength The minimum number of letters.
+     * @param maxLength The maximum number of letters.
+     * @return The validation result.
+     */
+    private ValidationResult validateWord(CharSequence word, int minLength, int maxLength) {
+        ValidationResult result = alphabet.validateWord(word, minLength, maxLength);
+        if (result != ValidationResult.VALID || allowedLetters == alphabet.getFullMask()) {
+            return result;
+        }
+        String composed = alphabet.compose(word.toString()); // Solo crea otra cadena si hay acentos combinables
+        for (int i = 0; i < composed.length(); i++) {
+            if (!allows(composed.charAt(i))) {
+                return ValidationResult.INVALID_CHARACTER;
+            }
+        }
+        return ValidationResult.VALID;
+    }
+
+    /**
+     * Validates the input of a single letter, which must be allowed by these rules.
+     * @param input The text entered by the player.
+     * @return The validation result.
+     */
+    public ValidationResult validateLetter(CharSequence input) {
+        ValidationResult result = alphabet.validateLetter(input);
+        if (result == ValidationResult.VALID && !allows(alphabet.parseLetter(input))) {
+            return ValidationResult.INVALID_CHARACTER;
+        }
+        return result;
+    }
+
+    /**
+     * Indicates whether a letter can be used in this variant.
+     * @param letter The letter, with or without accent.
+     * @return true if the letter is allowed.
+     */
+    public boolean allows(char letter) {
+        int id = alphabet.letterId(letter);
+        return id >= 0 && (allowedLetters & (1L << id)) != 0;
+    }
+
+    /**
+     * Gets the fraction of the sun covered when the player has some attempts left.
+     * @param remainingAttempts The attempts the player has left.
+     * @return A value between 0 (no mistakes) and 1 (no attempts left).
+     */
+    public double eclipseCoverage(int remainingAttempts) {
+        return coverage[Math.max(0, Math.min(remainingAttempts, maxAttempts))];
+    }
+
+    /**
+     * Gets the name of the variant.
+     * @return The name.
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Gets the alphabet of the variant.
+     * @return The alphabet of the secret words and the guesses.
+     */
+    public Alphabet getAlphabet() {
+        return alphabet;
+    }
+
+    /**
+     * Gets the minimum number of letters of the secret word.
+     * @return The minimum length.
+     */
+    public int getMinLength() {
+        return minLength;
+    }
+
+    /**
+     * Gets the maximum number of letters of the secret word.
+     * @return The maximum length.
+     */
+    public int getMaxLength() {
+        return maxLength;
+    }
+
+    /**
+     * Gets the number of wrong guesses allowed in each game.
+     * @return The number of attempts.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Gets the number of hints allowed in each game.
+     * @return The number of hints.
+     */
+    public int getMaxHints() {
+        return maxHints;
+    }
+
+    /**
+     * Gets the strategy used to choose the letter revealed by each hint.
+     * @return The hint policy.
+     */
+    public HintPolicy getHintPolicy() {
+        return hintPolicy;
+    }
+
+    /**
+     * Gets the letters allowed in this variant.
+     * @return A mask with one bit per letter identifier of the alphabet.
+     */
+    public long getAllowedLetters() {
+        return allowedLetters;
+    }
+
+    /**
+     * Reads a whole number.
+     * @param properties   The rules.
+     * @param key          The key.
+     * @param defaultValue The value when the key is missing.
+     * @return The number.
+     */
+    private static int intValue(Properties properties, String key, int defaultValue) {
+        String value = properties.getProperty(key);
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value.strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor no válido para " + key + ": " + value, e);
+        }
+    }
+
+    /**
+     * Reads the hint policy.
+     * @param value The name of a {@link HintPolicy}.
+     * @return The policy.
+     */
+    private static HintPolicy hintPolicy(String value) {
+        try {
+            return HintPolicy.valueOf(value.strip());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Estrategia de ayudas desconocida: " + value, e);
+        }
+    }
+
+    /**
+     * Compiles the list of allowed letters into a mask.
+     * @param alphabet The alphabet of the variant.
+     * @param letters  The letters, in any case and with or without accents.
+     * @return A mask with one bit per letter identifier.
+     */
+    private static long compileLetters(Alphabet alphabet, String letters) {
+        letters = alphabet.compose(letters); // Admite letras de varios caracteres, como «ij»
+        long mask = 0;
+        for (int i = 0; i < letters.length(); i++) {
+            char c = letters.charAt(i);
+            if (c == ',' || Character.isWhitespace(c)) {
+                continue; // Separadores opcionales
+            }
+            int id = alphabet.letterId(c);
+            if (id < 0) {
+                throw new IllegalArgumentException("Letra no válida en las reglas: " + c);
+            }
+            mask |= 1L << id;
+        }
+        if (mask == 0) {
+            throw new IllegalArgumentException("Las reglas deben permitir al menos una letra.");
+        }
+        return mask;
+    }
+
+    /**
+     * Compiles the eclipse coverage into a table indexed by the number of remaining attempts.
+     * @param values      The coverage for 0, 1... {@code maxAttempts} mistakes, separated by commas, or null for equal steps.
+     * @param maxAttempts The number of attempts of each game.
+     * @return The coverage for each number of remaining attempts.
+     */
+    private static double[] compileCoverage(String values, int maxAttempts) {
+        double[] table = new double[maxAttempts + 1];
+        if (values == null) {
+            for (int remaining = 0; remaining <= maxAttempts; remaining++) {
+                table[remaining] = 1.0 - remaining / (double) maxAttempts;
+            }
+            return table;
+        }
+        String[] steps = values.split(",");
+        if (steps.length != maxAttempts + 1) {
+            throw new IllegalArgumentException("eclipse.coverage debe tener " + (maxAttempts + 1) + " valores.");
+        }
+        for (int mistakes = 0; mistakes <= maxAttempts; mistakes++) {
+            double value;
+            try {
+                value = Double.parseDouble(steps[mistakes].strip());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Valor no válido en eclipse.coverage: " + steps[mistakes], e);
+            }
+            if (!(value >= 0.0 && value <= 1.0)) {
+                throw new IllegalArgumentException("Los valores de eclipse.coverage deben estar entre 0 y 1.");
+            }
+            table[maxAttempts - mistakes] = value;
+        }
+        return table;
+    }
+}
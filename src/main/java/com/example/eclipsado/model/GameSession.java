@@ -0,0 +1,421 @@
+package com.example.eclipsado.model;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Headless game engine that holds the state of a single game of "El Sol Eclipsado".
+ * It contains the rules that used to live in the JavaFX controller (guessing letters or the whole word,
+ * hints, attempts and win/loss detection) without depending on JavaFX, so many sessions
+ * can run in the same JVM. Guesses and hints do not allocate memory: the word is indexed once
+ * by a {@link LetterIndex} and the game progress is kept in bit masks.
+ * A session is not thread-safe; each session must be used by one thread at a time.
+ * @author Brandon Fernandez
+ */
+public class GameSession {
+
+    /**
+     * Default number of wrong guesses allowed.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+    /**
+     * Default number of hints allowed.
+     */
+    public static final int DEFAULT_MAX_HINTS = 3;
+
+    /**
+     * Random generator shared by all the sessions. It delegates to {@link ThreadLocalRandom},
+     * so it can be used from any thread without contention or allocation.
+     */
+    public static final RandomGenerator SHARED_RANDOM = () -> ThreadLocalRandom.current().nextLong();
+
+    private static final char HIDDEN = '_'; // Carácter para las letras no descubiertas
+
+    private final String secretWord; // La palabra secreta a ser adivinada (en minúsculas)
+    private final LetterIndex index; // Índice de posiciones de cada letra de la palabra
+    private final int maxAttempts; // Número de fallos permitidos
+    private final int maxHints; // Límite máximo de veces que se puede usar la ayuda
+    private final HintPolicy hintPolicy; // Estrategia para elegir la letra de cada ayuda
+    private final RandomGenerator random; // Generador usado para elegir las ayudas
+    private int remainingAttempts; // Intentos restantes para adivinar la palabra
+    private int hintsUsed; // Contador para las ayudas utilizadas
+    private long guessedLetters; // Conjunto de letras ya adivinadas (un bit por letra)
+    private long revealedPositions; // Posiciones ya descubiertas (un bit por posición)
+    private int hintCursor; // Siguiente posición del ranking de letras que se considera para una ayuda
+    private int lastWordDistance = -1; // Distancia de edición del último intento de palabra completa (-1 si no hubo)
+    private long lastWordMatches; // Posiciones acertadas en el último intento de palabra completa
+    private GameEventListener listener; // Recibe cada jugada, por ejemplo para guardarla (puede ser null)
+
+    /**
+     * Creates a session with the default number of attempts and hints.
+     * @param secretWord The secret word to be guessed.
+     */
+    public GameSession(String secretWord) {
+        this(secretWord, DEFAULT_MAX_ATTEMPTS, DEFAULT_MAX_HINTS, HintPolicy.RANDOM, SHARED_RANDOM);
+    }
+
+    /**
+     * Creates a session with custom limits.
+     * @param secretWord  The secret word to be guessed.
+     * @param maxAttempts The number of wrong guesses allowed.
+     * @param maxHints    The number of hints allowed.
+     * @param random      The random generator used to pick hints.
+     */
+    public GameSession(String secretWord, int maxAttempts, int maxHints, RandomGenerator random) {
+        this(secretWord, maxAttempts, maxHints, HintPolicy.RANDOM, random);
+    }
+
+    /**
+     * Creates a session with custom limits and hint policy.
+     * @param secretWord  The secret word to be guessed.
+     * @param maxAttempts The number of wrong guesses allowed.
+     * @param maxHints    The number of hints allowed.
+     * @param hintPolicy  The strategy used to choose the letter revealed by each hint.
+     * @param random      The random generator used by {@link HintPolicy#RANDOM}.
+     */
+    public GameSession(String secretWord, int maxAttempts, int maxHints, HintPolicy hintPolicy, RandomGenerator random) {
+        this(secretWord, maxAttempts, maxHints, hintPolicy, random, Alphabet.SPANISH);
+    }
+
+    /**
+     * Creates a session in any language.
+     * @param secretWord  The secret word to be guessed, with one character per letter (see {@link Alphabet#compose(String)}).
+     * @param maxAttempts The number of wrong guesses allowed.
+     * @param maxHints    The number of hints allowed.
+     * @param hintPolicy  The strategy used to choose the letter revealed by each hint.
+     * @param random      The random generator used by {@link HintPolicy#RANDOM}.
+     * @param alphabet    The alphabet of the secret word and the guesses.
+     */
+    public GameSession(String secretWord, int maxAttempts, int maxHints, HintPolicy hintPolicy, RandomGenerator random,
+                       Alphabet alphabet) {
+        if (secretWord == null || secretWord.isEmpty()) {
+            throw new IllegalArgumentException("La palabra secreta no puede estar vacía.");
+        }
+        this.secretWord = secretWord.toLowerCase();
+        this.index = new LetterIndex(alphabet, this.secretWord);
+        this.maxAttempts = maxAttempts;
+        this.maxHints = maxHints;
+        this.hintPolicy = hintPolicy;
+        this.random = random;
+        this.remainingAttempts = maxAttempts;
+    }
+
+    /**
+     * Recreates a game from a saved snapshot of its progress.
+     * @param secretWord        The secret word to be guessed.
+     * @param maxAttempts       The number of wrong guesses allowed.
+     * @param maxHints          The number of hints allowed.
+     * @param hintPolicy        The strategy used to choose the letter revealed by each hint.
+     * @param random            The random generator used by {@link HintPolicy#RANDOM}.
+     * @param guessedLetters    The letters guessed so far ({@link #getGuessedLetters()}).
+     * @param revealedPositions The discovered positions ({@link #getRevealedPositions()}).
+     * @param remainingAttempts The attempts left.
+     * @param hintsUsed         The hints already used.
+     * @param alphabet          The alphabet of the secret word and the guesses.
+     * @return The restored session.
+     */
+    public static GameSession restore(String secretWord, int maxAttempts, int maxHints, HintPolicy hintPolicy,
+                                      RandomGenerator random, long guessedLetters, long revealedPositions,
+                                      int remainingAttempts, int hintsUsed, Alphabet alphabet) {
+        GameSession session = new GameSession(secretWord, maxAttempts, maxHints, hintPolicy, random, alphabet);
+        session.guessedLetters = guessedLetters;
+        session.revealedPositions = revealedPositions & session.index.getFullMask();
+        session.remainingAttempts = remainingAttempts;
+        session.hintsUsed = hintsUsed;
+        return session;
+    }
+
+    /**
+     * Sets the object that receives every guess and hint of this game.
+     * @param listener The listener, or null to stop reporting the moves.
+     */
+    public void setEventListener(GameEventListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Guesses a letter. Every occurrence of the letter (ignoring accents) is revealed.
+     * @param letter The letter guessed by the player.
+     * @return The outcome of the guess.
+     */
+    public GuessResult guess(char letter) {
+        if (isOver()) {
+            return GuessResult.GAME_OVER;
+        }
+        int id = index.getAlphabet().letterId(letter); // Normaliza mayúsculas y vocales con acento
+        if (id < 0) {
+            return GuessResult.INVALID;
+        }
+
+        // Verifica si la letra ya fue adivinada
+        long letterBit = 1L << id;
+        if ((guessedLetters & letterBit) != 0) {
+            return GuessResult.REPEATED;
+        }
+        guessedLetters |= letterBit; // Añade la letra a las adivinadas
+        if (listener != null) {
+            listener.letterGuessed(id);
+        }
+
+        // Verifica si la letra está en la palabra secreta y descubre todas sus posiciones
+        long positions = index.positionsOf(id);
+        if (positions != 0) {
+            revealedPositions |= positions;
+            return isWon() ? GuessResult.WON : GuessResult.CORRECT;
+        }
+        remainingAttempts--; // Reduce el número de intentos si la letra es incorrecta
+        return remainingAttempts > 0 ? GuessResult.WRONG : GuessResult.LOST;
+    }
+
+    /**
+     * Guesses the whole word. If it is the secret word (ignoring case and accents), every position is
+     * revealed and the game is won; otherwise it costs an attempt, like a wrong letter. In both cases
+     * the edit distance and the matching positions are kept as feedback for the player
+     * ({@link #getLastWordDistance()} and {@link #getLastWordMatches()}).
+     * @param word The word guessed by the player, with one character per letter (see {@link Alphabet#compose(String)}).
+     * @return The outcome of the guess: WON, WRONG, LOST, INVALID or GAME_OVER.
+     */
+    public GuessResult guessWord(CharSequence word) {
+        if (isOver()) {
+            return GuessResult.GAME_OVER;
+        }
+        int length = word.length();
+        if (length == 0 || length > LetterIndex.MAX_LENGTH) {
+            return GuessResult.INVALID;
+        }
+        Alphabet alphabet = index.getAlphabet();
+        for (int i = 0; i < length; i++) {
+            if (alphabet.letterId(word.charAt(i)) < 0) {
+                return GuessResult.INVALID;
+            }
+        }
+        if (listener != null) {
+            listener.wordGuessed(word);
+        }
+
+        lastWordDistance = WordMatcher.distance(index, word);
+        lastWordMatches = WordMatcher.matchingPositions(index, word);
+        if (lastWordDistance == 0) {
+            revealedPositions = index.getFullMask(); // Descubre la palabra entera
+            return GuessResult.WON;
+        }
+        remainingAttempts--; // Una palabra equivocada cuesta un intento, como una letra incorrecta
+        return remainingAttempts > 0 ? GuessResult.WRONG : GuessResult.LOST;
+    }
+
+    /**
+     * Reveals a letter of the secret word that has not been discovered yet, chosen by the hint policy.
+     * All the occurrences of that letter are uncovered.
+     * @return The outcome of the hint.
+     */
+    public HintResult useHint() {
+        if (isOver()) {
+            return HintResult.GAME_OVER;
+        }
+        if (hintsUsed >= maxHints) {
+            return HintResult.LIMIT_REACHED;
+        }
+        int letter = switch (hintPolicy) {
+            case RANDOM -> randomHiddenLetter();
+            case MOST_REVEALING -> nextRankedLetter(false);
+            case LEAST_REVEALING -> nextRankedLetter(true);
+        };
+        return revealHint(letter);
+    }
+
+    /**
+     * Uses a hint that reveals a given letter instead of one chosen by the hint policy.
+     * It is used to replay a saved game, where the letter of each hint is already known.
+     * @param letterId The identifier of the letter to reveal.
+     * @return The outcome of the hint; INVALID if the letter is not in the word or is already discovered.
+     */
+    public HintResult revealHint(int letterId) {
+        if (isOver()) {
+            return HintResult.GAME_OVER;
+        }
+        if (hintsUsed >= maxHints) {
+            return HintResult.LIMIT_REACHED;
+        }
+        // Solo se revelan letras de la palabra que sigan ocultas (el identificador puede venir de un fichero)
+        if (letterId < 0 || letterId >= index.getAlphabet().size() || !index.contains(letterId)
+                || (index.positionsOf(letterId) & ~revealedPositions) == 0) {
+            return HintResult.INVALID;
+        }
+        hintsUsed++; // Aumenta el contador de ayudas utilizadas
+        revealedPositions |= index.positionsOf(letterId); // Revela todas las ocurrencias de esa letra
+        if (listener != null) {
+            listener.hintUsed(letterId);
+        }
+        return isWon() ? HintResult.WON : HintResult.REVEALED;
+    }
+
+    /**
+     * Chooses the letter of a random hidden position without creating auxiliary lists.
+     * @return The letter identifier.
+     */
+    private int randomHiddenLetter() {
+        long hidden = index.getFullMask() & ~revealedPositions;
+        for (int skip = random.nextInt(Long.bitCount(hidden)); skip > 0; skip--) {
+            hidden &= hidden - 1; // Descarta la posición oculta más baja
+        }
+        return index.letterIdAt(Long.numberOfTrailingZeros(hidden));
+    }
+
+    /**
+     * Chooses the next hidden letter of the precomputed ranking. The cursor only moves forward
+     * because revealed letters never become hidden again, so each letter is skipped at most once.
+     * @param fromEnd true to walk the ranking from the least revealing letter.
+     * @return The letter identifier.
+     */
+    private int nextRankedLetter(boolean fromEnd) {
+        int last = index.distinctLetters() - 1;
+        int letter = index.rankedLetter(fromEnd ? last - hintCursor : hintCursor);
+        while ((index.positionsOf(letter) & ~revealedPositions) == 0) {
+            hintCursor++;
+            letter = index.rankedLetter(fromEnd ? last - hintCursor : hintCursor);
+        }
+        return letter;
+    }
+
+    /**
+     * Gets the alphabet of the game.
+     * @return The alphabet of the secret word and the guesses.
+     */
+    public Alphabet getAlphabet() {
+        return index.getAlphabet();
+    }
+
+    /**
+     * Gets the secret word in lower case.
+     * @return The secret word.
+     */
+    public String getSecretWord() {
+        return secretWord;
+    }
+
+    /**
+     * Gets the number of letters of the secret word.
+     * @return The length of the secret word.
+     */
+    public int length() {
+        return index.length();
+    }
+
+    /**
+     * Gets the discovered letter at a position of the word.
+     * @param index The position in the word.
+     * @return The letter, or '_' if it has not been discovered yet.
+     */
+    public char getDisplayedLetter(int index) {
+        return (revealedPositions & (1L << index)) != 0 ? secretWord.charAt(index) : HIDDEN;
+    }
+
+    /**
+     * Builds the progress of the discovered word, using '_' for the hidden letters.
+     * @return The discovered word.
+     */
+    public String getDisplayedWord() {
+        char[] displayedWord = new char[index.length()];
+        for (int i = 0; i < displayedWord.length; i++) {
+            displayedWord[i] = getDisplayedLetter(i);
+        }
+        return new String(displayedWord);
+    }
+
+    /**
+     * Gets the positions of the word that have been discovered.
+     * @return A mask with one bit per discovered position (bit 0 is the first letter).
+     */
+    public long getRevealedPositions() {
+        return revealedPositions;
+    }
+
+    /**
+     * Gets the letters guessed so far (hints not included).
+     * @return A mask with one bit per letter identifier of {@link LetterIndex}.
+     */
+    public long getGuessedLetters() {
+        return guessedLetters;
+    }
+
+    /**
+     * Gets the edit distance between the secret word and the last whole word guessed.
+     * @return The number of letters to insert, delete or change, or -1 if no word has been guessed.
+     */
+    public int getLastWordDistance() {
+        return lastWordDistance;
+    }
+
+    /**
+     * Gets the positions where the last whole word guessed had the same letter as the secret word.
+     * @return A mask with one bit per matching position (bit 0 is the first letter).
+     */
+    public long getLastWordMatches() {
+        return lastWordMatches;
+    }
+
+    /**
+     * Gets the number of attempts left.
+     * @return The remaining attempts.
+     */
+    public int getRemainingAttempts() {
+        return remainingAttempts;
+    }
+
+    /**
+     * Gets the number of hints already used.
+     * @return The hints used.
+     */
+    public int getHintsUsed() {
+        return hintsUsed;
+    }
+
+    /**
+     * Gets the number of wrong guesses allowed.
+     * @return The attempt limit.
+     */
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Gets the maximum number of hints allowed.
+     * @return The hint limit.
+     */
+    public int getMaxHints() {
+        return maxHints;
+    }
+
+    /**
+     * Gets the strategy used to choose the letter revealed by each hint.
+     * @return The hint policy.
+     */
+    public HintPolicy getHintPolicy() {
+        return hintPolicy;
+    }
+
+    /**
+     * Indicates whether the whole secret word has been discovered.
+     * @return true if the player has won.
+     */
+    public boolean isWon() {
+        return revealedPositions == index.getFullMask();
+    }
+
+    /**
+     * Indicates whether the player has run out of attempts.
+     * @return true if the player has lost.
+     */
+    public boolean isLost() {
+        return remainingAttempts <= 0;
+    }
+
+    /**
+     * Indicates whether the game has finished, either by winning or by losing.
+     * @return true if no more guesses are accepted.
+     */
+    public boolean isOver() {
+        return isWon() || isLost();
+    }
+}
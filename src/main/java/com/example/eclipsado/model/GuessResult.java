@@ -0,0 +1,22 @@
+package com.example.eclipsado.model;
+
+/**
+ * Possible outcomes of guessing a letter or the whole word in a {@link GameSession}.
+ * @author Brandon Fernandez
+ */
+public enum GuessResult {
+    /** The character is not a letter of the alphabet of the game. */
+    INVALID,
+    /** The letter had already been guessed. */
+    REPEATED,
+    /** The letter is in the secret word, but the word is not complete yet. */
+    CORRECT,
+    /** The letter completed the secret word, or the word guessed was the secret word. */
+    WON,
+    /** The letter is not in the secret word, or the word guessed was not the secret word, and attempts remain. */
+    WRONG,
+    /** The letter or the word guessed was wrong and no attempts remain. */
+    LOST,
+    /** The game had already finished before the guess. */
+    GAME_OVER
+}
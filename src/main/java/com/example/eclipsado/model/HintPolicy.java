@@ -0,0 +1,15 @@
+package com.example.eclipsado.model;
+
+/**
+ * Strategy used by a {@link GameSession} to choose which letter a hint reveals.
+ * The rankings are precomputed once per secret word by {@link LetterIndex}.
+ * @author Brandon Fernandez
+ */
+public enum HintPolicy {
+    /** Reveals the letter of a random hidden position, as the original game did. */
+    RANDOM,
+    /** Reveals the hidden letter that uncovers the most positions; ties go to the rarest letter in Spanish. */
+    MOST_REVEALING,
+    /** Reveals the hidden letter that uncovers the fewest positions; ties go to the most common letter in Spanish. */
+    LEAST_REVEALING
+}
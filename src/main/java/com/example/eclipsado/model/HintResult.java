@@ -0,0 +1,18 @@
+package com.example.eclipsado.model;
+
+/**
+ * Possible outcomes of asking for a hint in a {@link GameSession}.
+ * @author Brandon Fernandez
+ */
+public enum HintResult {
+    /** A letter was revealed, but the word is not complete yet. */
+    REVEALED,
+    /** The revealed letter completed the secret word. */
+    WON,
+    /** The maximum number of hints has already been used. */
+    LIMIT_REACHED,
+    /** The letter asked for is not a hidden letter of the secret word; no hint was used. */
+    INVALID,
+    /** The game had already finished before the hint. */
+    GAME_OVER
+}
@@ -0,0 +1,42 @@
+package com.example.eclipsado.model;
+
+/**
+ * Relative frequency of each letter in Spanish texts, indexed by the letter identifiers of {@link LetterIndex}.
+ * @author Brandon Fernandez
+ */
+public final class LetterFrequency {
+
+    // Frecuencia en porcentaje de cada letra (a-z y ñ), acentos incluidos en su vocal
+    private static final double[] PERCENT = {
+            12.53, 1.42, 4.68, 5.86, 13.68, 0.69, 1.01, 0.70, 6.25, 0.44, // a b c d e f g h i j
+            0.02, 4.97, 3.15, 6.71, 8.68, 2.51, 0.88, 6.87, 7.98, 4.63, // k l m n o p q r s t
+            3.93, 0.90, 0.01, 0.22, 0.90, 0.52, 0.31 // u v w x y z ñ
+    };
+
+    /**
+     * Private constructor; this class only has static methods.
+     */
+    private LetterFrequency() {}
+
+    /**
+     * Returns the frequency of a letter in Spanish.
+     * @param id The letter identifier.
+     * @return The frequency, as a percentage.
+     */
+    public static double percent(int id) {
+        return PERCENT[id];
+    }
+
+    /**
+     * Returns the combined frequency of a set of letters.
+     * @param letters A mask with one bit per letter identifier.
+     * @return The sum of the frequencies of the letters, as a percentage.
+     */
+    public static double coverage(long letters) {
+        double total = 0;
+        for (long rest = letters; rest != 0; rest &= rest - 1) {
+            total += PERCENT[Long.numberOfTrailingZeros(rest)];
+        }
+        return total;
+    }
+}
@@ -0,0 +1,220 @@
+package com.example.eclipsado.model;
+
+/**
+ * Precomputed index of a secret word over the normalized letters of an {@link Alphabet}.
+ * Every letter (accents that do not make a different letter removed) gets an identifier, from 0 to 26
+ * in Spanish, and for each identifier the index stores a bit mask with the positions where it appears in the word.
+ * With it, checking a guess, revealing its positions and detecting a win are constant-time
+ * bit operations instead of scans over the word.
+ * Instances are immutable and can be shared between sessions with the same secret word.
+ * @author Brandon Fernandez
+ */
+public final class LetterIndex {
+
+    /**
+     * Number of letters in the normalized Spanish alphabet (a-z plus ñ).
+     */
+    public static final int ALPHABET_SIZE = 27;
+
+    /**
+     * Maximum supported word length (one bit per position in a {@code long}).
+     */
+    public static final int MAX_LENGTH = Long.SIZE;
+
+    private final Alphabet alphabet; // Alfabeto de la palabra
+    private final String word; // Palabra indexada
+    private final byte[] letterIdAt; // Identificador de la letra en cada posición
+    private final long[] positions; // Posiciones de cada letra (un bit por posición)
+    private final long presence; // Letras presentes en la palabra (un bit por letra)
+    private final long fullMask; // Máscara con todas las posiciones de la palabra
+    private final byte[] rankedLetters; // Letras distintas de la palabra, de la que más revela a la que menos
+
+    /**
+     * Builds the index of a Spanish word.
+     * @param word The word to index; every character must be a Spanish letter.
+     * @throws IllegalArgumentException If the word is empty, too long or contains other characters.
+     */
+    public LetterIndex(String word) {
+        this(Alphabet.SPANISH, word);
+    }
+
+    /**
+     * Builds the index of a word.
+     * @param alphabet The alphabet of the word.
+     * @param word     The word to index, with one character per letter (see {@link Alphabet#compose(String)}).
+     * @throws IllegalArgumentException If the word is empty, too long or contains other characters.
+     */
+    public LetterIndex(Alphabet alphabet, String word) {
+        int length = word.length();
+        if (length == 0 || length > MAX_LENGTH) {
+            throw new IllegalArgumentException("La palabra debe tener entre 1 y " + MAX_LENGTH + " letras.");
+        }
+        this.alphabet = alphabet;
+        this.word = word;
+        this.letterIdAt = new byte[length];
+        this.positions = new long[alphabet.size()];
+        long letters = 0;
+        for (int i = 0; i < length; i++) {
+            int id = alphabet.letterId(word.charAt(i));
+            if (id < 0) {
+                throw new IllegalArgumentException("Carácter no válido en la palabra: " + word.charAt(i));
+            }
+            letterIdAt[i] = (byte) id;
+            positions[id] |= 1L << i;
+            letters |= 1L << id;
+        }
+        this.presence = letters;
+        this.fullMask = length == MAX_LENGTH ? -1L : (1L << length) - 1;
+        this.rankedLetters = rankLetters();
+    }
+
+    /**
+     * Orders the distinct letters of the word by hint quality: first by the number of positions
+     * they reveal (more first) and then, in Spanish, by their frequency (rarer first).
+     * @return The identifiers of the distinct letters, best hint first.
+     */
+    private byte[] rankLetters() {
+        byte[] ranked = new byte[Long.bitCount(presence)];
+        int count = 0;
+        for (long rest = presence; rest != 0; rest &= rest - 1) {
+            byte id = (byte) Long.numberOfTrailingZeros(rest);
+            // Inserción ordenada: la palabra tiene pocas letras distintas
+            int i = count++;
+            while (i > 0 && isBetterHint(id, ranked[i - 1])) {
+                ranked[i] = ranked[i - 1];
+                i--;
+            }
+            ranked[i] = id;
+        }
+        return ranked;
+    }
+
+    /**
+     * Compares two letters of the word as hints.
+     * @param a The first letter identifier.
+     * @param b The second letter identifier.
+     * @return true if revealing {@code a} is a better hint than revealing {@code b}.
+     */
+    private boolean isBetterHint(int a, int b) {
+        int occurrencesA = Long.bitCount(positions[a]);
+        int occurrencesB = Long.bitCount(positions[b]);
+        if (occurrencesA != occurrencesB) {
+            return occurrencesA > occurrencesB;
+        }
+        if (alphabet != Alphabet.SPANISH) {
+            return false; // Solo hay frecuencias del español: se mantiene el orden de los identificadores
+        }
+        return LetterFrequency.percent(a) < LetterFrequency.percent(b);
+    }
+
+    /**
+     * Returns the identifier of a Spanish letter, ignoring case and accents.
+     * @param c The character.
+     * @return The letter identifier (0-26), or -1 if the character is not a Spanish letter.
+     */
+    public static int letterId(char c) {
+        return Alphabet.SPANISH.letterId(c);
+    }
+
+    /**
+     * Returns the normalized Spanish letter (lower case, without accents) of an identifier.
+     * @param id The letter identifier.
+     * @return The normalized letter.
+     */
+    public static char letterOf(int id) {
+        return Alphabet.SPANISH.letterOf(id);
+    }
+
+    /**
+     * Normalizes a Spanish letter, converting it to lower case and removing its accent.
+     * @param c The character.
+     * @return The normalized letter, or the same character if it is not a Spanish letter.
+     */
+    public static char normalizeLetter(char c) {
+        return Alphabet.SPANISH.normalize(c);
+    }
+
+    /**
+     * Gets the alphabet of the indexed word.
+     * @return The alphabet.
+     */
+    public Alphabet getAlphabet() {
+        return alphabet;
+    }
+
+    /**
+     * Gets the indexed word.
+     * @return The word.
+     */
+    public String getWord() {
+        return word;
+    }
+
+    /**
+     * Gets the length of the indexed word.
+     * @return The number of letters.
+     */
+    public int length() {
+        return letterIdAt.length;
+    }
+
+    /**
+     * Indicates whether a letter appears in the word.
+     * @param id The letter identifier.
+     * @return true if the letter is present.
+     */
+    public boolean contains(int id) {
+        return (presence & (1L << id)) != 0;
+    }
+
+    /**
+     * Gets the positions where a letter appears.
+     * @param id The letter identifier.
+     * @return A mask with one bit per position (bit 0 is the first letter).
+     */
+    public long positionsOf(int id) {
+        return positions[id];
+    }
+
+    /**
+     * Gets the identifier of the letter at a position.
+     * @param index The position in the word.
+     * @return The letter identifier.
+     */
+    public int letterIdAt(int index) {
+        return letterIdAt[index];
+    }
+
+    /**
+     * Gets the set of letters present in the word.
+     * @return A mask with one bit per letter identifier.
+     */
+    public long getPresence() {
+        return presence;
+    }
+
+    /**
+     * Gets the mask with every position of the word set.
+     * @return The full position mask.
+     */
+    public long getFullMask() {
+        return fullMask;
+    }
+
+    /**
+     * Gets the number of distinct letters in the word.
+     * @return The number of distinct letters.
+     */
+    public int distinctLetters() {
+        return rankedLetters.length;
+    }
+
+    /**
+     * Gets a distinct letter of the word by its hint ranking.
+     * @param rank The rank, where 0 is the letter that reveals the most (see {@link HintPolicy#MOST_REVEALING}).
+     * @return The letter identifier.
+     */
+    public int rankedLetter(int rank) {
+        return rankedLetters[rank];
+    }
+}
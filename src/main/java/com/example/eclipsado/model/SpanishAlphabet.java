@@ -0,0 +1,68 @@
+package com.example.eclipsado.model;
+
+/**
+ * Validator for the letters of the Spanish alphabet (a-z, ñ, the vowels with acute accent and ü,
+ * in upper or lower case). It replaces the regular expressions of the controllers with the lookup
+ * tables of {@link Alphabet#SPANISH}: a word is checked for length and characters in a single pass
+ * without allocating. Decomposed input (NFD), where an accent is a combining mark after its base
+ * letter, is accepted and counted as a single letter. Other languages use their {@link Alphabet} directly.
+ * @author Brandon Fernandez
+ */
+public final class SpanishAlphabet {
+
+    /**
+     * Private constructor; this class only has static methods.
+     */
+    private SpanishAlphabet() {}
+
+    /**
+     * Indicates whether a character is a (precomposed) letter of the Spanish alphabet.
+     * @param c The character.
+     * @return true if the character is a valid letter.
+     */
+    public static boolean isLetter(char c) {
+        return Alphabet.SPANISH.isLetter(c);
+    }
+
+    /**
+     * Validates a secret word: it must only contain Spanish letters and have between
+     * {@code minLength} and {@code maxLength} letters. When both rules fail, the length is reported.
+     * @param word      The word entered by the player.
+     * @param minLength The minimum number of letters.
+     * @param maxLength The maximum number of letters.
+     * @return The validation result.
+     */
+    public static ValidationResult validateWord(CharSequence word, int minLength, int maxLength) {
+        return Alphabet.SPANISH.validateWord(word, minLength, maxLength);
+    }
+
+    /**
+     * Validates the input of a single letter. Surrounding whitespace is ignored and
+     * upper-case letters are accepted.
+     * @param input The text entered by the player.
+     * @return The validation result.
+     */
+    public static ValidationResult validateLetter(CharSequence input) {
+        return Alphabet.SPANISH.validateLetter(input);
+    }
+
+    /**
+     * Returns the letter of an input accepted by {@link #validateLetter(CharSequence)},
+     * composed with its accent and in lower case.
+     * @param input The text entered by the player.
+     * @return The letter.
+     */
+    public static char letterOf(CharSequence input) {
+        return Alphabet.SPANISH.parseLetter(input);
+    }
+
+    /**
+     * Returns the word with its combining accents merged into the preceding letters (NFC form).
+     * A new string is only created when the word actually contains combining marks.
+     * @param word A word accepted by {@link #validateWord(CharSequence, int, int)}.
+     * @return The composed word.
+     */
+    public static String compose(String word) {
+        return Alphabet.SPANISH.compose(word);
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.eclipsado.model;
+
+/**
+ * Reason codes returned by {@link Alphabet} when validating the player's input.
+ * @author Brandon Fernandez
+ */
+public enum ValidationResult {
+    /** The input is valid. */
+    VALID,
+    /** The word has fewer letters than allowed. */
+    TOO_SHORT,
+    /** The word has more letters than allowed. */
+    TOO_LONG,
+    /** The input contains a character that is not a letter of the Spanish alphabet. */
+    INVALID_CHARACTER,
+    /** The input is empty or has more than one letter when exactly one was expected. */
+    NOT_A_SINGLE_LETTER
+}
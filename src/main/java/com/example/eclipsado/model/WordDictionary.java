@@ -0,0 +1,365 @@
+package com.example.eclipsado.model;
+
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.TreeSet;
+import java.util.random.RandomGenerator;
+
+/**
+ * Read-only list of Spanish words used to choose secret words without a human typing them.
+ * The list is stored in a compact binary file that is memory-mapped, so opening it does not
+ * parse any text or copy the words to the heap. Words are grouped in buckets by length
+ * ({@link GameModel#MIN_WORD_LENGTH} to {@link GameModel#MAX_WORD_LENGTH}) and by {@link Difficulty},
+ * and every record has a fixed size, so choosing a random word of a given length and difficulty
+ * is a constant-time offset calculation.
+ * <p>
+ * File format (big-endian): a header with the magic number, version, minimum and maximum length
+ * and number of difficulty levels; a table with the offset and count of every (length, difficulty)
+ * bucket; and the records. Each record holds the letter mask of the word ({@link LetterIndex#getPresence()})
+ * followed by its letters, one Latin-1 byte each. The records of a bucket are sorted alphabetically.
+ * @author Brandon Fernandez
+ */
+public final class WordDictionary {
+
+    /**
+     * System property with the path of the dictionary of the desktop game.
+     */
+    public static final String FILE_PROPERTY = "eclipsado.dictionary";
+
+    private static final System.Logger LOGGER = System.getLogger(WordDictionary.class.getName());
+    private static final Path DEFAULT_FILE = Path.of(System.getProperty("user.home"), ".eclipsado", "palabras.dic");
+    private static final int MAGIC = 0x45434C44; // "ECLD"
+    private static final int VERSION = 1; // Versión del formato
+    private static final int MIN_LENGTH = GameModel.MIN_WORD_LENGTH;
+    private static final int MAX_LENGTH = GameModel.MAX_WORD_LENGTH;
+    private static final int LEVELS = Difficulty.values().length;
+    private static final int HEADER_SIZE = 5 * Integer.BYTES; // Magia, versión, longitudes y niveles
+    private static final int MASK_SIZE = Integer.BYTES; // Máscara de letras al inicio de cada registro
+
+    private final ByteBuffer buffer; // Fichero proyectado en memoria
+    private final int[][] offsets = new int[MAX_LENGTH + 1][LEVELS]; // Posición del primer registro de cada grupo
+    private final int[][] counts = new int[MAX_LENGTH + 1][LEVELS]; // Número de palabras de cada grupo
+    private final int size; // Número total de palabras
+    private volatile CandidateIndex candidates; // Índice de palabras compatibles (se crea al usarlo)
+
+    /**
+     * Creates the dictionary over a mapped file, reading only its header.
+     * @param buffer The mapped contents of the file.
+     * @throws IOException If the file is not a dictionary in a supported format.
+     */
+    private WordDictionary(ByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION
+                || buffer.getInt(8) != MIN_LENGTH || buffer.getInt(12) != MAX_LENGTH || buffer.getInt(16) != LEVELS) {
+            throw new IOException("El fichero no es un diccionario de palabras válido.");
+        }
+        int position = HEADER_SIZE;
+        int total = 0;
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            for (int level = 0; level < LEVELS; level++) {
+                offsets[length][level] = buffer.getInt(position);
+                counts[length][level] = buffer.getInt(position + Integer.BYTES);
+                total += counts[length][level];
+                position += 2 * Integer.BYTES;
+            }
+        }
+        this.size = total;
+    }
+
+    /**
+     * Opens a dictionary file created by {@link #compile(Path, Path)}, mapping it into memory.
+     * @param file The binary dictionary file.
+     * @return The dictionary.
+     * @throws IOException If the file cannot be read or is not a dictionary.
+     */
+    public static WordDictionary open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // La proyección sigue siendo válida después de cerrar el canal
+            return new WordDictionary(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Opens the dictionary of the desktop game: the file named by {@value #FILE_PROPERTY}, or
+     * {@code ~/.eclipsado/palabras.dic} if it exists. Only the header is read, so it can be called at startup.
+     * @return The dictionary, or null if there is none or it cannot be opened (the player then types every secret word).
+     */
+    public static WordDictionary openFromSystemProperties() {
+        String configured = System.getProperty(FILE_PROPERTY);
+        Path file = configured != null ? Path.of(configured) : DEFAULT_FILE;
+        if (configured == null && !Files.exists(file)) {
+            return null;
+        }
+        try {
+            return open(file);
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "No se pudo abrir la lista de palabras; no habrá palabras al azar ni sugerencias", e);
+            return null;
+        }
+    }
+
+    /**
+     * Converts a text file with one word per line (UTF-8) into the binary dictionary format.
+     * Words that are not valid secret words are skipped, and duplicates are removed.
+     * @param source The text file.
+     * @param target The binary file to create.
+     * @return The number of words written.
+     * @throws IOException If a file cannot be read or written.
+     */
+    public static int compile(Path source, Path target) throws IOException {
+        @SuppressWarnings({"unchecked", "rawtypes"}) // No se pueden crear arrays de un tipo genérico
+        TreeSet<String>[][] buckets = new TreeSet[MAX_LENGTH + 1][LEVELS];
+        for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+            for (int level = 0; level < LEVELS; level++) {
+                buckets[length][level] = new TreeSet<>();
+            }
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.strip();
+                if (SpanishAlphabet.validateWord(word, MIN_LENGTH, MAX_LENGTH) != ValidationResult.VALID) {
+                    continue; // Se ignoran las palabras que no podrían ser palabras secretas
+                }
+                word = SpanishAlphabet.compose(word).toLowerCase();
+                Difficulty difficulty = Difficulty.of(new LetterIndex(word).getPresence());
+                buckets[word.length()][difficulty.ordinal()].add(word);
+            }
+        }
+
+        int total = 0;
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(target)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(MIN_LENGTH);
+            out.writeInt(MAX_LENGTH);
+            out.writeInt(LEVELS);
+            int offset = HEADER_SIZE + (MAX_LENGTH - MIN_LENGTH + 1) * LEVELS * 2 * Integer.BYTES;
+            for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+                for (int level = 0; level < LEVELS; level++) {
+                    out.writeInt(offset);
+                    out.writeInt(buckets[length][level].size());
+                    offset += buckets[length][level].size() * (MASK_SIZE + length);
+                }
+            }
+            for (int length = MIN_LENGTH; length <= MAX_LENGTH; length++) {
+                for (int level = 0; level < LEVELS; level++) {
+                    for (String word : buckets[length][level]) {
+                        out.writeInt((int) new LetterIndex(word).getPresence());
+                        out.write(word.getBytes(StandardCharsets.ISO_8859_1));
+                        total++;
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Gets the positional index used to suggest the words that are still possible in a game.
+     * It is created on the first call and shared by every caller.
+     * @return The index of this dictionary.
+     */
+    public CandidateIndex candidates() {
+        CandidateIndex index = candidates;
+        if (index == null) {
+            synchronized (this) {
+                index = candidates;
+                if (index == null) {
+                    candidates = index = new CandidateIndex(this);
+                }
+            }
+        }
+        return index;
+    }
+
+    /**
+     * Gets the total number of words.
+     * @return The number of words in the dictionary.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the number of words of a length.
+     * @param length The number of letters.
+     * @return The number of words, or 0 if the length is not supported.
+     */
+    public int count(int length) {
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return 0;
+        }
+        int total = 0;
+        for (int level = 0; level < LEVELS; level++) {
+            total += counts[length][level];
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of words of a length and difficulty.
+     * @param length     The number of letters.
+     * @param difficulty The difficulty.
+     * @return The number of words, or 0 if the length is not supported.
+     */
+    public int count(int length, Difficulty difficulty) {
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return 0;
+        }
+        return counts[length][difficulty.ordinal()];
+    }
+
+    /**
+     * Chooses a random word of a length, of any difficulty.
+     * @param length The number of letters.
+     * @param random The random generator.
+     * @return The word, or null if there are no words of that length.
+     */
+    public String randomWord(int length, RandomGenerator random) {
+        int count = count(length);
+        return count == 0 ? null : wordAt(length, random.nextInt(count));
+    }
+
+    /**
+     * Chooses a random word of a length and difficulty.
+     * @param length     The number of letters.
+     * @param difficulty The difficulty.
+     * @param random     The random generator.
+     * @return The word, or null if there are no words of that length and difficulty.
+     */
+    public String randomWord(int length, Difficulty difficulty, RandomGenerator random) {
+        int count = count(length, difficulty);
+        if (count == 0) {
+            return null;
+        }
+        return readWord(recordOffset(length, difficulty.ordinal(), random.nextInt(count)), length);
+    }
+
+    /**
+     * Gets a word by its position among the words of its length (ordered by difficulty, then alphabetically).
+     * @param length The number of letters.
+     * @param index  The position, from 0 to {@code count(length) - 1}.
+     * @return The word.
+     */
+    public String wordAt(int length, int index) {
+        return readWord(recordOffset(length, index), length);
+    }
+
+    /**
+     * Gets the letter mask ({@link LetterIndex#getPresence()}) of a word without reading its letters.
+     * @param length The number of letters.
+     * @param index  The position, from 0 to {@code count(length) - 1}.
+     * @return The letter mask of the word.
+     */
+    public int maskAt(int length, int index) {
+        return buffer.getInt(recordOffset(length, index));
+    }
+
+    /**
+     * Gets a letter of a word directly from the mapped file.
+     * @param length   The number of letters.
+     * @param index    The position of the word, from 0 to {@code count(length) - 1}.
+     * @param position The position of the letter in the word.
+     * @return The letter.
+     */
+    public char letterAt(int length, int index, int position) {
+        return (char) (buffer.get(recordOffset(length, index) + MASK_SIZE + position) & 0xFF);
+    }
+
+    /**
+     * Indicates whether a word is in the dictionary, using a binary search in its buckets.
+     * @param word The word, in lower case and with its accents.
+     * @return true if the dictionary contains the word.
+     */
+    public boolean contains(CharSequence word) {
+        int length = word.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return false;
+        }
+        for (int level = 0; level < LEVELS; level++) {
+            int low = 0;
+            int high = counts[length][level] - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                int comparison = compare(recordOffset(length, level, middle), word);
+                if (comparison == 0) {
+                    return true;
+                }
+                if (comparison < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Finds the offset of a record from its position among the words of its length.
+     * @param length The number of letters.
+     * @param index  The position among the words of that length.
+     * @return The offset of the record in the file.
+     */
+    private int recordOffset(int length, int index) {
+        int remaining = index;
+        for (int level = 0; level < LEVELS; level++) {
+            if (remaining < counts[length][level]) {
+                return recordOffset(length, level, remaining);
+            }
+            remaining -= counts[length][level];
+        }
+        throw new IndexOutOfBoundsException("No existe la palabra " + index + " de longitud " + length);
+    }
+
+    /**
+     * Finds the offset of a record inside a bucket.
+     * @param length The number of letters.
+     * @param level  The difficulty level.
+     * @param index  The position inside the bucket.
+     * @return The offset of the record in the file.
+     */
+    private int recordOffset(int length, int level, int index) {
+        return offsets[length][level] + index * (MASK_SIZE + length);
+    }
+
+    /**
+     * Reads the letters of a record.
+     * @param offset The offset of the record.
+     * @param length The number of letters.
+     * @return The word.
+     */
+    private String readWord(int offset, int length) {
+        char[] letters = new char[length];
+        for (int i = 0; i < length; i++) {
+            letters[i] = (char) (buffer.get(offset + MASK_SIZE + i) & 0xFF);
+        }
+        return new String(letters);
+    }
+
+    /**
+     * Compares the letters of a record with a word of the same length.
+     * @param offset The offset of the record.
+     * @param word   The word.
+     * @return A negative number, zero or a positive number if the record goes before, is equal to or goes after the word.
+     */
+    private int compare(int offset, CharSequence word) {
+        for (int i = 0; i < word.length(); i++) {
+            int difference = (buffer.get(offset + MASK_SIZE + i) & 0xFF) - word.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.eclipsado.model;
+
+/**
+ * Compares a guessed word with the secret word to give the player near-miss feedback.
+ * The edit distance is computed with the bit-parallel algorithm of Myers (in the formulation of
+ * Hyyrö): a column of the dynamic programming table is kept as two bit masks, and the masks of
+ * matching positions are the ones already stored in the {@link LetterIndex} of the secret word,
+ * so each letter of the guess costs a handful of bit operations and nothing is allocated.
+ * Letters are compared through their identifiers, so case and accents are ignored.
+ * @author Brandon Fernandez
+ */
+public final class WordMatcher {
+
+    /**
+     * Private constructor; this class only has static methods.
+     */
+    private WordMatcher() {}
+
+    /**
+     * Computes the edit distance (insertions, deletions and substitutions) between the secret word and a guess.
+     * @param secret  The index of the secret word.
+     * @param attempt The guessed word, with one character per letter (see {@link Alphabet#compose(String)}).
+     * @return The number of edits needed to turn the guess into the secret word; 0 if they are the same word.
+     */
+    public static int distance(LetterIndex secret, CharSequence attempt) {
+        Alphabet alphabet = secret.getAlphabet();
+        long mask = secret.getFullMask();
+        long last = 1L << (secret.length() - 1); // Fila de la última letra de la palabra secreta
+        long positive = mask; // Diferencias verticales +1 de la columna actual
+        long negative = 0; // Diferencias verticales -1 de la columna actual
+        int score = secret.length(); // Distancia entre la palabra secreta y lo leído del intento
+        for (int j = 0; j < attempt.length(); j++) {
+            int id = alphabet.letterId(attempt.charAt(j));
+            long equal = id < 0 ? 0 : secret.positionsOf(id); // Posiciones donde coincide la letra
+            long vertical = equal | negative;
+            long horizontal = (((equal & positive) + positive) ^ positive) | equal;
+            long horizontalPositive = negative | ~(horizontal | positive);
+            long horizontalNegative = positive & horizontal;
+            if ((horizontalPositive & last) != 0) {
+                score++;
+            } else if ((horizontalNegative & last) != 0) {
+                score--;
+            }
+            // La primera fila crece en uno por cada letra del intento (distancia global, no búsqueda)
+            horizontalPositive = horizontalPositive << 1 | 1;
+            horizontalNegative <<= 1;
+            positive = (horizontalNegative | ~(vertical | horizontalPositive)) & mask;
+            negative = horizontalPositive & vertical & mask;
+        }
+        return score;
+    }
+
+    /**
+     * Finds the positions where the guess has the same letter as the secret word.
+     * @param secret  The index of the secret word.
+     * @param attempt The guessed word, with one character per letter.
+     * @return A mask with one bit per matching position (bit 0 is the first letter).
+     */
+    public static long matchingPositions(LetterIndex secret, CharSequence attempt) {
+        Alphabet alphabet = secret.getAlphabet();
+        int length = Math.min(secret.length(), attempt.length());
+        long matches = 0;
+        for (int i = 0; i < length; i++) {
+            if (alphabet.letterId(attempt.charAt(i)) == secret.letterIdAt(i)) {
+                matches |= 1L << i;
+            }
+        }
+        return matches;
+    }
+}
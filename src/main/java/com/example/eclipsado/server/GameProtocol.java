@@ -0,0 +1,275 @@
+package com.example.eclipsado.server;
+
+import com.example.eclipsado.model.Alphabet;
+import com.example.eclipsado.model.CandidateIndex;
+import com.example.eclipsado.model.GameRules;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.GuessResult;
+import com.example.eclipsado.model.ValidationResult;
+import com.example.eclipsado.model.WordDictionary;
+
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+/**
+ * Line-based text protocol spoken by {@link GameServer}. Every connection has its own instance,
+ * which remembers the ID of its current game in the shared {@link SessionStore}; each game has
+ * its own isolated {@link GameSession}. Each request is one line and produces exactly one response line:
+ * <pre>
+ * NEW [longitud]     -> OK &lt;id&gt; &lt;palabra oculta&gt; &lt;intentos&gt; &lt;ayudas&gt;
+ * WORD &lt;palabra&gt;     -> OK &lt;id&gt; &lt;palabra oculta&gt; &lt;intentos&gt; &lt;ayudas&gt;
+ * RESUME &lt;id&gt;        -> OK &lt;id&gt; &lt;palabra oculta&gt; &lt;intentos&gt; &lt;ayudas&gt;
+ * GUESS &lt;letra&gt;      -> &lt;GuessResult&gt; &lt;palabra oculta&gt; &lt;intentos&gt; &lt;ayudas&gt;
+ * SOLVE &lt;palabra&gt;    -> &lt;GuessResult&gt; &lt;palabra oculta&gt; &lt;intentos&gt; &lt;ayudas&gt; &lt;distancia&gt; &lt;letras en su sitio&gt;
+ * SUGGEST [máximo]   -> WORDS &lt;total&gt; [palabra...]
+ * HINT               -> &lt;HintResult&gt; &lt;palabra oculta&gt; &lt;intentos&gt; &lt;ayudas&gt;
+ * STATE              -> STATE &lt;palabra oculta&gt; &lt;intentos&gt; &lt;ayudas&gt;
+ * STATS              -> STATS &lt;sesiones vivas&gt; &lt;caducadas&gt; &lt;desalojadas&gt;
+ * QUIT               -> BYE
+ * </pre>
+ * A finished game is removed from the store, and an idle one may expire, after which the
+ * requests about it are answered with {@code ERR NO_GAME}. Other errors are answered with
+ * {@code ERR <motivo>}. The length of the words, the letters and the limits of each game come
+ * from the {@link GameRules} of the server. {@code SOLVE} guesses the whole word: a wrong word costs
+ * an attempt, and the response tells how far it was. {@code SUGGEST} lists dictionary words that agree
+ * with the current game. An instance is not thread-safe.
+ * @author Brandon Fernandez
+ */
+public class GameProtocol {
+
+    /**
+     * Response sent before the server closes the connection.
+     */
+    public static final String BYE = "BYE";
+
+    private static final int DEFAULT_SUGGESTIONS = 10; // Palabras de SUGGEST sin máximo
+    private static final int MAX_SUGGESTIONS = 100; // Máximo de palabras de una respuesta de SUGGEST
+
+    private final WordDictionary dictionary; // Lista de palabras para las partidas aleatorias (puede ser null)
+    private final GameRules rules; // Reglas de las partidas
+    private final SessionStore store; // Registro compartido de partidas
+    private final RandomGenerator random; // Generador para elegir palabras y ayudas
+    private long sessionId; // Partida actual de esta conexión, o 0 si no hay ninguna
+
+    /**
+     * Creates the protocol handler of a connection.
+     * @param dictionary The word list used by {@code NEW}, or null to allow only {@code WORD}.
+     * @param rules      The rules of the games.
+     * @param store      The registry where the games are kept.
+     * @param random     The random generator used to choose words and hints.
+     */
+    public GameProtocol(WordDictionary dictionary, GameRules rules, SessionStore store, RandomGenerator random) {
+        this.dictionary = dictionary;
+        this.rules = rules;
+        this.store = store;
+        this.random = random;
+    }
+
+    /**
+     * Handles a request line.
+     * @param line The request, without the line terminator.
+     * @return The response, without the line terminator.
+     */
+    public String handle(String line) {
+        int space = line.indexOf(' ');
+        String command = (space < 0 ? line : line.substring(0, space)).toUpperCase();
+        String argument = space < 0 ? "" : line.substring(space + 1).strip();
+        return switch (command) {
+            case "NEW" -> newGame(argument);
+            case "WORD" -> startGame(argument);
+            case "RESUME" -> resume(argument);
+            case "GUESS" -> guess(argument);
+            case "SOLVE" -> solve(argument);
+            case "SUGGEST" -> suggest(argument);
+            case "HINT" -> play(session -> state(session.useHint().name(), session));
+            case "STATE" -> play(session -> state("STATE", session));
+            case "STATS" -> "STATS " + store.getLiveSessions() + ' ' + store.getExpiredSessions() + ' '
+                    + store.getEvictedSessions();
+            case "QUIT" -> BYE;
+            default -> "ERR UNKNOWN_COMMAND";
+        };
+    }
+
+    /**
+     * Gets the game of this connection.
+     * @return The ID of the current session, or 0 if there is none.
+     */
+    public long getSessionId() {
+        return sessionId;
+    }
+
+    /**
+     * Starts a game with a random word from the dictionary.
+     * @param argument The requested length, or an empty string for any length.
+     * @return The response.
+     */
+    private String newGame(String argument) {
+        if (dictionary == null || rules.getAlphabet() != Alphabet.SPANISH) {
+            return "ERR NO_DICTIONARY"; // El diccionario solo tiene palabras en español
+        }
+        int length;
+        try {
+            length = argument.isEmpty()
+                    ? rules.getMinLength() + random.nextInt(rules.getMaxLength() - rules.getMinLength() + 1)
+                    : Integer.parseInt(argument);
+        } catch (NumberFormatException e) {
+            return "ERR INVALID_LENGTH";
+        }
+        if (length < rules.getMinLength() || length > rules.getMaxLength()) {
+            return "ERR INVALID_LENGTH";
+        }
+        String word = dictionary.randomWord(length, random);
+        if (word == null) {
+            return "ERR NO_WORDS";
+        }
+        return register(rules.newSession(word, random));
+    }
+
+    /**
+     * Starts a game with a word chosen by the client.
+     * @param word The secret word.
+     * @return The response.
+     */
+    private String startGame(String word) {
+        ValidationResult validation = rules.validateWord(word);
+        if (validation != ValidationResult.VALID) {
+            return "ERR " + validation;
+        }
+        return register(rules.newSession(rules.getAlphabet().compose(word), random));
+    }
+
+    /**
+     * Continues a game started on another connection.
+     * @param argument The ID of the session.
+     * @return The response.
+     */
+    private String resume(String argument) {
+        long id;
+        try {
+            id = Long.parseLong(argument);
+        } catch (NumberFormatException e) {
+            return "ERR INVALID_ID";
+        }
+        String response = store.withSession(id, session -> "OK " + id + ' ' + state(session));
+        if (response == null) {
+            return "ERR NO_GAME";
+        }
+        sessionId = id;
+        return response;
+    }
+
+    /**
+     * Guesses a letter in the current game.
+     * @param argument The letter.
+     * @return The response.
+     */
+    private String guess(String argument) {
+        if (rules.validateLetter(argument) != ValidationResult.VALID) {
+            return "ERR " + GuessResult.INVALID;
+        }
+        char letter = rules.getAlphabet().parseLetter(argument);
+        return play(session -> state(session.guess(letter).name(), session));
+    }
+
+    /**
+     * Guesses the whole word in the current game.
+     * @param argument The word.
+     * @return The response, with the edit distance and the number of letters in their place.
+     */
+    private String solve(String argument) {
+        if (rules.validateGuessedWord(argument) != ValidationResult.VALID) {
+            return "ERR " + GuessResult.INVALID;
+        }
+        String word = rules.getAlphabet().compose(argument);
+        return play(session -> state(session.guessWord(word).name(), session) + ' ' + session.getLastWordDistance()
+                + ' ' + Long.bitCount(session.getLastWordMatches()));
+    }
+
+    /**
+     * Lists dictionary words that agree with the current game.
+     * @param argument The maximum number of words, or an empty string for the default.
+     * @return The response.
+     */
+    private String suggest(String argument) {
+        if (dictionary == null) {
+            return "ERR NO_DICTIONARY";
+        }
+        int limit;
+        try {
+            limit = argument.isEmpty() ? DEFAULT_SUGGESTIONS : Math.min(Integer.parseInt(argument), MAX_SUGGESTIONS);
+        } catch (NumberFormatException e) {
+            return "ERR INVALID_LIMIT";
+        }
+        if (limit < 0) {
+            return "ERR INVALID_LIMIT";
+        }
+        if (sessionId == 0) {
+            return "ERR NO_GAME";
+        }
+        // Solo se copia la partida bajo el cerrojo: la consulta al índice puede tardar y no debe bloquear la partición
+        CandidateIndex.Clues clues = store.withSession(sessionId, CandidateIndex.Clues::of);
+        if (clues == null) {
+            sessionId = 0; // Caducó
+            return "ERR NO_GAME";
+        }
+        CandidateIndex candidates = dictionary.candidates();
+        StringBuilder response = new StringBuilder("WORDS ").append(candidates.count(clues));
+        for (String word : candidates.suggest(clues, limit)) {
+            response.append(' ').append(word);
+        }
+        return response.toString();
+    }
+
+    /**
+     * Stores a new game and makes it the current game of the connection.
+     * @param session The new game.
+     * @return The response.
+     */
+    private String register(GameSession session) {
+        String state = state(session); // Antes de publicarla, cuando ninguna otra conexión puede usarla
+        sessionId = store.add(session);
+        return "OK " + sessionId + ' ' + state;
+    }
+
+    /**
+     * Runs an action on the current game under the lock of its shard, and removes the game once it is over.
+     * @param action The action, which builds the response.
+     * @return The response.
+     */
+    private String play(Function<GameSession, String> action) {
+        if (sessionId == 0) {
+            return "ERR NO_GAME";
+        }
+        boolean[] over = new boolean[1];
+        String response = store.withSession(sessionId, session -> {
+            String text = action.apply(session);
+            over[0] = session.isOver();
+            return text;
+        });
+        if (response == null || over[0]) {
+            store.remove(sessionId); // La partida terminó o caducó: se libera su memoria
+            sessionId = 0;
+        }
+        return response == null ? "ERR NO_GAME" : response;
+    }
+
+    /**
+     * Builds a response with the state of a game.
+     * @param status  The first word of the response.
+     * @param session The game.
+     * @return The response.
+     */
+    private static String state(String status, GameSession session) {
+        return status + ' ' + state(session);
+    }
+
+    /**
+     * Describes the state of a game.
+     * @param session The game.
+     * @return The discovered word, the remaining attempts and the remaining hints.
+     */
+    private static String state(GameSession session) {
+        return session.getDisplayedWord() + ' ' + session.getRemainingAttempts() + ' '
+                + (session.getMaxHints() - session.getHintsUsed());
+    }
+}
@@ -0,0 +1,269 @@
+package com.example.eclipsado.server;
+
+import com.example.eclipsado.model.GameRules;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.WordDictionary;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Headless server that hosts many concurrent games of "El Sol Eclipsado" over a local TCP
+ * connection with the line-based {@link GameProtocol}. Every connection is served by its own
+ * thread (virtual when the JVM supports them). The games are kept in a sharded {@link SessionStore},
+ * so guesses on different games rarely wait for each other, and idle games are discarded periodically.
+ * <p>
+ * Usage: {@code GameServer [--port=7777] [--dictionary=words.bin] [--rules=reglas.properties] [--max-sessions=100000] [--ttl=600]}
+ * @author Brandon Fernandez
+ */
+public class GameServer implements AutoCloseable {
+
+    /**
+     * Default TCP port.
+     */
+    public static final int DEFAULT_PORT = 7777;
+
+    /**
+     * Default maximum number of games kept at the same time.
+     */
+    public static final int DEFAULT_MAX_SESSIONS = 100_000;
+
+    /**
+     * Default time a game can stay idle before it is discarded.
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(10);
+
+    private static final System.Logger LOGGER = System.getLogger(GameServer.class.getName());
+
+    private final WordDictionary dictionary; // Lista de palabras compartida (solo lectura)
+    private final GameRules rules; // Reglas de las partidas de este servidor
+    private final SessionStore store; // Partidas en curso
+    private final ScheduledExecutorService sweeper; // Descarta periódicamente las partidas inactivas
+    private final ExecutorService connections = PerTaskExecutors.newPerTaskExecutor("game-connection"); // Un hilo por conexión
+    private final AtomicLong accepted = new AtomicLong(); // Conexiones aceptadas desde el arranque
+    private final Set<Socket> open = ConcurrentHashMap.newKeySet(); // Conexiones abiertas, para cerrarlas al parar
+    private ServerSocket serverSocket; // Socket que acepta las conexiones
+    private Thread acceptor; // Hilo que acepta las conexiones
+
+    /**
+     * Creates the server with the default session limits.
+     * @param dictionary The word list used for random games, or null to allow only games with a chosen word.
+     */
+    public GameServer(WordDictionary dictionary) {
+        this(dictionary, GameRules.DEFAULT, DEFAULT_MAX_SESSIONS, DEFAULT_TTL);
+    }
+
+    /**
+     * Creates the server.
+     * @param dictionary  The word list used for random games, or null to allow only games with a chosen word.
+     * @param rules       The rules of the games; several servers with different rules can run in the same JVM.
+     * @param maxSessions The maximum number of games kept at the same time.
+     * @param ttl         The time a game can stay idle before it is discarded.
+     */
+    public GameServer(WordDictionary dictionary, GameRules rules, int maxSessions, Duration ttl) {
+        this.dictionary = dictionary;
+        this.rules = rules;
+        this.store = new SessionStore(maxSessions, ttl);
+        this.sweeper = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "session-sweeper");
+            thread.setDaemon(true); // No impide que la aplicación se cierre
+            return thread;
+        });
+        long period = Math.max(1, ttl.toSeconds() / 4); // Una partida caducada se descarta como mucho un cuarto del TTL tarde
+        sweeper.scheduleAtFixedRate(this::sweep, period, period, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Starts listening on the loopback interface and accepting connections in the background.
+     * @param port The TCP port, or 0 to choose a free one.
+     * @return The port the server is listening on.
+     * @throws IOException If the port cannot be opened.
+     */
+    public synchronized int start(int port) throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("El servidor ya está iniciado.");
+        }
+        serverSocket = new ServerSocket();
+        serverSocket.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 1024);
+        acceptor = new Thread(this::acceptLoop, "game-acceptor");
+        acceptor.start();
+        LOGGER.log(System.Logger.Level.INFO, "Servidor escuchando en el puerto {0} (hilos virtuales: {1})",
+                String.valueOf(serverSocket.getLocalPort()), PerTaskExecutors.virtualThreadsAvailable());
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Gets the number of connections accepted since the server started.
+     * @return The number of connections.
+     */
+    public long getAcceptedConnections() {
+        return accepted.get();
+    }
+
+    /**
+     * Gets the registry of the games in progress, which exposes the session gauges.
+     * @return The session store.
+     */
+    public SessionStore getSessionStore() {
+        return store;
+    }
+
+    /**
+     * Waits until the server stops accepting connections. Returns at once if the server was never started.
+     * @throws InterruptedException If the current thread is interrupted while waiting.
+     */
+    public void awaitTermination() throws InterruptedException {
+        Thread thread;
+        synchronized (this) {
+            thread = acceptor;
+        }
+        if (thread != null) {
+            thread.join();
+        }
+    }
+
+    /**
+     * Stops accepting connections and closes the open ones.
+     * @throws IOException If the server socket cannot be closed.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        if (serverSocket != null) {
+            serverSocket.close(); // Hace que accept() termine
+        }
+        // Interrumpir un hilo de plataforma no desbloquea una lectura del socket: hay que cerrarlo
+        for (Socket socket : open) {
+            closeQuietly(socket);
+        }
+        connections.shutdownNow();
+        sweeper.shutdownNow();
+    }
+
+    /**
+     * Closes a connection, ignoring errors.
+     * @param socket The connection.
+     */
+    private static void closeQuietly(Socket socket) {
+        try {
+            socket.close();
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Error al cerrar una conexión", e);
+        }
+    }
+
+    /**
+     * Discards the idle games and logs the session gauges.
+     */
+    private void sweep() {
+        int removed = store.evictExpired();
+        LOGGER.log(System.Logger.Level.DEBUG, "Sesiones vivas: {0}, caducadas ahora: {1}, desalojadas en total: {2}",
+                String.valueOf(store.getLiveSessions()), String.valueOf(removed), String.valueOf(store.getEvictedSessions()));
+    }
+
+    /**
+     * Accepts connections until the server socket is closed.
+     */
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                accepted.incrementAndGet();
+                open.add(socket);
+                if (serverSocket.isClosed()) {
+                    open.remove(socket); // close() ya recorrió las conexiones abiertas
+                    closeQuietly(socket);
+                    break;
+                }
+                try {
+                    connections.execute(() -> serve(socket));
+                } catch (RejectedExecutionException e) {
+                    open.remove(socket); // El servidor se está cerrando
+                    closeQuietly(socket);
+                }
+            } catch (IOException e) {
+                if (!serverSocket.isClosed()) {
+                    LOGGER.log(System.Logger.Level.WARNING, "Error al aceptar una conexión", e);
+                }
+            }
+        }
+    }
+
+    /**
+     * Serves one connection until the client quits or disconnects.
+     * @param socket The connection.
+     */
+    private void serve(Socket socket) {
+        GameProtocol protocol = new GameProtocol(dictionary, rules, store, GameSession.SHARED_RANDOM);
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true); // Las respuestas son pequeñas y deben llegar enseguida
+            String line;
+            while ((line = in.readLine()) != null) {
+                String response = protocol.handle(line);
+                out.write(response);
+                out.write('\n');
+                out.flush();
+                if (GameProtocol.BYE.equals(response)) {
+                    break;
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.DEBUG, "Conexión cerrada por el cliente", e);
+        } finally {
+            open.remove(socket);
+        }
+    }
+
+    /**
+     * Runs the server from the command line until the process is stopped.
+     * @param args The options, in {@code --name=value} form.
+     * @throws IOException          If the dictionary or the port cannot be opened.
+     * @throws InterruptedException If the main thread is interrupted.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int port = DEFAULT_PORT;
+        WordDictionary dictionary = null;
+        GameRules rules = GameRules.DEFAULT;
+        int maxSessions = DEFAULT_MAX_SESSIONS;
+        Duration ttl = DEFAULT_TTL;
+        for (String arg : args) {
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring("--port=".length()));
+            } else if (arg.startsWith("--dictionary=")) {
+                dictionary = WordDictionary.open(Path.of(arg.substring("--dictionary=".length())));
+            } else if (arg.startsWith("--rules=")) {
+                rules = GameRules.load(Path.of(arg.substring("--rules=".length())));
+            } else if (arg.startsWith("--max-sessions=")) {
+                maxSessions = Integer.parseInt(arg.substring("--max-sessions=".length()));
+            } else if (arg.startsWith("--ttl=")) {
+                ttl = Duration.ofSeconds(Long.parseLong(arg.substring("--ttl=".length())));
+            } else {
+                System.err.println("Uso: GameServer [--port=" + DEFAULT_PORT + "] [--dictionary=palabras.bin] "
+                        + "[--rules=reglas.properties] [--max-sessions=" + DEFAULT_MAX_SESSIONS + "] [--ttl=" + DEFAULT_TTL.toSeconds() + "]");
+                System.exit(2);
+            }
+        }
+        GameServer server = new GameServer(dictionary, rules, maxSessions, ttl);
+        System.out.println("Escuchando en el puerto " + server.start(port));
+        server.awaitTermination();
+    }
+}
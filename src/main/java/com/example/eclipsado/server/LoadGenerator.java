@@ -0,0 +1,170 @@
+package com.example.eclipsado.server;
+
+import com.example.eclipsado.metrics.Histogram;
+import com.example.eclipsado.model.WordDictionary;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Client that opens many concurrent connections to a {@link GameServer} and plays complete games
+ * as fast as possible, to measure the sessions per second and the guess latency of the server.
+ * Each client plays with the letters in order of frequency in Spanish and records the latency of
+ * every {@code GUESS} in its own {@link Histogram}.
+ * <p>
+ * Usage: {@code LoadGenerator [--host=localhost] [--port=7777] [--clients=64] [--seconds=10] [--length=0]
+ * [--dictionary=words.bin]}. With {@code --dictionary} it starts its own server in the same JVM.
+ * @author Brandon Fernandez
+ */
+public class LoadGenerator {
+
+    private static final String LETTERS = "eaosrnidlctumpbgvyqhfzjñxkw"; // Letras de la más a la menos frecuente
+
+    /**
+     * Results of one client.
+     * @param sessions The number of games completed.
+     * @param guesses  The latency of every guess.
+     */
+    private record ClientResult(long sessions, Histogram guesses) {
+    }
+
+    /**
+     * Private constructor; this class is only used through {@link #main(String[])}.
+     */
+    private LoadGenerator() {}
+
+    /**
+     * Runs the load test and prints the results.
+     * @param args The options, in {@code --name=value} form.
+     * @throws Exception If the server cannot be reached or a client fails.
+     */
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                System.err.println("Uso: LoadGenerator [--host=localhost] [--port=" + GameServer.DEFAULT_PORT
+                        + "] [--clients=64] [--seconds=10] [--length=0] [--dictionary=palabras.bin]");
+                System.exit(2);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        String host = options.getOrDefault("host", "localhost");
+        int port = Integer.parseInt(options.getOrDefault("port", String.valueOf(GameServer.DEFAULT_PORT)));
+        int clients = Integer.parseInt(options.getOrDefault("clients", "64"));
+        long seconds = Long.parseLong(options.getOrDefault("seconds", "10"));
+        int length = Integer.parseInt(options.getOrDefault("length", "0"));
+
+        GameServer embedded = null;
+        if (options.containsKey("dictionary")) {
+            embedded = new GameServer(WordDictionary.open(Path.of(options.get("dictionary"))));
+            port = embedded.start(0); // Servidor en la misma JVM, en un puerto libre
+        }
+
+        long start = System.nanoTime();
+        long deadline = start + seconds * 1_000_000_000L;
+        List<Future<ClientResult>> futures = new ArrayList<>(clients);
+        ExecutorService executor = PerTaskExecutors.newPerTaskExecutor("load-client");
+        for (int i = 0; i < clients; i++) {
+            int serverPort = port;
+            futures.add(executor.submit(() -> runClient(host, serverPort, length, deadline)));
+        }
+
+        long sessions = 0;
+        Histogram latencies = new Histogram();
+        try {
+            for (Future<ClientResult> future : futures) {
+                ClientResult result = future.get();
+                sessions += result.sessions();
+                latencies.merge(result.guesses());
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception cause ? cause : e;
+        } finally {
+            executor.shutdownNow();
+            if (embedded != null) {
+                embedded.close();
+            }
+        }
+
+        double elapsed = (System.nanoTime() - start) / 1e9;
+        System.out.printf("%d clientes, %.1f s (hilos virtuales: %b)%n", clients, elapsed,
+                PerTaskExecutors.virtualThreadsAvailable());
+        System.out.printf("Partidas: %d (%.0f partidas/s)%n", sessions, sessions / elapsed);
+        System.out.printf("Letras:   %d (%.0f letras/s)%n", latencies.getCount(), latencies.getCount() / elapsed);
+        System.out.printf("Latencia de GUESS: p50 %.1f µs, p99 %.1f µs, p99.9 %.1f µs, máx %.1f µs%n",
+                latencies.percentile(50) / 1e3, latencies.percentile(99) / 1e3,
+                latencies.percentile(99.9) / 1e3, latencies.getMax() / 1e3);
+    }
+
+    /**
+     * Plays complete games over one connection until the deadline.
+     * @param host     The server host.
+     * @param port     The server port.
+     * @param length   The length of the words, or 0 for any length.
+     * @param deadline The end of the test, in {@link System#nanoTime()} units.
+     * @return The results of the client.
+     */
+    private static ClientResult runClient(String host, int port, int length, long deadline) {
+        Histogram latencies = new Histogram();
+        long sessions = 0;
+        String newGame = length == 0 ? "NEW" : "NEW " + length;
+        try (Socket socket = new Socket(host, port);
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             BufferedWriter out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+            socket.setTcpNoDelay(true);
+            while (System.nanoTime() < deadline) {
+                String response = request(in, out, newGame);
+                if (!response.startsWith("OK")) {
+                    throw new IOException("Respuesta inesperada del servidor: " + response);
+                }
+                for (int i = 0; i < LETTERS.length(); i++) {
+                    long sent = System.nanoTime();
+                    response = request(in, out, "GUESS " + LETTERS.charAt(i));
+                    latencies.record(System.nanoTime() - sent);
+                    if (response.startsWith("WON") || response.startsWith("LOST")) {
+                        break;
+                    }
+                }
+                sessions++;
+            }
+            request(in, out, "QUIT");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new ClientResult(sessions, latencies);
+    }
+
+    /**
+     * Sends a request and waits for its response.
+     * @param in      The input of the connection.
+     * @param out     The output of the connection.
+     * @param request The request line.
+     * @return The response line.
+     * @throws IOException If the connection fails or is closed.
+     */
+    private static String request(BufferedReader in, BufferedWriter out, String request) throws IOException {
+        out.write(request);
+        out.write('\n');
+        out.flush();
+        String response = in.readLine();
+        if (response == null) {
+            throw new IOException("El servidor cerró la conexión.");
+        }
+        return response;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.eclipsado.server;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Creates executors that run every task in its own thread, used for one thread per connection.
+ * When the JVM can create virtual threads (Java 21 or later, or Java 19 and 20 with --enable-preview)
+ * the threads are virtual, so thousands of blocked connections cost very little;
+ * otherwise it falls back to a cached pool of daemon platform threads.
+ * @author Brandon Fernandez
+ */
+public final class PerTaskExecutors {
+
+    /**
+     * Private constructor; this class only has static methods.
+     */
+    private PerTaskExecutors() {}
+
+    /**
+     * Creates an executor that starts a new thread for every task.
+     * @param name The prefix of the names of the threads, which are numbered from 0.
+     * @return The executor.
+     */
+    public static ExecutorService newPerTaskExecutor(String name) {
+        if (VirtualThreadsHolder.OF_VIRTUAL != null) {
+            return VirtualThreadsHolder.newExecutor(name + "-");
+        }
+        return Executors.newCachedThreadPool(new ThreadFactory() {
+            private int count; // Número del siguiente hilo
+
+            @Override
+            public synchronized Thread newThread(Runnable task) {
+                Thread thread = new Thread(task, name + "-" + count++);
+                thread.setDaemon(true); // No impide que la aplicación se cierre
+                return thread;
+            }
+        });
+    }
+
+    /**
+     * Indicates whether {@link #newPerTaskExecutor(String)} uses virtual threads in this JVM.
+     * @return true if the executors it creates run their tasks in virtual threads.
+     */
+    public static boolean virtualThreadsAvailable() {
+        return VirtualThreadsHolder.OF_VIRTUAL != null;
+    }
+
+    /**
+     * Methods of the virtual thread API, looked up once by reflection because the project compiles with Java 17.
+     * They are only set if a virtual thread factory could actually be created in this JVM.
+     */
+    private static class VirtualThreadsHolder {
+        private static final Method OF_VIRTUAL; // Thread.ofVirtual()
+        private static final Method NAME; // Thread.Builder.name(String, long)
+        private static final Method FACTORY; // Thread.Builder.factory()
+        private static final Method NEW_EXECUTOR; // Executors.newThreadPerTaskExecutor(ThreadFactory)
+
+        static {
+            Method ofVirtual = null;
+            Method name = null;
+            Method factory = null;
+            Method newExecutor = null;
+            try {
+                Class<?> builder = Class.forName("java.lang.Thread$Builder");
+                ofVirtual = Thread.class.getMethod("ofVirtual");
+                name = builder.getMethod("name", String.class, long.class);
+                factory = builder.getMethod("factory");
+                newExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+                factory.invoke(ofVirtual.invoke(null)); // En Java 19 y 20 falla sin --enable-preview
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                ofVirtual = null;
+            }
+            OF_VIRTUAL = ofVirtual;
+            NAME = name;
+            FACTORY = factory;
+            NEW_EXECUTOR = newExecutor;
+        }
+
+        /**
+         * Creates an executor that starts a new virtual thread for every task.
+         * @param prefix The prefix of the names of the threads.
+         * @return The executor.
+         */
+        private static ExecutorService newExecutor(String prefix) {
+            try {
+                Object builder = NAME.invoke(OF_VIRTUAL.invoke(null), prefix, 0L);
+                return (ExecutorService) NEW_EXECUTOR.invoke(null, FACTORY.invoke(builder));
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("No se pudo crear el ejecutor de hilos virtuales.", e);
+            }
+        }
+    }
+}
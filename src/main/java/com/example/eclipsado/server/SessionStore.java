@@ -0,0 +1,234 @@
+package com.example.eclipsado.server;
+
+import com.example.eclipsado.model.GameSession;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Registry of the games hosted by the server, identified by a random session ID.
+ * The sessions are spread over independent shards, each guarded by its own lock, so requests
+ * for different games rarely wait for each other. Every shard is an access-ordered map, which keeps
+ * the least recently used session first: idle sessions are evicted after a time-to-live and, when
+ * the store is full, the least recently used sessions of a shard are evicted, so memory stays bounded.
+ * The limit applies to the whole store, counted with an atomic counter, so an uneven spread of the
+ * sessions over the shards neither exceeds it nor evicts sessions while there is room.
+ * A session is stored as a {@link GameSession}, whose progress is kept in a few primitive bit masks.
+ * <p>
+ * Each session costs about 550 bytes on a 64-bit JVM with compressed references, for an
+ * eight-letter Spanish word. The figure was computed from the field layout and checked by
+ * measuring the heap after storing 200 000 sessions:
+ * <ul>
+ *     <li>{@link GameSession}: 80 bytes.</li>
+ *     <li>The secret word, when it is not shared with the dictionary: 48 bytes.</li>
+ *     <li>Its {@link com.example.eclipsado.model.LetterIndex}: 48 bytes for the object and about 280 bytes
+ *     for its arrays. Most of that is the table of positions, one {@code long} per letter of the alphabet (232 bytes).</li>
+ *     <li>The store: about 90 bytes, for the entry, the map node, the boxed ID and the map table.</li>
+ * </ul>
+ * So {@code maxSessions} = 100 000 needs about 55 MB of heap.
+ * @author Brandon Fernandez
+ */
+public class SessionStore {
+
+    private final Shard[] shards; // Particiones independientes del registro
+    private final int maxSessions; // Número máximo de sesiones en todo el registro
+    private final long ttlNanos; // Tiempo de inactividad tras el que se descarta una sesión
+    private final AtomicInteger live = new AtomicInteger(); // Sesiones guardadas en todas las particiones
+    private final LongAdder expired = new LongAdder(); // Sesiones descartadas por inactividad
+    private final LongAdder evicted = new LongAdder(); // Sesiones descartadas por falta de espacio
+
+    /**
+     * Session stored together with the time of its last use (24 bytes on top of the session).
+     */
+    private static final class Entry {
+        private final GameSession session; // Estado de la partida
+        private long lastAccess; // Último uso, en unidades de System.nanoTime()
+
+        private Entry(GameSession session, long lastAccess) {
+            this.session = session;
+            this.lastAccess = lastAccess;
+        }
+    }
+
+    /**
+     * Partition of the store: an access-ordered map, used only under the lock of the shard.
+     */
+    private static final class Shard {
+        private final LinkedHashMap<Long, Entry> sessions = new LinkedHashMap<>(16, 0.75f, true); // La primera es la menos usada
+    }
+
+    /**
+     * Creates the store.
+     * @param maxSessions The maximum number of sessions kept at the same time.
+     * @param ttl         The time a session can stay idle before it is discarded.
+     */
+    public SessionStore(int maxSessions, Duration ttl) {
+        int count = Integer.highestOneBit(Math.max(1, Math.min(64, Runtime.getRuntime().availableProcessors() * 4)));
+        this.shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard();
+        }
+        this.maxSessions = Math.max(1, maxSessions);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * Registers a new session.
+     * @param session The game.
+     * @return The ID of the session, a positive number.
+     */
+    public long add(GameSession session) {
+        long now = System.nanoTime();
+        while (true) {
+            long id = ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE; // Difícil de adivinar por otros clientes
+            if (id == 0) {
+                continue;
+            }
+            Shard shard = shardOf(id);
+            synchronized (shard) {
+                if (shard.sessions.putIfAbsent(id, new Entry(session, now)) != null) {
+                    continue; // Identificador ya usado: se elige otro
+                }
+            }
+            if (live.incrementAndGet() > maxSessions) {
+                evictOverflow(id);
+            }
+            return id;
+        }
+    }
+
+    /**
+     * Evicts least recently used sessions until the store is within its limit again. It starts with the
+     * shard of the new session and, if that one has nothing else to evict, moves on to the next shards.
+     * Only one shard lock is held at a time.
+     * @param added The ID of the session just added, which is never evicted.
+     */
+    private void evictOverflow(long added) {
+        int first = shardIndex(added);
+        for (int i = 0; i < shards.length && live.get() > maxSessions; i++) {
+            Shard shard = shards[(first + i) & (shards.length - 1)];
+            synchronized (shard) {
+                Iterator<Long> ids = shard.sessions.keySet().iterator();
+                while (live.get() > maxSessions && ids.hasNext()) {
+                    if (ids.next() != added) {
+                        ids.remove();
+                        live.decrementAndGet();
+                        evicted.increment();
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Runs an action on a session while holding the lock of its shard, so two connections
+     * never modify the same game at the same time. The session counts as used.
+     * @param id     The ID of the session.
+     * @param action The action to run; it must be short.
+     * @param <R>    The type of the result.
+     * @return The result of the action, or null if the session does not exist or has expired.
+     */
+    public <R> R withSession(long id, Function<GameSession, R> action) {
+        long now = System.nanoTime();
+        Shard shard = shardOf(id);
+        synchronized (shard) {
+            Entry entry = shard.sessions.get(id); // También la mueve al final del orden de acceso
+            if (entry == null) {
+                return null;
+            }
+            if (now - entry.lastAccess > ttlNanos) {
+                shard.sessions.remove(id);
+                live.decrementAndGet();
+                expired.increment();
+                return null;
+            }
+            entry.lastAccess = now;
+            return action.apply(entry.session);
+        }
+    }
+
+    /**
+     * Removes a session.
+     * @param id The ID of the session.
+     * @return true if the session existed.
+     */
+    public boolean remove(long id) {
+        Shard shard = shardOf(id);
+        synchronized (shard) {
+            if (shard.sessions.remove(id) == null) {
+                return false;
+            }
+        }
+        live.decrementAndGet();
+        return true;
+    }
+
+    /**
+     * Discards the sessions that have been idle for longer than the time-to-live. Each shard is
+     * walked from its least recently used session and only until the first one still alive.
+     * @return The number of sessions discarded.
+     */
+    public int evictExpired() {
+        long now = System.nanoTime();
+        int removed = 0;
+        for (Shard shard : shards) {
+            synchronized (shard) {
+                Iterator<Entry> entries = shard.sessions.values().iterator();
+                while (entries.hasNext() && now - entries.next().lastAccess > ttlNanos) {
+                    entries.remove();
+                    live.decrementAndGet();
+                    removed++;
+                }
+            }
+        }
+        expired.add(removed);
+        return removed;
+    }
+
+    /**
+     * Gauge with the number of sessions currently stored.
+     * @return The number of live sessions.
+     */
+    public int getLiveSessions() {
+        return live.get();
+    }
+
+    /**
+     * Counter of the sessions discarded because they were idle for too long.
+     * @return The number of expired sessions.
+     */
+    public long getExpiredSessions() {
+        return expired.sum();
+    }
+
+    /**
+     * Counter of the sessions discarded because the store was full.
+     * @return The number of evicted sessions.
+     */
+    public long getEvictedSessions() {
+        return evicted.sum();
+    }
+
+    /**
+     * Finds the shard of a session.
+     * @param id The ID of the session.
+     * @return The shard.
+     */
+    private Shard shardOf(long id) {
+        return shards[shardIndex(id)];
+    }
+
+    /**
+     * Finds the position of the shard of a session.
+     * @param id The ID of the session.
+     * @return The index of the shard.
+     */
+    private int shardIndex(long id) {
+        return (int) (id ^ (id >>> 32)) & (shards.length - 1);
+    }
+}
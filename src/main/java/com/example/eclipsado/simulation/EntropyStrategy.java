@@ -0,0 +1,203 @@
+package com.example.eclipsado.simulation;
+
+import com.example.eclipsado.model.GameModel;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.LetterIndex;
+import com.example.eclipsado.model.WordDictionary;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Guesses the letter that maximizes the expected information about the secret word.
+ * It keeps the list of dictionary words that are still consistent with the game and, for every
+ * letter not tried yet, measures the entropy of the patterns that letter would reveal.
+ * It assumes the secret word is in the dictionary; otherwise it falls back to {@link FrequencyStrategy}.
+ * @author Brandon Fernandez
+ */
+public class EntropyStrategy implements GuessingStrategy {
+
+    private final byte[][] letters; // Identificadores de letra de cada palabra, agrupados por longitud (compartidos)
+    private final int[] openingGuess = new int[GameModel.MAX_WORD_LENGTH + 1]; // Primera letra óptima por longitud
+    private final int[] patternCounts = new int[LetterIndex.ALPHABET_SIZE << GameModel.MAX_WORD_LENGTH]; // Palabras por letra y patrón revelado
+    private final int[] touchedPatterns = new int[LetterIndex.ALPHABET_SIZE << GameModel.MAX_WORD_LENGTH]; // Patrones usados por letra, para limpiarlos
+    private final int[] touchedCount = new int[LetterIndex.ALPHABET_SIZE]; // Patrones usados de cada letra
+    private final int[] containing = new int[LetterIndex.ALPHABET_SIZE]; // Candidatas que contienen cada letra
+    private final int[] wordPatterns = new int[LetterIndex.ALPHABET_SIZE]; // Posiciones de cada letra en la palabra actual
+    private final int[] required = new int[GameModel.MAX_WORD_LENGTH]; // Letra conocida en cada posición (-1 si oculta)
+    private final FrequencyStrategy fallback = new FrequencyStrategy(); // Estrategia si no quedan candidatas
+    private int[] candidates = new int[0]; // Palabras que siguen siendo posibles
+    private int candidateCount; // Número de candidatas válidas
+    private int length; // Longitud de la partida actual
+
+    /**
+     * Creates the strategy over a table of letter identifiers built by {@link #factory(WordDictionary)}.
+     * @param letters The shared table.
+     */
+    private EntropyStrategy(byte[][] letters) {
+        this.letters = letters;
+        Arrays.fill(openingGuess, -1);
+    }
+
+    /**
+     * Creates a factory of strategies that share one read-only copy of the dictionary letters.
+     * @param dictionary The dictionary the secret words are drawn from.
+     * @return A supplier that creates one strategy per simulation thread.
+     */
+    public static Supplier<GuessingStrategy> factory(WordDictionary dictionary) {
+        byte[][] table = new byte[GameModel.MAX_WORD_LENGTH + 1][];
+        for (int length = GameModel.MIN_WORD_LENGTH; length <= GameModel.MAX_WORD_LENGTH; length++) {
+            int count = dictionary.count(length);
+            table[length] = new byte[count * length];
+            for (int index = 0; index < count; index++) {
+                for (int position = 0; position < length; position++) {
+                    table[length][index * length + position] =
+                            (byte) LetterIndex.letterId(dictionary.letterAt(length, index, position));
+                }
+            }
+        }
+        return () -> new EntropyStrategy(table);
+    }
+
+    /**
+     * Resets the candidates to every word of the length of the new game.
+     * @param session The new game.
+     */
+    @Override
+    public void newGame(GameSession session) {
+        length = session.length();
+        candidateCount = letters[length] == null ? 0 : letters[length].length / length;
+        if (candidates.length < candidateCount) {
+            candidates = new int[candidateCount];
+        }
+        for (int i = 0; i < candidateCount; i++) {
+            candidates[i] = i;
+        }
+    }
+
+    /**
+     * Chooses the letter whose revealed pattern has the highest entropy over the remaining candidates.
+     * @param session The game in progress.
+     * @return The letter identifier.
+     */
+    @Override
+    public int nextLetter(GameSession session) {
+        long guessed = session.getGuessedLetters();
+        long revealed = session.getRevealedPositions();
+        boolean opening = guessed == 0 && revealed == 0;
+        if (opening && openingGuess[length] >= 0) {
+            return openingGuess[length]; // Sin información, la mejor primera letra siempre es la misma
+        }
+
+        long visible = FrequencyStrategy.revealedLetters(session);
+        filterCandidates(session, revealed, guessed | visible);
+        if (candidateCount == 0) {
+            return fallback.nextLetter(session);
+        }
+
+        long untried = ~(guessed | visible) & ((1L << LetterIndex.ALPHABET_SIZE) - 1);
+        countPatterns(untried);
+        int best = -1;
+        double bestScore = Double.MAX_VALUE;
+        for (int id = 0; id < LetterIndex.ALPHABET_SIZE; id++) {
+            if ((untried & (1L << id)) != 0) {
+                // Minimizar la suma de c·log(c) equivale a maximizar la entropía de los patrones
+                double score = patternScore(id);
+                if (score < bestScore) {
+                    bestScore = score;
+                    best = id;
+                }
+            }
+        }
+        if (best < 0) {
+            return fallback.nextLetter(session); // Ninguna letra distingue a las candidatas
+        }
+        if (opening) {
+            openingGuess[length] = best;
+        }
+        return best;
+    }
+
+    /**
+     * Removes the candidates that contradict the discovered letters or contain a letter already ruled out.
+     * @param session   The game in progress.
+     * @param revealed  The discovered positions.
+     * @param forbidden The letters that cannot appear in a hidden position.
+     */
+    private void filterCandidates(GameSession session, long revealed, long forbidden) {
+        for (int position = 0; position < length; position++) {
+            required[position] = (revealed & (1L << position)) != 0
+                    ? LetterIndex.letterId(session.getDisplayedLetter(position))
+                    : -1;
+        }
+        byte[] table = letters[length];
+        int kept = 0;
+        for (int i = 0; i < candidateCount; i++) {
+            int offset = candidates[i] * length;
+            boolean matches = true;
+            for (int position = 0; position < length && matches; position++) {
+                int id = table[offset + position];
+                matches = required[position] >= 0 ? id == required[position] : (forbidden & (1L << id)) == 0;
+            }
+            if (matches) {
+                candidates[kept++] = candidates[i];
+            }
+        }
+        candidateCount = kept;
+    }
+
+    /**
+     * Counts, in a single pass over the candidates, how many of them would reveal each pattern
+     * for every letter not tried yet.
+     * @param untried The letters not tried yet.
+     */
+    private void countPatterns(long untried) {
+        byte[] table = letters[length];
+        Arrays.fill(touchedCount, 0);
+        Arrays.fill(containing, 0);
+        for (int i = 0; i < candidateCount; i++) {
+            int offset = candidates[i] * length;
+            long present = 0;
+            for (int position = 0; position < length; position++) {
+                int id = table[offset + position];
+                wordPatterns[id] |= 1 << position;
+                present |= 1L << id;
+            }
+            for (long bits = present; bits != 0; bits &= bits - 1) {
+                int id = Long.numberOfTrailingZeros(bits);
+                int pattern = wordPatterns[id];
+                wordPatterns[id] = 0;
+                if ((untried & (1L << id)) == 0) {
+                    continue;
+                }
+                containing[id]++;
+                int slot = (id << GameModel.MAX_WORD_LENGTH) | pattern;
+                if (patternCounts[slot]++ == 0) {
+                    touchedPatterns[(id << GameModel.MAX_WORD_LENGTH) + touchedCount[id]++] = pattern;
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the sum of c·log(c) over the patterns that guessing a letter would reveal,
+     * using the counts of {@link #countPatterns(long)}, and clears them.
+     * @param id The letter identifier.
+     * @return The score; lower is better. Letters that no candidate contains get {@link Double#MAX_VALUE}.
+     */
+    private double patternScore(int id) {
+        int base = id << GameModel.MAX_WORD_LENGTH;
+        double score = 0;
+        for (int i = 0; i < touchedCount[id]; i++) {
+            int slot = base | touchedPatterns[base + i];
+            int count = patternCounts[slot];
+            score += count * Math.log(count);
+            patternCounts[slot] = 0;
+        }
+        if (containing[id] == 0) {
+            return Double.MAX_VALUE; // Ninguna candidata contiene la letra
+        }
+        int absent = candidateCount - containing[id]; // Candidatas en las que la letra no aparece
+        return absent == 0 ? score : score + absent * Math.log(absent);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.eclipsado.simulation;
+
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.LetterFrequency;
+import com.example.eclipsado.model.LetterIndex;
+
+/**
+ * Guesses the letters in order of frequency in Spanish, ignoring the word itself.
+ * It is the baseline for a casual human player.
+ * @author Brandon Fernandez
+ */
+public class FrequencyStrategy implements GuessingStrategy {
+
+    private static final int[] ORDER = new int[LetterIndex.ALPHABET_SIZE]; // Letras de la más a la menos frecuente
+
+    static {
+        for (int i = 0; i < ORDER.length; i++) {
+            ORDER[i] = i;
+        }
+        // Ordenación por inserción según la frecuencia (solo 27 elementos)
+        for (int i = 1; i < ORDER.length; i++) {
+            int id = ORDER[i];
+            int j = i;
+            while (j > 0 && LetterFrequency.percent(id) > LetterFrequency.percent(ORDER[j - 1])) {
+                ORDER[j] = ORDER[j - 1];
+                j--;
+            }
+            ORDER[j] = id;
+        }
+    }
+
+    /**
+     * Chooses the most frequent letter that has not been guessed or revealed yet.
+     * @param session The game in progress.
+     * @return The letter identifier.
+     */
+    @Override
+    public int nextLetter(GameSession session) {
+        long used = session.getGuessedLetters() | revealedLetters(session);
+        for (int id : ORDER) {
+            if ((used & (1L << id)) == 0) {
+                return id;
+            }
+        }
+        throw new IllegalStateException("No quedan letras por intentar.");
+    }
+
+    /**
+     * Collects the letters that are already visible in the word (for example, revealed by hints).
+     * @param session The game in progress.
+     * @return A mask with one bit per visible letter.
+     */
+    static long revealedLetters(GameSession session) {
+        long letters = 0;
+        for (long rest = session.getRevealedPositions(); rest != 0; rest &= rest - 1) {
+            letters |= 1L << LetterIndex.letterId(session.getDisplayedLetter(Long.numberOfTrailingZeros(rest)));
+        }
+        return letters;
+    }
+}
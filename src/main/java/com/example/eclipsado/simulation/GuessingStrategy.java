@@ -0,0 +1,26 @@
+package com.example.eclipsado.simulation;
+
+import com.example.eclipsado.model.GameSession;
+
+/**
+ * A player used by the {@link SelfPlaySimulator}. It only looks at what a human player could see:
+ * the length of the word, the discovered letters and the letters already guessed.
+ * Instances keep per-game state, so each simulation thread uses its own instance.
+ * @author Brandon Fernandez
+ */
+public interface GuessingStrategy {
+
+    /**
+     * Called when a new game starts.
+     * @param session The new game.
+     */
+    default void newGame(GameSession session) {
+    }
+
+    /**
+     * Chooses the next letter to guess.
+     * @param session The game in progress.
+     * @return The identifier of a letter that has not been guessed yet (see {@link com.example.eclipsado.model.LetterIndex}).
+     */
+    int nextLetter(GameSession session);
+}
@@ -0,0 +1,175 @@
+package com.example.eclipsado.simulation;
+
+import com.example.eclipsado.model.GameModel;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.GuessResult;
+import com.example.eclipsado.model.HintPolicy;
+import com.example.eclipsado.model.LetterIndex;
+import com.example.eclipsado.model.WordDictionary;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Headless tool that plays millions of games against a word list to measure how fair the
+ * number of attempts and hints is for each word length. The games are split into chunks
+ * that run in parallel on the common fork-join pool; each chunk has its own strategy,
+ * random generator and {@link SimulationStats}, which are merged at the end.
+ * <p>
+ * Usage: {@code SelfPlaySimulator --dictionary=words.bin [--games=1000000] [--strategy=frequency|entropy]
+ * [--attempts=5] [--hints=3] [--hint-policy=RANDOM] [--hint-below=1] [--length=0] [--seed=1]}
+ * @author Brandon Fernandez
+ */
+public class SelfPlaySimulator {
+
+    private final WordDictionary dictionary; // Lista de palabras de la que se eligen las palabras secretas
+    private final Supplier<GuessingStrategy> strategies; // Crea una estrategia por bloque de partidas
+    private final int maxAttempts; // Fallos permitidos por partida
+    private final int maxHints; // Ayudas permitidas por partida
+    private final HintPolicy hintPolicy; // Estrategia para elegir la letra de cada ayuda
+    private final int hintBelow; // Se pide ayuda cuando quedan estos intentos o menos
+    private final int[] lengths; // Longitudes de palabra que se simulan
+
+    /**
+     * Creates the simulator.
+     * @param dictionary  The word list.
+     * @param strategies  The factory of guessing strategies.
+     * @param maxAttempts The number of wrong guesses allowed.
+     * @param maxHints    The number of hints allowed.
+     * @param hintPolicy  The strategy used to choose the letter revealed by each hint.
+     * @param hintBelow   The player asks for a hint when the remaining attempts are at most this value.
+     * @param length      The only word length to simulate, or 0 for every length in the dictionary.
+     */
+    public SelfPlaySimulator(WordDictionary dictionary, Supplier<GuessingStrategy> strategies, int maxAttempts,
+                             int maxHints, HintPolicy hintPolicy, int hintBelow, int length) {
+        this.dictionary = dictionary;
+        this.strategies = strategies;
+        this.maxAttempts = maxAttempts;
+        this.maxHints = maxHints;
+        this.hintPolicy = hintPolicy;
+        this.hintBelow = hintBelow;
+        this.lengths = IntStream.rangeClosed(GameModel.MIN_WORD_LENGTH, GameModel.MAX_WORD_LENGTH)
+                .filter(l -> (length == 0 || l == length) && dictionary.count(l) > 0)
+                .toArray();
+        if (lengths.length == 0) {
+            throw new IllegalArgumentException("El diccionario no tiene palabras de la longitud pedida.");
+        }
+    }
+
+    /**
+     * Plays the games in parallel.
+     * @param games The number of games.
+     * @param seed  The seed, so a run can be repeated.
+     * @return The merged results.
+     */
+    public SimulationStats run(long games, long seed) {
+        return run(games, seed, true);
+    }
+
+    /**
+     * Plays the games, in parallel or one chunk after another. Both ways split the games and the
+     * random generators in the same chunks, so they give the same results.
+     * @param games    The number of games.
+     * @param seed     The seed, so a run can be repeated.
+     * @param parallel Whether the chunks run in parallel.
+     * @return The merged results.
+     */
+    SimulationStats run(long games, long seed, boolean parallel) {
+        int chunks = ForkJoinPool.getCommonPoolParallelism() * 8; // Varios bloques por núcleo para repartir la carga
+        SplittableRandom root = new SplittableRandom(seed);
+        SplittableRandom[] randoms = new SplittableRandom[chunks];
+        for (int i = 0; i < chunks; i++) {
+            randoms[i] = root.split(); // Generadores independientes y reproducibles
+        }
+        IntStream indexes = IntStream.range(0, chunks);
+        return (parallel ? indexes.parallel() : indexes)
+                .mapToObj(chunk -> runChunk(games / chunks + (chunk < games % chunks ? 1 : 0), randoms[chunk]))
+                .reduce(SimulationStats::merge)
+                .orElseGet(SimulationStats::new); // Cada bloque tiene sus propias estadísticas, que se suman al final
+    }
+
+    /**
+     * Plays a block of games on the current thread.
+     * @param games  The number of games.
+     * @param random The random generator of this block.
+     * @return The results of the block.
+     * @throws IllegalStateException If the strategy chooses a letter that does not change the game.
+     */
+    private SimulationStats runChunk(long games, SplittableRandom random) {
+        SimulationStats stats = new SimulationStats();
+        GuessingStrategy strategy = strategies.get();
+        for (long game = 0; game < games; game++) {
+            int length = lengths[random.nextInt(lengths.length)];
+            String word = dictionary.wordAt(length, random.nextInt(dictionary.count(length)));
+            GameSession session = new GameSession(word, maxAttempts, maxHints, hintPolicy, random);
+            strategy.newGame(session);
+            int guesses = 0;
+            while (!session.isOver()) {
+                if (session.getRemainingAttempts() <= hintBelow && session.getHintsUsed() < maxHints) {
+                    session.useHint();
+                } else {
+                    char letter = LetterIndex.letterOf(strategy.nextLetter(session));
+                    GuessResult result = session.guess(letter);
+                    if (result == GuessResult.REPEATED || result == GuessResult.INVALID) {
+                        // La partida no avanzaría y el bucle no terminaría nunca
+                        throw new IllegalStateException("La estrategia eligió una letra que no cambia la partida: " + letter);
+                    }
+                    guesses++;
+                }
+            }
+            stats.record(length, session.isWon(), guesses, maxAttempts - session.getRemainingAttempts(),
+                    session.getHintsUsed());
+        }
+        return stats;
+    }
+
+    /**
+     * Runs the simulator from the command line and prints the results.
+     * @param args The options, in {@code --name=value} form.
+     * @throws IOException If the dictionary cannot be opened.
+     */
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                System.err.println("Opción no válida: " + arg);
+                System.exit(2);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        if (!options.containsKey("dictionary")) {
+            System.err.println("Uso: SelfPlaySimulator --dictionary=palabras.bin [--games=1000000] "
+                    + "[--strategy=frequency|entropy] [--attempts=5] [--hints=3] [--hint-policy=RANDOM] "
+                    + "[--hint-below=1] [--length=0] [--seed=1]");
+            System.exit(2);
+        }
+
+        WordDictionary dictionary = WordDictionary.open(Path.of(options.get("dictionary")));
+        Supplier<GuessingStrategy> strategies = switch (options.getOrDefault("strategy", "frequency")) {
+            case "frequency" -> FrequencyStrategy::new;
+            case "entropy" -> EntropyStrategy.factory(dictionary);
+            default -> throw new IllegalArgumentException("Estrategia desconocida: " + options.get("strategy"));
+        };
+        SelfPlaySimulator simulator = new SelfPlaySimulator(dictionary, strategies,
+                Integer.parseInt(options.getOrDefault("attempts", String.valueOf(GameSession.DEFAULT_MAX_ATTEMPTS))),
+                Integer.parseInt(options.getOrDefault("hints", String.valueOf(GameSession.DEFAULT_MAX_HINTS))),
+                HintPolicy.valueOf(options.getOrDefault("hint-policy", HintPolicy.RANDOM.name())),
+                Integer.parseInt(options.getOrDefault("hint-below", "1")),
+                Integer.parseInt(options.getOrDefault("length", "0")));
+
+        long games = Long.parseLong(options.getOrDefault("games", "1000000"));
+        long start = System.nanoTime();
+        SimulationStats stats = simulator.run(games, Long.parseLong(options.getOrDefault("seed", "1")));
+        double seconds = (System.nanoTime() - start) / 1e9;
+        stats.print(System.out);
+        System.out.printf("%d partidas en %.2f s (%.0f partidas/s, %d hilos)%n", stats.totalGames(), seconds,
+                stats.totalGames() / seconds, ForkJoinPool.getCommonPoolParallelism());
+    }
+}
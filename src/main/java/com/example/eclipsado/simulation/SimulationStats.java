@@ -0,0 +1,179 @@
+package com.example.eclipsado.simulation;
+
+import com.example.eclipsado.model.GameModel;
+import com.example.eclipsado.model.LetterIndex;
+
+import java.io.PrintStream;
+
+/**
+ * Results of a batch of simulated games, kept as fixed-size counters and histograms per word length.
+ * Its memory does not grow with the number of games, so each simulation thread fills its own
+ * instance and the instances are merged at the end.
+ * @author Brandon Fernandez
+ */
+public class SimulationStats {
+
+    private static final int LENGTHS = GameModel.MAX_WORD_LENGTH + 1; // Índice directo por longitud
+    private static final int MAX_GUESSES = LetterIndex.ALPHABET_SIZE; // No se puede intentar más de 27 letras
+
+    private final long[] games = new long[LENGTHS]; // Partidas jugadas
+    private final long[] wins = new long[LENGTHS]; // Partidas ganadas
+    private final long[] hints = new long[LENGTHS]; // Ayudas usadas en total
+    private final long[][] guessHistogram = new long[LENGTHS][MAX_GUESSES + 1]; // Partidas por número de letras intentadas
+    private final long[][] wrongHistogram = new long[LENGTHS][MAX_GUESSES + 1]; // Partidas por número de fallos
+
+    /**
+     * Records the result of a game.
+     * @param length    The length of the secret word.
+     * @param won       Whether the game was won.
+     * @param guesses   The number of letters guessed.
+     * @param wrong     The number of wrong guesses.
+     * @param hintsUsed The number of hints used.
+     */
+    public void record(int length, boolean won, int guesses, int wrong, int hintsUsed) {
+        games[length]++;
+        if (won) {
+            wins[length]++;
+        }
+        hints[length] += hintsUsed;
+        guessHistogram[length][Math.min(guesses, MAX_GUESSES)]++;
+        wrongHistogram[length][Math.min(wrong, MAX_GUESSES)]++;
+    }
+
+    /**
+     * Adds the results of another instance to this one.
+     * @param other The results to add.
+     * @return This instance.
+     */
+    public SimulationStats merge(SimulationStats other) {
+        for (int length = 0; length < LENGTHS; length++) {
+            games[length] += other.games[length];
+            wins[length] += other.wins[length];
+            hints[length] += other.hints[length];
+            for (int i = 0; i <= MAX_GUESSES; i++) {
+                guessHistogram[length][i] += other.guessHistogram[length][i];
+                wrongHistogram[length][i] += other.wrongHistogram[length][i];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Gets the total number of games recorded.
+     * @return The number of games.
+     */
+    public long totalGames() {
+        long total = 0;
+        for (long count : games) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Gets the number of games recorded for a word length.
+     * @param length The length of the secret word.
+     * @return The number of games.
+     */
+    public long games(int length) {
+        return games[length];
+    }
+
+    /**
+     * Gets a percentile of the number of letters guessed in the games of a word length.
+     * @param length   The length of the secret word.
+     * @param fraction The percentile, between 0 and 1 (0.5 for the median).
+     * @return The smallest number of letters that covers at least that fraction of the games, or 0 if there were no games of that length.
+     */
+    public int guessPercentile(int length, double fraction) {
+        return percentile(guessHistogram[length], games[length], fraction);
+    }
+
+    /**
+     * Gets a percentile of the number of wrong guesses in the games of a word length.
+     * @param length   The length of the secret word.
+     * @param fraction The percentile, between 0 and 1 (0.5 for the median).
+     * @return The smallest number of wrong guesses that covers at least that fraction of the games, or 0 if there were no games of that length.
+     */
+    public int wrongPercentile(int length, double fraction) {
+        return percentile(wrongHistogram[length], games[length], fraction);
+    }
+
+    /**
+     * Gets the win rate of a word length.
+     * @param length The length of the secret word.
+     * @return The fraction of games won, or 0 if there were no games of that length.
+     */
+    public double winRate(int length) {
+        return games[length] == 0 ? 0 : (double) wins[length] / games[length];
+    }
+
+    /**
+     * Prints a table with the results per word length.
+     * @param out The stream to print to.
+     */
+    public void print(PrintStream out) {
+        out.println("long  partidas   victorias  letras(media)  letras(p90)  fallos(media)  fallos(p90)  ayudas(media)  "
+                + "distribución de letras intentadas");
+        for (int length = 0; length < LENGTHS; length++) {
+            if (games[length] == 0) {
+                continue;
+            }
+            out.printf("%4d %10d %10.2f%% %14.2f %12d %14.2f %12d %14.2f  %s%n", length, games[length], 100 * winRate(length),
+                    mean(guessHistogram[length], games[length]), guessPercentile(length, 0.9),
+                    mean(wrongHistogram[length], games[length]), wrongPercentile(length, 0.9),
+                    (double) hints[length] / games[length], histogram(guessHistogram[length]));
+        }
+    }
+
+    /**
+     * Computes the mean of a histogram.
+     * @param histogram The number of games per value.
+     * @param total     The number of games.
+     * @return The mean value.
+     */
+    private static double mean(long[] histogram, long total) {
+        long sum = 0;
+        for (int value = 0; value < histogram.length; value++) {
+            sum += value * histogram[value];
+        }
+        return (double) sum / total;
+    }
+
+    /**
+     * Finds a percentile in a histogram.
+     * @param histogram The number of games per value.
+     * @param total     The number of games.
+     * @param fraction  The percentile, between 0 and 1.
+     * @return The smallest value whose cumulative count reaches the fraction of the games, or 0 if there are no games.
+     */
+    private static int percentile(long[] histogram, long total, double fraction) {
+        if (fraction < 0 || fraction > 1) {
+            throw new IllegalArgumentException("El percentil debe estar entre 0 y 1.");
+        }
+        long rank = Math.max(1, (long) Math.ceil(fraction * total)); // Posición de la partida buscada, empezando en 1
+        long seen = 0;
+        for (int value = 0; value < histogram.length; value++) {
+            seen += histogram[value];
+            if (seen >= rank) {
+                return value;
+            }
+        }
+        return 0; // Sin partidas
+    }
+
+    /**
+     * Formats the non-empty bins of a histogram as {@code value:count}.
+     * @param histogram The number of games per value.
+     * @return The formatted histogram.
+     */
+    private static String histogram(long[] histogram) {
+        StringBuilder text = new StringBuilder();
+        for (int value = 0; value < histogram.length; value++) {
+            if (histogram[value] > 0) {
+                text.append(value).append(':').append(histogram[value]).append(' ');
+            }
+        }
+        return text.toString().trim();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.eclipsado.stats;
+
+/**
+ * A won game in the leaderboard of {@link PlayerStatistics}.
+ * @param score     The points of the game.
+ * @param word      The secret word.
+ * @param timestamp The moment the game was won, in milliseconds since the epoch.
+ * @author Brandon Fernandez
+ */
+public record LeaderboardEntry(int score, String word, long timestamp) implements Comparable<LeaderboardEntry> {
+
+    /**
+     * Orders the entries from the highest score to the lowest; on a tie, the oldest game goes first.
+     * @param other The entry to compare with.
+     * @return A negative number if this entry ranks higher.
+     */
+    @Override
+    public int compareTo(LeaderboardEntry other) {
+        if (score != other.score) {
+            return Integer.compare(other.score, score);
+        }
+        if (timestamp != other.timestamp) {
+            return Long.compare(timestamp, other.timestamp);
+        }
+        return word.compareTo(other.word);
+    }
+}
@@ -0,0 +1,346 @@
+package com.example.eclipsado.stats;
+
+import com.example.eclipsado.model.GameModel;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.LetterIndex;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Statistics of the local player, updated incrementally at the end of each game: wins, losses,
+ * letters tried to solve the word, hints used and a leaderboard of the best games, all broken
+ * down by word length. The counters are primitive arrays and the histograms have a fixed size,
+ * so recording a game does not depend on the number of games played.
+ * <p>
+ * The statistics are kept in a small binary file that is read the first time they are used and
+ * rewritten in the background after every game. The leaderboard is a sorted set bounded to
+ * {@link #LEADERBOARD_SIZE} entries, so adding a game and reading the top entries take O(log n).
+ * The application uses a single instance, returned by {@link #getInstance()}.
+ * @author Brandon Fernandez
+ */
+public final class PlayerStatistics {
+
+    /**
+     * Number of games kept in the leaderboard.
+     */
+    public static final int LEADERBOARD_SIZE = 10;
+
+    private static final System.Logger LOGGER = System.getLogger(PlayerStatistics.class.getName());
+    private static final Path DEFAULT_FILE = Path.of(System.getProperty("user.home"), ".eclipsado", "estadisticas.bin");
+    private static final int MAGIC = 0x45434C53; // "ECLS"
+    private static final int VERSION = 1; // Versión del formato
+    private static final int LENGTHS = GameModel.MAX_WORD_LENGTH + 1; // Índice directo por longitud
+    private static final int BINS = LetterIndex.ALPHABET_SIZE + 1; // De 0 a 27 letras intentadas
+
+    private final Path file; // Fichero donde se guardan las estadísticas
+    private final Object fileLock = new Object(); // Evita que dos guardados usen a la vez el fichero temporal
+    private final ExecutorService saver = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "statistics-saver");
+        thread.setDaemon(true); // No impide que la aplicación se cierre
+        return thread;
+    });
+    private final int[] wins = new int[LENGTHS]; // Partidas ganadas por longitud
+    private final int[] losses = new int[LENGTHS]; // Partidas perdidas por longitud
+    private final int[] hints = new int[LENGTHS]; // Ayudas usadas por longitud
+    private final int[][] lettersToSolve = new int[LENGTHS][BINS]; // Partidas ganadas por número de letras intentadas
+    private final TreeSet<LeaderboardEntry> leaderboard = new TreeSet<>(); // Mejores partidas, de mayor a menor puntuación
+
+    /**
+     * Creates the statistics stored in a file, loading it if it exists.
+     * @param file The statistics file.
+     */
+    public PlayerStatistics(Path file) {
+        this.file = file;
+        try {
+            load();
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "No se pudieron leer las estadísticas; se empieza de cero", e);
+            clearCounters();
+        }
+    }
+
+    /**
+     * Returns the statistics of the local player, loading them from disk the first time.
+     * @return The instance of PlayerStatistics.
+     */
+    public static PlayerStatistics getInstance() {
+        return PlayerStatisticsHolder.INSTANCE;
+    }
+
+    /**
+     * Computes the points of a won game: longer words, fewer mistakes and fewer hints score more.
+     * @param session The finished game.
+     * @return The points, or 0 if the game was not won.
+     */
+    public static int score(GameSession session) {
+        if (!session.isWon()) {
+            return 0;
+        }
+        return 10 * session.length() + 20 * session.getRemainingAttempts()
+                + 15 * (session.getMaxHints() - session.getHintsUsed());
+    }
+
+    /**
+     * Records the result of a finished game and saves the statistics in the background.
+     * @param session The finished game.
+     * @return The position of the game in the leaderboard (1 is the best), or 0 if it did not enter it.
+     */
+    public synchronized int record(GameSession session) {
+        if (!session.isOver()) {
+            throw new IllegalArgumentException("La partida aún no ha terminado.");
+        }
+        int length = Math.min(session.length(), GameModel.MAX_WORD_LENGTH);
+        hints[length] += session.getHintsUsed();
+        int rank = 0;
+        if (session.isWon()) {
+            wins[length]++;
+            // Los alfabetos con más letras que el español se acumulan en el último grupo
+            lettersToSolve[length][Math.min(Long.bitCount(session.getGuessedLetters()), BINS - 1)]++;
+            rank = addToLeaderboard(new LeaderboardEntry(score(session), session.getSecretWord(), System.currentTimeMillis()));
+        } else {
+            losses[length]++;
+        }
+        scheduleSave();
+        return rank;
+    }
+
+    /**
+     * Gets the number of games played with words of a length.
+     * @param length The length of the word, or 0 for all lengths.
+     * @return The number of games.
+     */
+    public synchronized int getGames(int length) {
+        return getWins(length) + getLosses(length);
+    }
+
+    /**
+     * Gets the number of games won with words of a length.
+     * @param length The length of the word, or 0 for all lengths.
+     * @return The number of wins.
+     */
+    public synchronized int getWins(int length) {
+        return length == 0 ? sum(wins) : wins[length];
+    }
+
+    /**
+     * Gets the number of games lost with words of a length.
+     * @param length The length of the word, or 0 for all lengths.
+     * @return The number of losses.
+     */
+    public synchronized int getLosses(int length) {
+        return length == 0 ? sum(losses) : losses[length];
+    }
+
+    /**
+     * Gets the number of hints used with words of a length.
+     * @param length The length of the word, or 0 for all lengths.
+     * @return The number of hints.
+     */
+    public synchronized int getHintsUsed(int length) {
+        return length == 0 ? sum(hints) : hints[length];
+    }
+
+    /**
+     * Gets the distribution of letters tried in the games won with words of a length.
+     * @param length The length of the word.
+     * @return A copy of the histogram: the element {@code i} is the number of games solved with {@code i} letters.
+     */
+    public synchronized int[] getLettersToSolve(int length) {
+        return lettersToSolve[length].clone();
+    }
+
+    /**
+     * Gets the average number of letters tried in the games won with words of a length.
+     * @param length The length of the word.
+     * @return The average, or 0 if no game of that length was won.
+     */
+    public synchronized double getAverageLettersToSolve(int length) {
+        long total = 0;
+        for (int letters = 0; letters < BINS; letters++) {
+            total += (long) letters * lettersToSolve[length][letters];
+        }
+        return wins[length] == 0 ? 0 : (double) total / wins[length];
+    }
+
+    /**
+     * Gets the best games.
+     * @param count The maximum number of entries.
+     * @return The entries, from the best to the worst.
+     */
+    public synchronized List<LeaderboardEntry> getTop(int count) {
+        List<LeaderboardEntry> top = new ArrayList<>(Math.min(count, leaderboard.size()));
+        Iterator<LeaderboardEntry> entries = leaderboard.iterator();
+        while (top.size() < count && entries.hasNext()) {
+            top.add(entries.next());
+        }
+        return top;
+    }
+
+    /**
+     * Writes the statistics to disk now, replacing the file atomically. It can be called
+     * while a save scheduled after a game is running; the two are written one after the other.
+     * @throws IOException If the file cannot be written.
+     */
+    public void save() throws IOException {
+        synchronized (fileLock) {
+            byte[] contents;
+            synchronized (this) {
+                contents = serialize();
+            }
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Path temporary = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(temporary, contents);
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+    }
+
+    /**
+     * Waits until the saves scheduled after the games recorded so far have finished.
+     * @throws InterruptedException If the thread is interrupted while waiting.
+     */
+    void awaitScheduledSaves() throws InterruptedException {
+        try {
+            saver.submit(() -> {}).get(); // El hilo de guardado ejecuta las tareas en orden
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e); // La tarea vacía no falla
+        }
+    }
+
+    /**
+     * Adds a won game to the leaderboard, dropping the worst entry if it is full. Must be called while holding the lock.
+     * @param entry The game.
+     * @return The position of the game (1 is the best), or 0 if it did not enter the leaderboard.
+     */
+    private int addToLeaderboard(LeaderboardEntry entry) {
+        leaderboard.add(entry);
+        if (leaderboard.size() > LEADERBOARD_SIZE && leaderboard.pollLast() == entry) {
+            return 0; // Peor que todas las partidas de la clasificación
+        }
+        return leaderboard.headSet(entry).size() + 1; // Como mucho LEADERBOARD_SIZE elementos
+    }
+
+    /**
+     * Saves the statistics on the background thread.
+     */
+    private void scheduleSave() {
+        saver.execute(() -> {
+            try {
+                save();
+            } catch (IOException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "No se pudieron guardar las estadísticas", e);
+            }
+        });
+    }
+
+    /**
+     * Encodes the statistics in the file format.
+     * @return The contents of the file.
+     */
+    private byte[] serialize() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(1024);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeByte(LENGTHS);
+            out.writeByte(BINS);
+            for (int length = 0; length < LENGTHS; length++) {
+                out.writeInt(wins[length]);
+                out.writeInt(losses[length]);
+                out.writeInt(hints[length]);
+                for (int letters = 0; letters < BINS; letters++) {
+                    out.writeInt(lettersToSolve[length][letters]);
+                }
+            }
+            out.writeByte(leaderboard.size());
+            for (LeaderboardEntry entry : leaderboard) {
+                out.writeInt(entry.score());
+                out.writeLong(entry.timestamp());
+                byte[] word = entry.word().getBytes(StandardCharsets.UTF_8); // Admite letras de cualquier alfabeto
+                out.writeByte(word.length);
+                out.write(word);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(e); // No ocurre al escribir en memoria
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Reads the statistics file, if it exists.
+     * @throws IOException If the file cannot be read or is not a statistics file.
+     */
+    private void load() throws IOException {
+        if (!Files.exists(file)) {
+            return;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION || in.readByte() != LENGTHS || in.readByte() != BINS) {
+                throw new IOException("El fichero no contiene estadísticas válidas.");
+            }
+            for (int length = 0; length < LENGTHS; length++) {
+                wins[length] = in.readInt();
+                losses[length] = in.readInt();
+                hints[length] = in.readInt();
+                for (int letters = 0; letters < BINS; letters++) {
+                    lettersToSolve[length][letters] = in.readInt();
+                }
+            }
+            for (int entries = in.readUnsignedByte(); entries > 0; entries--) {
+                int score = in.readInt();
+                long timestamp = in.readLong();
+                byte[] word = in.readNBytes(in.readUnsignedByte());
+                addToLeaderboard(new LeaderboardEntry(score, new String(word, StandardCharsets.UTF_8), timestamp));
+            }
+        }
+    }
+
+    /**
+     * Resets every counter, after a failed load.
+     */
+    private void clearCounters() {
+        Arrays.fill(wins, 0);
+        Arrays.fill(losses, 0);
+        Arrays.fill(hints, 0);
+        for (int[] histogram : lettersToSolve) {
+            Arrays.fill(histogram, 0);
+        }
+        leaderboard.clear();
+    }
+
+    /**
+     * Adds the elements of an array.
+     * @param values The array.
+     * @return The sum.
+     */
+    private static int sum(int[] values) {
+        int total = 0;
+        for (int value : values) {
+            total += value;
+        }
+        return total;
+    }
+
+    /**
+     * Static inner class that maintains the only instance of PlayerStatistics; it is created,
+     * and the file is read, the first time {@link #getInstance()} is called.
+     */
+    private static class PlayerStatisticsHolder {
+        private static final PlayerStatistics INSTANCE = new PlayerStatistics(DEFAULT_FILE); // Instancia única
+    }
+}
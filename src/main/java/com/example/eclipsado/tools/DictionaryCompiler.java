@@ -0,0 +1,32 @@
+package com.example.eclipsado.tools;
+
+import com.example.eclipsado.model.WordDictionary;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Command-line tool that converts a text word list (UTF-8, one word per line) into the
+ * binary format read by {@link WordDictionary}.
+ * Usage: {@code DictionaryCompiler <words.txt> <words.bin>}
+ * @author Brandon Fernandez
+ */
+public final class DictionaryCompiler {
+
+    private DictionaryCompiler() {}
+
+    /**
+     * Compiles the word list.
+     * @param args The text file and the binary file to create.
+     * @throws IOException If a file cannot be read or written.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Uso: DictionaryCompiler <palabras.txt> <palabras.bin>");
+            System.exit(2);
+        }
+        long start = System.nanoTime();
+        int words = WordDictionary.compile(Path.of(args[0]), Path.of(args[1]));
+        System.out.printf("%d palabras compiladas en %.1f ms%n", words, (System.nanoTime() - start) / 1e6);
+    }
+}
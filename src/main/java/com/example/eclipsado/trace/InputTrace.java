@@ -0,0 +1,260 @@
+package com.example.eclipsado.trace;
+
+import com.example.eclipsado.model.Alphabet;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.HintPolicy;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+
+/**
+ * Recording of a game: the secret word, the limits, the seed of the random generator and every
+ * input the player sent to the game logic, with the moment it arrived. Because the hints are chosen
+ * with a generator created from the recorded seed, feeding the same inputs to {@link #newSession()}
+ * plays exactly the same game. The final state is stored as well, so a replay can check that it did.
+ * <p>
+ * File format (big-endian): magic number, version, word, seed, limits, hint policy and alphabet, number of
+ * events, and for each event the letter (0 for a hint, 1 around the letters of a whole-word guess) and the microseconds since the previous one
+ * as a variable-length number, followed by the final state. A typical game takes less than 100 bytes.
+ * @author Brandon Fernandez
+ */
+public final class InputTrace {
+
+    /**
+     * Input value that represents a click on the hint button.
+     */
+    public static final char HINT = '\0';
+
+    /**
+     * Input value recorded before and after the letters of a whole-word guess.
+     */
+    public static final char WORD = '\u0001';
+
+    private static final int MAGIC = 0x45434C54; // "ECLT"
+    private static final int VERSION = 1; // Versión del formato
+
+    private final String secretWord; // Palabra secreta de la partida
+    private final long seed; // Semilla del generador de las ayudas
+    private final int maxAttempts; // Fallos permitidos
+    private final int maxHints; // Ayudas permitidas
+    private final HintPolicy hintPolicy; // Estrategia para elegir la letra de cada ayuda
+    private final Alphabet alphabet; // Idioma de la palabra y de las letras
+    private final char[] inputs; // Letra de cada evento, o HINT
+    private final long[] times; // Nanosegundos desde el inicio de la partida hasta cada evento
+    private final long revealedPositions; // Posiciones descubiertas al final
+    private final int remainingAttempts; // Intentos restantes al final
+    private final int hintsUsed; // Ayudas usadas al final
+
+    /**
+     * Creates a trace. The arrays are not copied.
+     * @param secretWord        The secret word.
+     * @param seed              The seed of the random generator used for the hints.
+     * @param maxAttempts       The number of wrong guesses allowed.
+     * @param maxHints          The number of hints allowed.
+     * @param hintPolicy        The strategy used to choose the letter revealed by each hint.
+     * @param alphabet          The alphabet of the game.
+     * @param inputs            The letter of each event, or {@link #HINT}.
+     * @param times             The nanoseconds from the start of the game to each event.
+     * @param revealedPositions The discovered positions at the end of the recording.
+     * @param remainingAttempts The attempts left at the end of the recording.
+     * @param hintsUsed         The hints used at the end of the recording.
+     */
+    InputTrace(String secretWord, long seed, int maxAttempts, int maxHints, HintPolicy hintPolicy, Alphabet alphabet,
+               char[] inputs, long[] times, long revealedPositions, int remainingAttempts, int hintsUsed) {
+        this.secretWord = secretWord;
+        this.seed = seed;
+        this.maxAttempts = maxAttempts;
+        this.maxHints = maxHints;
+        this.hintPolicy = hintPolicy;
+        this.alphabet = alphabet;
+        this.inputs = inputs;
+        this.times = times;
+        this.revealedPositions = revealedPositions;
+        this.remainingAttempts = remainingAttempts;
+        this.hintsUsed = hintsUsed;
+    }
+
+    /**
+     * Creates a game in the state in which the recording started, with the recorded seed.
+     * @param secretWord  The secret word.
+     * @param maxAttempts The number of wrong guesses allowed.
+     * @param maxHints    The number of hints allowed.
+     * @param hintPolicy  The strategy used to choose the letter revealed by each hint.
+     * @param alphabet    The alphabet of the game.
+     * @param seed        The seed of the random generator used for the hints.
+     * @return The new game.
+     */
+    static GameSession newSession(String secretWord, int maxAttempts, int maxHints, HintPolicy hintPolicy,
+                                  Alphabet alphabet, long seed) {
+        return new GameSession(secretWord, maxAttempts, maxHints, hintPolicy, new SplittableRandom(seed), alphabet);
+    }
+
+    /**
+     * Creates a game in the state in which the recording started.
+     * @return The new game, ready to receive the recorded inputs.
+     */
+    public GameSession newSession() {
+        return newSession(secretWord, maxAttempts, maxHints, hintPolicy, alphabet, seed);
+    }
+
+    /**
+     * Checks whether a game ended in the same state as the recorded one.
+     * @param session The game after receiving every input of the trace.
+     * @return true if the discovered positions, the attempts and the hints match.
+     */
+    public boolean matches(GameSession session) {
+        return session.getRevealedPositions() == revealedPositions && session.getRemainingAttempts() == remainingAttempts
+                && session.getHintsUsed() == hintsUsed;
+    }
+
+    /**
+     * Gets the secret word.
+     * @return The secret word.
+     */
+    public String getSecretWord() {
+        return secretWord;
+    }
+
+    /**
+     * Gets the seed of the random generator used for the hints.
+     * @return The seed.
+     */
+    public long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Gets the number of recorded inputs.
+     * @return The number of events.
+     */
+    public int size() {
+        return inputs.length;
+    }
+
+    /**
+     * Gets a recorded input.
+     * @param event The index of the event.
+     * @return The letter guessed, {@link #HINT} or {@link #WORD}.
+     */
+    public char inputAt(int event) {
+        return inputs[event];
+    }
+
+    /**
+     * Gets the moment a recorded input arrived.
+     * @param event The index of the event.
+     * @return The nanoseconds from the start of the game.
+     */
+    public long timeAt(int event) {
+        return times[event];
+    }
+
+    /**
+     * Writes the trace to a file.
+     * @param file The trace file; it is replaced if it exists.
+     * @throws IOException If the file cannot be written.
+     */
+    public void write(Path file) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeUTF(secretWord);
+            out.writeLong(seed);
+            out.writeByte(maxAttempts);
+            out.writeByte(maxHints);
+            out.writeByte(hintPolicy.ordinal());
+            out.writeByte(alphabet.getCode());
+            out.writeInt(inputs.length);
+            long previous = 0; // Microsegundos del evento anterior
+            for (int i = 0; i < inputs.length; i++) {
+                long micros = times[i] / 1000;
+                out.writeChar(inputs[i]);
+                writeVarLong(out, micros - previous); // Los eventos están ordenados: la diferencia no es negativa
+                previous = micros;
+            }
+            out.writeLong(revealedPositions);
+            out.writeByte(remainingAttempts);
+            out.writeByte(hintsUsed);
+        }
+    }
+
+    /**
+     * Reads a trace file.
+     * @param file The trace file.
+     * @return The trace.
+     * @throws IOException If the file cannot be read or is not a trace.
+     */
+    public static InputTrace read(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                throw new IOException("El fichero no es una grabación de partida: " + file);
+            }
+            String secretWord = in.readUTF();
+            long seed = in.readLong();
+            int maxAttempts = in.readUnsignedByte();
+            int maxHints = in.readUnsignedByte();
+            int policy = in.readUnsignedByte();
+            if (policy >= HintPolicy.values().length) {
+                throw new IOException("Política de ayudas desconocida en la grabación: " + file);
+            }
+            HintPolicy hintPolicy = HintPolicy.values()[policy];
+            Alphabet alphabet;
+            try {
+                alphabet = Alphabet.forCode(in.readUnsignedByte());
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Alfabeto desconocido en la grabación: " + file, e);
+            }
+            int count = in.readInt();
+            if (count < 0 || count > Files.size(file)) { // Cada evento ocupa al menos tres bytes
+                throw new IOException("Número de eventos no válido en la grabación: " + file);
+            }
+            char[] inputs = new char[count];
+            long[] times = new long[count];
+            long time = 0;
+            for (int i = 0; i < count; i++) {
+                inputs[i] = in.readChar();
+                time += readVarLong(in) * 1000;
+                times[i] = time;
+            }
+            return new InputTrace(secretWord, seed, maxAttempts, maxHints, hintPolicy, alphabet, inputs, times,
+                    in.readLong(), in.readUnsignedByte(), in.readUnsignedByte());
+        }
+    }
+
+    /**
+     * Writes a non-negative number in groups of seven bits, from the least significant one.
+     * @param out   The stream.
+     * @param value The number.
+     * @throws IOException If the stream cannot be written.
+     */
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80); // El bit alto indica que siguen más grupos
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a number written by {@link #writeVarLong(DataOutputStream, long)}.
+     * @param in The stream.
+     * @return The number.
+     * @throws IOException If the stream cannot be read.
+     */
+    private static long readVarLong(DataInputStream in) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int group = in.readUnsignedByte();
+            value |= (long) (group & 0x7F) << shift;
+            if ((group & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.eclipsado.trace;
+
+import com.example.eclipsado.model.Alphabet;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.GuessResult;
+import com.example.eclipsado.model.HintPolicy;
+import com.example.eclipsado.model.HintResult;
+
+import java.util.Arrays;
+
+/**
+ * Records a game while it is played. The recorder creates the game with a seeded random
+ * generator, and the player inputs must go through {@link #guess(char)}, {@link #guessWord(CharSequence)} and {@link #useHint()},
+ * which note the input and its time before passing it to the game. Recording an input only
+ * stores a character and a number in arrays that grow when they are full.
+ * An instance is not thread-safe.
+ * @author Brandon Fernandez
+ */
+public final class TraceRecorder {
+
+    private final String secretWord; // Palabra secreta de la partida
+    private final long seed; // Semilla del generador de las ayudas
+    private final GameSession session; // Partida grabada
+    private final long start; // Momento en que empezó la grabación
+    private char[] inputs = new char[16]; // Letra de cada evento, o InputTrace.HINT
+    private long[] times = new long[16]; // Nanosegundos desde el inicio hasta cada evento
+    private int size; // Eventos grabados
+
+    /**
+     * Starts recording a new game.
+     * @param secretWord  The secret word.
+     * @param maxAttempts The number of wrong guesses allowed.
+     * @param maxHints    The number of hints allowed.
+     * @param hintPolicy  The strategy used to choose the letter revealed by each hint.
+     * @param alphabet    The alphabet of the game.
+     * @param seed        The seed of the random generator used for the hints.
+     */
+    public TraceRecorder(String secretWord, int maxAttempts, int maxHints, HintPolicy hintPolicy, Alphabet alphabet,
+                         long seed) {
+        this.session = InputTrace.newSession(secretWord, maxAttempts, maxHints, hintPolicy, alphabet, seed);
+        this.secretWord = session.getSecretWord();
+        this.seed = seed;
+        this.start = System.nanoTime();
+    }
+
+    /**
+     * Gets the recorded game, to read its state.
+     * @return The game.
+     */
+    public GameSession getSession() {
+        return session;
+    }
+
+    /**
+     * Records a guess and plays it.
+     * @param letter The letter guessed by the player.
+     * @return The outcome of the guess.
+     */
+    public GuessResult guess(char letter) {
+        record(letter);
+        return session.guess(letter);
+    }
+
+    /**
+     * Records a whole-word guess and plays it. The letters are recorded between two {@link InputTrace#WORD} events.
+     * @param word The word guessed by the player.
+     * @return The outcome of the guess.
+     */
+    public GuessResult guessWord(CharSequence word) {
+        record(InputTrace.WORD);
+        for (int i = 0; i < word.length(); i++) {
+            record(word.charAt(i));
+        }
+        record(InputTrace.WORD);
+        return session.guessWord(word);
+    }
+
+    /**
+     * Records a click on the hint button and plays it.
+     * @return The outcome of the hint.
+     */
+    public HintResult useHint() {
+        record(InputTrace.HINT);
+        return session.useHint();
+    }
+
+    /**
+     * Builds the trace of the inputs recorded so far, with the current state of the game as its final state.
+     * @return The trace.
+     */
+    public InputTrace finish() {
+        return new InputTrace(secretWord, seed, session.getMaxAttempts(), session.getMaxHints(), session.getHintPolicy(),
+                session.getAlphabet(), Arrays.copyOf(inputs, size), Arrays.copyOf(times, size), session.getRevealedPositions(),
+                session.getRemainingAttempts(), session.getHintsUsed());
+    }
+
+    /**
+     * Adds an input to the recording.
+     * @param input The letter, or {@link InputTrace#HINT}.
+     */
+    private void record(char input) {
+        if (size == inputs.length) {
+            inputs = Arrays.copyOf(inputs, size * 2);
+            times = Arrays.copyOf(times, size * 2);
+        }
+        inputs[size] = input;
+        times[size] = System.nanoTime() - start;
+        size++;
+    }
+}
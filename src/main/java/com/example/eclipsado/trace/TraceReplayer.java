@@ -0,0 +1,217 @@
+package com.example.eclipsado.trace;
+
+import com.example.eclipsado.metrics.Histogram;
+import com.example.eclipsado.model.GameSession;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Headless tool that feeds recorded games through the game logic, to reproduce a session or to
+ * turn a set of real sessions into a repeatable benchmark. The traces are divided among several
+ * threads; each thread replays its traces one after another with its own {@link Histogram},
+ * and the results are merged at the end. By default the inputs are sent as fast as possible;
+ * in paced mode each one waits until the moment it arrived in the original game.
+ * <p>
+ * Usage: {@code TraceReplayer --traces=carpeta [--threads=1] [--repeat=1] [--paced=false]}
+ * @author Brandon Fernandez
+ */
+public class TraceReplayer {
+
+    /**
+     * Results of a replay.
+     * @param games      The games replayed.
+     * @param events     The inputs sent to the game logic.
+     * @param mismatches The games that did not end in the recorded state.
+     * @param latencies  The time the game logic took to process each input.
+     * @param nanos      The wall-clock duration of the replay.
+     */
+    public record Report(long games, long events, long mismatches, Histogram latencies, long nanos) {
+    }
+
+    private final List<InputTrace> traces; // Partidas grabadas
+    private final boolean paced; // Respeta los tiempos de la grabación
+
+    /**
+     * Creates the replayer.
+     * @param traces The recorded games.
+     * @param paced  Whether each input waits until the moment it was recorded.
+     */
+    public TraceReplayer(List<InputTrace> traces, boolean paced) {
+        this.traces = List.copyOf(traces);
+        this.paced = paced;
+    }
+
+    /**
+     * Replays a recorded game.
+     * @param trace     The recording.
+     * @param latencies The histogram where the time of each input is recorded.
+     * @param paced     Whether each input waits until the moment it was recorded.
+     * @return true if the game ended in the recorded state.
+     */
+    public static boolean replay(InputTrace trace, Histogram latencies, boolean paced) {
+        GameSession session = trace.newSession();
+        StringBuilder word = null; // Letras de la palabra completa que se está leyendo (null fuera de una palabra)
+        long start = System.nanoTime();
+        for (int i = 0; i < trace.size(); i++) {
+            if (paced) {
+                long wait;
+                while ((wait = trace.timeAt(i) - (System.nanoTime() - start)) > 0) {
+                    LockSupport.parkNanos(wait); // Puede despertar antes de tiempo
+                }
+            }
+            char input = trace.inputAt(i);
+            if (input == InputTrace.WORD && word == null) {
+                word = new StringBuilder();
+                continue;
+            }
+            if (word != null && input != InputTrace.WORD) {
+                word.append(input);
+                continue;
+            }
+            long before = System.nanoTime();
+            if (input == InputTrace.WORD) {
+                session.guessWord(word);
+                word = null;
+            } else if (input == InputTrace.HINT) {
+                session.useHint();
+            } else {
+                session.guess(input);
+            }
+            latencies.record(System.nanoTime() - before);
+        }
+        return trace.matches(session);
+    }
+
+    /**
+     * Replays every trace a number of times in parallel.
+     * @param threads The number of threads.
+     * @param repeat  How many times each trace is replayed.
+     * @return The merged results.
+     * @throws InterruptedException If the thread is interrupted while waiting for the replay.
+     */
+    public Report run(int threads, int repeat) throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            long start = System.nanoTime();
+            List<Future<Report>> parts = new ArrayList<>(threads);
+            for (int thread = 0; thread < threads; thread++) {
+                int first = thread;
+                parts.add(executor.submit(() -> runPart(first, threads, repeat)));
+            }
+            long games = 0;
+            long events = 0;
+            long mismatches = 0;
+            Histogram latencies = new Histogram();
+            for (Future<Report> part : parts) {
+                Report report = part.get();
+                games += report.games();
+                events += report.events();
+                mismatches += report.mismatches();
+                latencies.merge(report.latencies()); // Cada hilo tiene su histograma; se suman al final
+            }
+            return new Report(games, events, mismatches, latencies, System.nanoTime() - start);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Falló la reproducción de una partida", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Replays the traces assigned to a thread: those whose index is {@code first}, {@code first + step}...
+     * @param first  The first trace of the thread.
+     * @param step   The number of threads.
+     * @param repeat How many times each trace is replayed.
+     * @return The results of the thread.
+     */
+    private Report runPart(int first, int step, int repeat) {
+        Histogram latencies = new Histogram();
+        long games = 0;
+        long events = 0;
+        long mismatches = 0;
+        for (int round = 0; round < repeat; round++) {
+            for (int i = first; i < traces.size(); i += step) {
+                InputTrace trace = traces.get(i);
+                if (!replay(trace, latencies, paced)) {
+                    mismatches++;
+                }
+                games++;
+                events += trace.size();
+            }
+        }
+        return new Report(games, events, mismatches, latencies, 0);
+    }
+
+    /**
+     * Reads a trace file, or every {@code .trace} file of a directory.
+     * @param path The file or directory.
+     * @return The traces.
+     * @throws IOException If a file cannot be read.
+     */
+    public static List<InputTrace> load(Path path) throws IOException {
+        if (!Files.isDirectory(path)) {
+            return List.of(InputTrace.read(path));
+        }
+        List<InputTrace> traces = new ArrayList<>();
+        try (Stream<Path> files = Files.list(path)) {
+            for (Path file : files.filter(f -> f.getFileName().toString().endsWith(".trace")).sorted().toList()) {
+                traces.add(InputTrace.read(file));
+            }
+        }
+        return traces;
+    }
+
+    /**
+     * Entry point of the replayer.
+     * @param args The options, in the form {@code --name=value}.
+     * @throws IOException          If the traces cannot be read.
+     * @throws InterruptedException If the thread is interrupted.
+     */
+    public static void main(String[] args) throws IOException, InterruptedException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int equals = arg.indexOf('=');
+            if (!arg.startsWith("--") || equals < 0) {
+                System.err.println("Opción no válida: " + arg);
+                System.exit(2);
+            }
+            options.put(arg.substring(2, equals), arg.substring(equals + 1));
+        }
+        if (!options.containsKey("traces")) {
+            System.err.println("Uso: TraceReplayer --traces=carpeta [--threads=1] [--repeat=1] [--paced=false]");
+            System.exit(2);
+        }
+
+        List<InputTrace> traces = load(Path.of(options.get("traces")));
+        if (traces.isEmpty()) {
+            System.err.println("No hay grabaciones en " + options.get("traces"));
+            System.exit(1);
+        }
+        int threads = Integer.parseInt(options.getOrDefault("threads", "1"));
+        TraceReplayer replayer = new TraceReplayer(traces, Boolean.parseBoolean(options.getOrDefault("paced", "false")));
+        Report report = replayer.run(threads, Integer.parseInt(options.getOrDefault("repeat", "1")));
+
+        double seconds = report.nanos() / 1e9;
+        Histogram latencies = report.latencies();
+        System.out.printf("%d partidas y %d eventos en %.2f s (%.0f partidas/s, %.0f eventos/s, %d hilos)%n",
+                report.games(), report.events(), seconds, report.games() / seconds, report.events() / seconds, threads);
+        System.out.printf("Latencia por evento: p50 %d ns, p99 %d ns, p99.9 %d ns, máx %d ns%n", latencies.percentile(50),
+                latencies.percentile(99), latencies.percentile(99.9), latencies.getMax());
+        System.out.printf("Partidas que no terminaron como en la grabación: %d%n", report.mismatches());
+        if (report.mismatches() > 0) {
+            System.exit(1);
+        }
+    }
+}
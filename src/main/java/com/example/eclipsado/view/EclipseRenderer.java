@@ -0,0 +1,153 @@
+package com.example.eclipsado.view;
+
+import com.example.eclipsado.metrics.EclipseDrawEvent;
+import com.example.eclipsado.metrics.MetricsRegistry;
+import com.example.eclipsado.metrics.Timer;
+import javafx.animation.AnimationTimer;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+
+/**
+ * Canvas that draws the eclipse shown in the second window: the sun, its halo and the moon
+ * covering it. The drawing is procedural, so any coverage can be shown (the game rules decide
+ * the coverage of each number of attempts) and every change slides the moon smoothly from its
+ * previous position instead of swapping frames.
+ * The only memory it uses is the canvas itself; nothing is read from disk or decoded.
+ * @author Brandon Fernandez
+ */
+public class EclipseRenderer extends Canvas {
+
+    /**
+     * Default size in pixels of the canvas.
+     */
+    public static final double DISPLAY_SIZE = 200.0;
+
+    private static final Timer DRAW_TIMER = MetricsRegistry.getInstance().timer("ui.eclipse.draw"); // Tiempo de cada dibujado
+    private static final long TRANSITION_NANOS = 400_000_000L; // Duración del desplazamiento de la luna
+    private static final double SUN_RADIUS = 0.16; // Radio del sol, relativo al lado del lienzo
+    private static final double MOON_RADIUS = 0.155; // Algo menor que el sol: en el eclipse total queda un anillo
+    private static final Color SUN_COLOR = Color.rgb(240, 236, 236);
+    private static final Color MOON_COLOR = Color.rgb(2, 13, 13);
+    // Halo amarillo alrededor del sol que se oscurece hacia un cielo gris; el radio llega a las esquinas
+    private static final RadialGradient SKY = new RadialGradient(0, 0, 0.5, 0.5, Math.sqrt(0.5), true, CycleMethod.NO_CYCLE,
+            new Stop(0.22, Color.rgb(232, 194, 76)),
+            new Stop(0.32, Color.rgb(228, 188, 80)),
+            new Stop(0.43, Color.rgb(122, 106, 86)),
+            new Stop(0.50, Color.rgb(110, 108, 105)),
+            new Stop(0.71, Color.rgb(166, 166, 166)),
+            new Stop(1.00, Color.rgb(214, 214, 214)));
+
+    private double coverage; // Fracción del sol cubierta que se está mostrando
+    private double fromCoverage; // Fracción cubierta al empezar la transición
+    private double targetCoverage; // Fracción cubierta al terminar la transición
+    private long transitionStart; // Momento en que empezó la transición
+    private final AnimationTimer animation = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            animate(now);
+        }
+    };
+
+    /**
+     * Creates the renderer with the default size, showing the uncovered sun.
+     */
+    public EclipseRenderer() {
+        this(DISPLAY_SIZE);
+    }
+
+    /**
+     * Creates a square renderer showing the uncovered sun.
+     * @param size The side of the canvas, in pixels.
+     */
+    public EclipseRenderer(double size) {
+        super(size, size);
+        widthProperty().addListener(observable -> draw()); // Se redibuja si el FXML cambia el tamaño
+        heightProperty().addListener(observable -> draw());
+        draw();
+    }
+
+    /**
+     * Shows the eclipse with part of the sun covered.
+     * @param fraction The fraction of the sun covered by the moon, between 0 and 1.
+     * @param animate  Whether the moon slides from its current position or jumps to the new one.
+     */
+    public void show(double fraction, boolean animate) {
+        targetCoverage = Math.max(0.0, Math.min(fraction, 1.0));
+        if (!animate || targetCoverage == coverage) {
+            animation.stop();
+            coverage = targetCoverage;
+            draw();
+            return;
+        }
+        fromCoverage = coverage; // Si había una transición en curso, continúa desde donde iba
+        transitionStart = System.nanoTime();
+        animation.start();
+    }
+
+    /**
+     * Gets the fraction of the sun covered in the current frame.
+     * @return A value between 0 and 1.
+     */
+    public double getCoverage() {
+        return coverage;
+    }
+
+    /**
+     * Advances the transition on each pulse and stops the timer when the moon reaches its position.
+     * @param now The time of the pulse, in nanoseconds.
+     */
+    private void animate(long now) {
+        double progress = Math.min(1.0, Math.max(0.0, (now - transitionStart) / (double) TRANSITION_NANOS));
+        double eased = progress * progress * (3.0 - 2.0 * progress); // Acelera al principio y frena al final
+        coverage = fromCoverage + (targetCoverage - fromCoverage) * eased;
+        draw();
+        if (progress >= 1.0) {
+            animation.stop();
+        }
+    }
+
+    /**
+     * Draws the current frame: the sky, the sun and the part of the moon that covers it.
+     */
+    private void draw() {
+        EclipseDrawEvent event = new EclipseDrawEvent(); // Solo se registra si Flight Recorder está grabando
+        event.begin();
+        long start = DRAW_TIMER.start();
+        double width = getWidth();
+        double height = getHeight();
+        double size = Math.min(width, height);
+        double centerX = width / 2;
+        double centerY = height / 2;
+        double sunRadius = size * SUN_RADIUS;
+        double moonRadius = size * MOON_RADIUS;
+        // La luna entra por la derecha: sin cubrir apenas toca el borde del sol, cubierto queda centrada
+        double moonX = centerX + (sunRadius + moonRadius) * (1.0 - coverage);
+
+        GraphicsContext graphics = getGraphicsContext2D();
+        graphics.setFill(SKY);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setFill(SUN_COLOR);
+        graphics.fillOval(centerX - sunRadius, centerY - sunRadius, 2 * sunRadius, 2 * sunRadius);
+        if (coverage > 0) {
+            graphics.save();
+            graphics.beginPath(); // Solo se pinta la parte de la luna que está delante del sol
+            graphics.arc(centerX, centerY, sunRadius, sunRadius, 0, 360);
+            graphics.closePath();
+            graphics.clip();
+            graphics.setFill(MOON_COLOR);
+            graphics.fillOval(moonX - moonRadius, centerY - moonRadius, 2 * moonRadius, 2 * moonRadius);
+            graphics.restore();
+        }
+        DRAW_TIMER.stop(start);
+        event.end();
+        if (event.shouldCommit()) {
+            event.coverage = coverage;
+            event.size = (int) size;
+            event.commit();
+        }
+    }
+}
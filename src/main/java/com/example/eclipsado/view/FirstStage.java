@@ -1,10 +1,6 @@
 package com.example.eclipsado.view;
 
-import com.example.eclipsado.Main;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
 import java.io.IOException;
@@ -18,18 +14,18 @@ public class FirstStage extends Stage {
 
     /**
      * Constructor of the FirstStage window.
-     * Loads the FXML file, sets the window title and icon, and displays it.
+     * Takes the scene graph and the icon already loaded by {@link StageManager}, sets the window title and icon, and displays it.
      * @throws IOException If an error occurs while loading the FXML file.
      */
     public FirstStage() throws IOException {
-        FXMLLoader loader = new FXMLLoader(Main.class.getResource("FirstStage-view.fxml"));
-        Parent root = loader.load();
-        Scene first_scene = new Scene(root);
+        StageManager manager = StageManager.getInstance();
+        Scene first_scene = new Scene(manager.getFirstRoot()); // Escena precargada en segundo plano
         setResizable(false);
-        getIcons().add(new Image(Main.class.getResource("/com/example/eclipsado/Icon/logo.png").toString())); // Cargar el icono
+        getIcons().add(manager.getIcon()); // Icono compartido, decodificado una sola vez
         setTitle("El Sol Eclipsado"); // Establecer el título de la ventana
         setScene(first_scene);
         show(); // Mostrar la ventana
+        StageManager.getInstance().logFirstFrame(first_scene); // Registra el tiempo hasta el primer fotograma
     }
 
     /**
@@ -0,0 +1,252 @@
+package com.example.eclipsado.view;
+
+import com.example.eclipsado.metrics.Histogram;
+import com.example.eclipsado.metrics.MetricsRegistry;
+import com.example.eclipsado.model.GameModel;
+import com.example.eclipsado.model.WordDictionary;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.stage.Stage;
+import javafx.stage.Window;
+
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Low-memory mode for kiosks with little RAM that run the game for hours. It is configured with
+ * system properties:
+ * <ul>
+ *     <li>{@code eclipsado.kiosk}: {@code true} to enable it.</li>
+ *     <li>{@code eclipsado.kiosk.memory}: the heap budget in MiB (96 by default).</li>
+ *     <li>{@code eclipsado.kiosk.report}: a CSV file where a line is appended after every round.</li>
+ * </ul>
+ * In this mode both views share a single window and a single scene whose root is swapped between
+ * rounds, the window icon is decoded at the size it is shown, and after every round the live heap
+ * and an estimate of the texture memory of the scene (canvases and images) are measured and
+ * reported. The live heap is what the heap pools held right after the last garbage collection, so
+ * garbage that has not been collected yet is not counted and no collection has to be forced.
+ * If it exceeds the budget, the caches that can be rebuilt are released; they are not released
+ * again until a new collection shows the effect.
+ * Follows the singleton pattern.
+ * @author Brandon Fernandez
+ */
+public final class KioskMode {
+
+    /**
+     * System property that enables the low-memory mode.
+     */
+    public static final String ENABLED_PROPERTY = "eclipsado.kiosk";
+
+    /**
+     * Size in pixels of the window icon in this mode.
+     */
+    public static final int ICON_SIZE = 32;
+
+    private static final System.Logger LOGGER = System.getLogger(KioskMode.class.getName());
+    private static final long MIB = 1024 * 1024;
+    private static final String REPORT_HEADER = "ronda,instante,heap_usado,heap_reservado,heap_maximo,textura_estimada,liberado\n";
+
+    private final boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY); // Indica si está activo el modo de poca memoria
+    private final long memoryBudget = Long.getLong("eclipsado.kiosk.memory", 96) * MIB; // Heap máximo deseado
+    private final Path reportFile = reportFile(); // Informe por ronda (null si no se escribe)
+    private final Histogram heapHistogram = MetricsRegistry.getInstance().histogram("kiosk.heap.used"); // Heap usado por ronda
+    private final Histogram textureHistogram = MetricsRegistry.getInstance().histogram("kiosk.texture.bytes"); // Textura estimada por ronda
+    private int rounds; // Rondas terminadas
+    private long collectionsAtRelease = -1; // Recolecciones hechas al liberar las cachés por última vez
+
+    /**
+     * Private constructor to prevent the creation of multiple instances of KioskMode.
+     */
+    private KioskMode() {}
+
+    /**
+     * Returns the only instance of KioskMode.
+     * @return The instance of KioskMode.
+     */
+    public static KioskMode getInstance() {
+        return KioskModeHolder.INSTANCE;
+    }
+
+    /**
+     * Indicates whether the low-memory mode is enabled.
+     * @return true if {@value #ENABLED_PROPERTY} is {@code true}.
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Gets the heap budget.
+     * @return The maximum heap in use wanted after a round, in bytes.
+     */
+    public long getMemoryBudget() {
+        return memoryBudget;
+    }
+
+    /**
+     * Measures the memory after a round, releases the caches if the heap is over the budget and reports the result.
+     * Must be called on the JavaFX thread.
+     * @param window The window of the game.
+     */
+    public void roundFinished(Window window) {
+        rounds++;
+        long used = liveHeapBytes();
+        long collections = collectionCount();
+        // Sin una recolección desde la última liberación, la cifra todavía no refleja lo liberado
+        boolean released = used > memoryBudget && collections != collectionsAtRelease;
+        if (released) {
+            releaseCaches();
+            collectionsAtRelease = collections;
+        }
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long texture = estimateTextureBytes(window);
+        heapHistogram.record(used);
+        textureHistogram.record(texture);
+        LOGGER.log(released ? System.Logger.Level.WARNING : System.Logger.Level.INFO,
+                "Ronda {0}: heap {1} MiB de {2} MiB permitidos, textura estimada {3} KiB{4}", String.valueOf(rounds),
+                String.valueOf(used / MIB), String.valueOf(memoryBudget / MIB), String.valueOf(texture / 1024),
+                released ? "; se liberaron las cachés" : "");
+        if (reportFile != null) {
+            writeReport(used, heap.getCommitted(), heap.getMax(), texture, released);
+        }
+    }
+
+    /**
+     * Measures the heap that was still live after the last garbage collection, adding up the
+     * collection usage of the heap pools. A pool that has not been collected yet (such as the old
+     * generation before its first full collection) has no such figure, and its current usage is added instead.
+     * @return The live heap, in bytes.
+     */
+    static long liveHeapBytes() {
+        long live = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            if (pool.getType() != MemoryType.HEAP) {
+                continue;
+            }
+            MemoryUsage collected = pool.getCollectionUsage();
+            live += collected != null && collected.getCommitted() > 0 ? collected.getUsed() : pool.getUsage().getUsed();
+        }
+        return live;
+    }
+
+    /**
+     * Counts the garbage collections made since the JVM started.
+     * @return The number of collections of every collector.
+     */
+    private static long collectionCount() {
+        long count = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            count += Math.max(collector.getCollectionCount(), 0); // -1 si el recolector no lo informa
+        }
+        return count;
+    }
+
+    /**
+     * Estimates the memory of the textures of a window: the pixels of its canvases and images,
+     * scaled by the output scale of the screen, and its icons.
+     * @param window The window.
+     * @return The estimated bytes, at four bytes per pixel.
+     */
+    public static long estimateTextureBytes(Window window) {
+        long bytes = 0;
+        double scale = window.getOutputScaleX() * window.getOutputScaleY();
+        Scene scene = window.getScene();
+        if (scene != null) {
+            bytes += (long) (nodeTextureBytes(scene.getRoot()) * scale);
+        }
+        if (window instanceof Stage stage) {
+            for (Image icon : stage.getIcons()) {
+                bytes += imageBytes(icon);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Adds up the texture pixels of a node and its descendants.
+     * @param node The node.
+     * @return The estimated bytes, at four bytes per pixel and output scale 1.
+     */
+    private static long nodeTextureBytes(Node node) {
+        long bytes = 0;
+        if (node instanceof Canvas canvas) {
+            bytes += (long) (canvas.getWidth() * canvas.getHeight() * 4);
+        } else if (node instanceof ImageView view && view.getImage() != null) {
+            bytes += imageBytes(view.getImage());
+        }
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                bytes += nodeTextureBytes(child);
+            }
+        }
+        return bytes;
+    }
+
+    /**
+     * Computes the memory of a decoded image.
+     * @param image The image.
+     * @return The bytes, at four bytes per pixel.
+     */
+    private static long imageBytes(Image image) {
+        return (long) (image.getWidth() * image.getHeight() * 4);
+    }
+
+    /**
+     * Releases the caches that are rebuilt on demand, so the next collection can reclaim their memory.
+     */
+    private static void releaseCaches() {
+        WordDictionary dictionary = GameModel.getInstance().getDictionary();
+        if (dictionary != null) {
+            dictionary.candidates().release(); // Índice de sugerencias: se reconstruye la próxima vez que se use
+        }
+    }
+
+    /**
+     * Appends the measurements of a round to the report file.
+     * @param used     The live heap after the last collection.
+     * @param total    The heap reserved.
+     * @param max      The maximum heap.
+     * @param texture  The estimated texture memory.
+     * @param released Whether the caches were released.
+     */
+    private void writeReport(long used, long total, long max, long texture, boolean released) {
+        String line = rounds + "," + System.currentTimeMillis() + "," + used + "," + total + "," + max + "," + texture + ","
+                + released + "\n";
+        try {
+            if (!Files.exists(reportFile)) {
+                Files.writeString(reportFile, REPORT_HEADER, StandardCharsets.UTF_8);
+            }
+            Files.writeString(reportFile, line, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            LOGGER.log(System.Logger.Level.WARNING, "No se pudo escribir el informe de memoria", e);
+        }
+    }
+
+    /**
+     * Reads the path of the report file.
+     * @return The file, or null if no report is written.
+     */
+    private static Path reportFile() {
+        String file = System.getProperty("eclipsado.kiosk.report");
+        return file == null || file.isBlank() ? null : Path.of(file);
+    }
+
+    /**
+     * Static inner class that maintains the only instance of KioskMode.
+     */
+    private static class KioskModeHolder {
+        private static final KioskMode INSTANCE = new KioskMode(); // Instancia única de KioskMode
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.eclipsado.view;
+
+import com.example.eclipsado.model.GameModel;
+import javafx.animation.AnimationTimer;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.HBox;
+import javafx.scene.text.Font;
+
+/**
+ * Row of letter cells that shows the discovered word. The cells are created once, with a fixed
+ * size, and reused in every round; after a guess only the cells of the newly revealed positions
+ * change their text, so the rest of the row is not laid out again. Revealed letters grow into
+ * place with an animation driven by the FX pulse, which does not create any node or object.
+ * @author Brandon Fernandez
+ */
+public class LetterRow extends HBox {
+
+    private static final String HIDDEN = "_"; // Texto de una posición oculta
+    private static final double CELL_WIDTH = 18.0; // Ancho fijo de cada casilla
+    private static final long REVEAL_NANOS = 250_000_000L; // Duración de la animación de revelado
+    private static final String[] LETTER_TEXT = new String[256]; // Texto de cada letra Latin-1, sin crear cadenas nuevas
+
+    static {
+        for (char c = 0; c < LETTER_TEXT.length; c++) {
+            LETTER_TEXT[c] = String.valueOf(c);
+        }
+    }
+
+    private final Label[] cells = new Label[GameModel.MAX_WORD_LENGTH]; // Casillas reutilizables
+    private final long[] revealedAt = new long[GameModel.MAX_WORD_LENGTH]; // Inicio de la animación de cada casilla (0 si no se anima)
+    private long shownPositions; // Posiciones que ya muestran su letra
+    private long animating; // Posiciones cuya animación está en curso
+    private final AnimationTimer animation = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            animate(now);
+        }
+    };
+
+    /**
+     * Creates the row with one hidden cell per possible letter of the secret word.
+     */
+    public LetterRow() {
+        setAlignment(Pos.CENTER);
+        setSpacing(4.0);
+        Font font = Font.font("Georgia", 20.0);
+        for (int i = 0; i < cells.length; i++) {
+            Label cell = new Label(HIDDEN);
+            cell.setFont(font);
+            cell.setStyle("-fx-text-fill: White;");
+            cell.setAlignment(Pos.CENTER);
+            cell.setMinWidth(CELL_WIDTH); // Tamaño fijo: cambiar una letra no cambia el ancho de la fila
+            cell.setPrefWidth(CELL_WIDTH);
+            cell.setMaxWidth(CELL_WIDTH);
+            cells[i] = cell;
+        }
+        getChildren().addAll(cells);
+    }
+
+    /**
+     * Prepares the row for a new word: shows one hidden cell per letter and hides the rest.
+     * @param length The number of letters of the word.
+     */
+    public void reset(int length) {
+        animation.stop();
+        animating = 0;
+        shownPositions = 0;
+        for (int i = 0; i < cells.length; i++) {
+            Label cell = cells[i];
+            boolean used = i < length;
+            cell.setVisible(used);
+            cell.setManaged(used); // Las casillas sobrantes no ocupan espacio
+            cell.setText(HIDDEN);
+            cell.setScaleX(1.0);
+            cell.setScaleY(1.0);
+        }
+    }
+
+    /**
+     * Shows the letters of the positions revealed since the last call. Only the cells of
+     * the new positions are updated, and each of them starts its reveal animation.
+     * @param revealedPositions The mask of discovered positions (bit 0 is the first letter).
+     * @param word              The secret word.
+     */
+    public void showRevealed(long revealedPositions, String word) {
+        long changed = revealedPositions & ~shownPositions;
+        if (changed == 0) {
+            return;
+        }
+        long now = System.nanoTime();
+        for (long rest = changed; rest != 0; rest &= rest - 1) {
+            int position = Long.numberOfTrailingZeros(rest);
+            char letter = word.charAt(position);
+            Label cell = cells[position];
+            cell.setText(letter < LETTER_TEXT.length ? LETTER_TEXT[letter] : String.valueOf(letter));
+            cell.setScaleX(0.0);
+            cell.setScaleY(0.0);
+            revealedAt[position] = now;
+        }
+        shownPositions |= changed;
+        animating |= changed;
+        animation.start(); // No hace nada si ya estaba en marcha
+    }
+
+    /**
+     * Advances the reveal animations on each pulse and stops the timer when all of them have finished.
+     * @param now The time of the pulse, in nanoseconds.
+     */
+    private void animate(long now) {
+        for (long rest = animating; rest != 0; rest &= rest - 1) {
+            int position = Long.numberOfTrailingZeros(rest);
+            double progress = Math.min(1.0, Math.max(0.0, (now - revealedAt[position]) / (double) REVEAL_NANOS));
+            double scale = 1.0 - (1.0 - progress) * (1.0 - progress); // Desaceleración al final
+            cells[position].setScaleX(scale);
+            cells[position].setScaleY(scale);
+            if (progress >= 1.0) {
+                animating &= ~(1L << position);
+            }
+        }
+        if (animating == 0) {
+            animation.stop();
+        }
+    }
+}
@@ -1,10 +1,6 @@
 package com.example.eclipsado.view;
 
-import com.example.eclipsado.Main;
-import javafx.fxml.FXMLLoader;
-import javafx.scene.Parent;
 import javafx.scene.Scene;
-import javafx.scene.image.Image;
 import javafx.stage.Stage;
 
 import java.io.IOException;
@@ -18,15 +14,14 @@ public class SecondStage extends Stage {
 
     /**
      * Constructor of the SecondStage window.
-     * Loads the FXML file, sets the window title and icon, and displays it.
+     * Takes the scene graph and the icon already loaded by {@link StageManager}, sets the window title and icon, and displays it.
      * @throws IOException If an error occurs while loading the FXML file.
      */
     public SecondStage() throws IOException {
-        FXMLLoader loader = new FXMLLoader(Main.class.getResource("SecondStage-view.fxml"));
-        Parent root = loader.load();
-        Scene second_scene = new Scene(root);
+        StageManager manager = StageManager.getInstance();
+        Scene second_scene = new Scene(manager.getSecondRoot()); // Escena precargada en segundo plano
         setResizable(false);
-        getIcons().add(new Image(Main.class.getResource("/com/example/eclipsado/Icon/logo.png").toString())); // Cargar el icono
+        getIcons().add(manager.getIcon()); // Icono compartido, decodificado una sola vez
         setTitle("El Sol Eclipsado"); // Establecer el título de la ventana
         setScene(second_scene);
         show(); // Mostrar la ventana
@@ -0,0 +1,356 @@
+package com.example.eclipsado.view;
+
+import com.example.eclipsado.Main;
+import com.example.eclipsado.controller.FirstStageController;
+import com.example.eclipsado.controller.SecondStageController;
+import com.example.eclipsado.journal.GameJournal;
+import com.example.eclipsado.metrics.FxmlLoadEvent;
+import com.example.eclipsado.metrics.MetricsRegistry;
+import com.example.eclipsado.metrics.Timer;
+import com.example.eclipsado.model.GameModel;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.stats.PlayerStatistics;
+import javafx.fxml.FXMLLoader;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.image.Image;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads and caches the scene graphs of both windows and the shared window icon.
+ * The FXML files are parsed in the background while the application starts, so switching
+ * windows does not have to build anything, and the second window is reset for each new round
+ * instead of being rebuilt. It also logs the time to the first frame and the window-switch latency.
+ * In the low-memory {@link KioskMode} both views are shown in the first window, swapping the root of its scene.
+ * Follows the singleton pattern.
+ * @author Brandon Fernandez
+ */
+public final class StageManager {
+
+    private static final System.Logger LOGGER = System.getLogger(StageManager.class.getName());
+    private static final Timer FXML_LOAD_TIMER = MetricsRegistry.getInstance().timer("ui.fxml.load"); // Tiempo de carga de cada FXML
+    private static final Timer FXML_WAIT_TIMER = MetricsRegistry.getInstance().timer("ui.fxml.wait"); // Espera de los constructores de las ventanas
+    private static final Path JOURNAL_FILE = Path.of(System.getProperty("user.home"), ".eclipsado", "partida.journal");
+
+    private final long createdAt = System.nanoTime(); // Momento en que se inició la carga
+    private CompletableFuture<LoadedView> firstView; // Escena de la primera ventana
+    private CompletableFuture<LoadedView> secondView; // Escena de la segunda ventana
+    private CompletableFuture<Image> icon; // Icono compartido por ambas ventanas
+    private GameJournal journal; // Diario de la partida en curso (null si no se pudo abrir)
+    private boolean journalOpened; // Indica si ya se intentó abrir el diario
+
+    /**
+     * Scene graph loaded from an FXML file together with its controller.
+     * @param root       The root node of the scene graph.
+     * @param controller The controller created by the FXMLLoader.
+     */
+    private record LoadedView(Parent root, Object controller) {
+    }
+
+    /**
+     * Private constructor to prevent the creation of multiple instances of StageManager.
+     */
+    private StageManager() {}
+
+    /**
+     * Returns the only instance of StageManager.
+     * @return The instance of StageManager.
+     */
+    public static StageManager getInstance() {
+        return StageManagerHolder.INSTANCE;
+    }
+
+    /**
+     * Starts loading the icon, both scene graphs and the player statistics in the background.
+     * Calling it more than once has no effect.
+     */
+    public synchronized void preload() {
+        if (firstView != null) {
+            return;
+        }
+        ExecutorService executor = Executors.newFixedThreadPool(2, task -> {
+            Thread thread = new Thread(task, "scene-preload");
+            thread.setDaemon(true); // No impide que la aplicación se cierre
+            return thread;
+        });
+        String iconUrl = Main.class.getResource("/com/example/eclipsado/Icon/logo.png").toString();
+        icon = CompletableFuture.supplyAsync(() -> KioskMode.getInstance().isEnabled()
+                ? new Image(iconUrl, KioskMode.ICON_SIZE, KioskMode.ICON_SIZE, true, true) // Se decodifica al tamaño en pantalla
+                : new Image(iconUrl), executor);
+        firstView = CompletableFuture.supplyAsync(() -> load("FirstStage-view.fxml"), executor);
+        secondView = CompletableFuture.supplyAsync(() -> load("SecondStage-view.fxml"), executor);
+        executor.execute(PlayerStatistics::getInstance); // Lee las estadísticas antes de que termine la primera partida
+        executor.shutdown(); // Las tareas pendientes terminan y luego se liberan los hilos
+    }
+
+    /**
+     * Gets the root node of the first window, waiting for it to finish loading if necessary.
+     * @return The root of FirstStage-view.fxml.
+     * @throws IOException If the FXML file could not be loaded.
+     */
+    public Parent getFirstRoot() throws IOException {
+        return await(firstView()).root();
+    }
+
+    /**
+     * Gets the root node of the second window, waiting for it to finish loading if necessary.
+     * @return The root of SecondStage-view.fxml.
+     * @throws IOException If the FXML file could not be loaded.
+     */
+    public Parent getSecondRoot() throws IOException {
+        return await(secondView()).root();
+    }
+
+    /**
+     * Gets the controller of the first window.
+     * @return The controller of FirstStage-view.fxml.
+     * @throws IOException If the FXML file could not be loaded.
+     */
+    public FirstStageController getFirstController() throws IOException {
+        return (FirstStageController) await(firstView()).controller();
+    }
+
+    /**
+     * Gets the controller of the second window.
+     * @return The controller of SecondStage-view.fxml.
+     * @throws IOException If the FXML file could not be loaded.
+     */
+    public SecondStageController getSecondController() throws IOException {
+        return (SecondStageController) await(secondView()).controller();
+    }
+
+    /**
+     * Gets the icon shared by both windows; it is decoded only once.
+     * @return The window icon.
+     * @throws IOException If the icon could not be loaded.
+     */
+    public Image getIcon() throws IOException {
+        preload();
+        return await(icon);
+    }
+
+    /**
+     * Gets the journal where the moves of the current game are saved, opening it the first time.
+     * @return The journal, or null if it could not be opened (the game can still be played, without saving).
+     */
+    public synchronized GameJournal getJournal() {
+        if (!journalOpened) {
+            journalOpened = true;
+            try {
+                Files.createDirectories(JOURNAL_FILE.getParent());
+                journal = GameJournal.open(JOURNAL_FILE);
+            } catch (IOException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "No se pudo abrir el diario de partidas", e);
+            }
+        }
+        return journal;
+    }
+
+    /**
+     * Opens the second window with the game that was in progress when the application was last closed, if any.
+     * @return true if a saved game was resumed; false if the first window has to be shown.
+     * @throws IOException If a window could not be loaded.
+     */
+    public boolean resumeSavedGame() throws IOException {
+        GameJournal gameJournal = getJournal();
+        if (gameJournal == null) {
+            return false;
+        }
+        long start = System.nanoTime();
+        GameSession saved;
+        try {
+            saved = gameJournal.recover(GameSession.SHARED_RANDOM);
+        } catch (RuntimeException e) {
+            // Un diario dañado no debe impedir arrancar: se empieza una ronda nueva
+            LOGGER.log(System.Logger.Level.WARNING, "No se pudo recuperar la partida guardada", e);
+            return false;
+        }
+        if (saved == null) {
+            return false;
+        }
+        LOGGER.log(System.Logger.Level.INFO, "Partida recuperada en {0} ms", (System.nanoTime() - start) / 1_000_000.0);
+        getSecondController().resumeGame(saved);
+        if (KioskMode.getInstance().isEnabled()) {
+            showInKioskWindow(getSecondRoot()); // La ventana ya registra su primer fotograma al crearse
+            return true;
+        }
+        SecondStage secondStage = SecondStage.getInstance();
+        secondStage.show();
+        logFirstFrame(secondStage.getScene());
+        return true;
+    }
+
+    /**
+     * Writes the pending moves of the game journal and closes it.
+     */
+    public synchronized void closeJournal() {
+        if (journal != null) {
+            try {
+                journal.close();
+            } catch (IOException e) {
+                LOGGER.log(System.Logger.Level.WARNING, "No se pudo guardar la partida", e);
+            }
+            journal = null;
+        }
+    }
+
+    /**
+     * Closes the first window and opens the second one with a new round for the secret word
+     * stored in {@link GameModel}. The second window is reused between rounds.
+     * @throws IOException If a window could not be loaded.
+     */
+    public void showSecondStage() throws IOException {
+        long start = System.nanoTime();
+        getSecondController().startGame(GameModel.getInstance().getSecretWord()); // Reinicia la partida sin reconstruir la escena
+        if (KioskMode.getInstance().isEnabled()) {
+            logNextFrame(showInKioskWindow(getSecondRoot()).getScene(), start, "Cambio a la segunda vista");
+            return;
+        }
+        SecondStage secondStage = SecondStage.getInstance();
+        secondStage.show(); // Se abre antes de cerrar la primera para que la aplicación no termine
+        FirstStage.getInstance().close();
+        logNextFrame(secondStage.getScene(), start, "Cambio a la segunda ventana");
+    }
+
+    /**
+     * Closes the second window and opens the first one again so a new round can be played.
+     * @throws IOException If a window could not be loaded.
+     */
+    public void showFirstStage() throws IOException {
+        long start = System.nanoTime();
+        getFirstController().reset(); // Limpia la palabra de la ronda anterior
+        KioskMode kiosk = KioskMode.getInstance();
+        if (kiosk.isEnabled()) {
+            FirstStage window = showInKioskWindow(getFirstRoot());
+            logNextFrame(window.getScene(), start, "Cambio a la primera vista");
+            kiosk.roundFinished(window); // Mide la memoria al terminar cada ronda
+            return;
+        }
+        FirstStage firstStage = FirstStage.getInstance();
+        firstStage.show();
+        SecondStage.getInstance().close();
+        logNextFrame(firstStage.getScene(), start, "Cambio a la primera ventana");
+    }
+
+    /**
+     * Shows a view in the only window of the kiosk mode, reusing its scene: only the root changes.
+     * @param root The root of the view.
+     * @return The window.
+     * @throws IOException If a window could not be loaded.
+     */
+    private FirstStage showInKioskWindow(Parent root) throws IOException {
+        FirstStage window = FirstStage.getInstance();
+        Scene scene = window.getScene();
+        if (scene.getRoot() != root) {
+            scene.setRoot(root); // La vista anterior sale de la escena; su grafo se conserva para la siguiente ronda
+            window.sizeToScene();
+        }
+        window.show();
+        return window;
+    }
+
+    /**
+     * Logs the time from the start of the application to the first frame of a window.
+     * @param scene The scene of the window that has just been shown.
+     */
+    void logFirstFrame(Scene scene) {
+        long start = ProcessHandle.current().info().startInstant()
+                .map(instant -> System.nanoTime() - Duration.between(instant, Instant.now()).toNanos())
+                .orElse(createdAt); // Desde el arranque de la JVM, o desde la precarga si no se conoce
+        logNextFrame(scene, start, "Tiempo hasta el primer fotograma");
+    }
+
+    /**
+     * Logs the time elapsed from {@code start} to the next pulse that lays out the scene.
+     * @param scene The scene to observe.
+     * @param start The start time, in {@link System#nanoTime()} units.
+     * @param label The description of the measured operation.
+     */
+    private static void logNextFrame(Scene scene, long start, String label) {
+        Runnable[] listener = new Runnable[1];
+        listener[0] = () -> {
+            scene.removePostLayoutPulseListener(listener[0]); // Solo se mide el siguiente fotograma
+            LOGGER.log(System.Logger.Level.INFO, "{0}: {1} ms", label, (System.nanoTime() - start) / 1_000_000.0);
+        };
+        scene.addPostLayoutPulseListener(listener[0]);
+    }
+
+    /**
+     * Returns the future of the first window, starting the preload if it has not started yet.
+     * @return The future of the first window.
+     */
+    private synchronized CompletableFuture<LoadedView> firstView() {
+        preload();
+        return firstView;
+    }
+
+    /**
+     * Returns the future of the second window, starting the preload if it has not started yet.
+     * @return The future of the second window.
+     */
+    private synchronized CompletableFuture<LoadedView> secondView() {
+        preload();
+        return secondView;
+    }
+
+    /**
+     * Loads an FXML file.
+     * @param name The name of the FXML file, relative to {@link Main}.
+     * @return The loaded scene graph and its controller.
+     */
+    private static LoadedView load(String name) {
+        FxmlLoadEvent event = new FxmlLoadEvent(); // Solo se registra si Flight Recorder está grabando
+        event.begin();
+        long start = FXML_LOAD_TIMER.start();
+        FXMLLoader loader = new FXMLLoader(Main.class.getResource(name));
+        try {
+            Parent root = loader.load();
+            FXML_LOAD_TIMER.stop(start);
+            event.end();
+            if (event.shouldCommit()) {
+                event.file = name;
+                event.commit();
+            }
+            return new LoadedView(root, loader.getController());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Waits for a background task, converting its failure back into an IOException.
+     * @param future The background task.
+     * @return The result of the task.
+     * @throws IOException If the task failed while reading a resource.
+     */
+    private static <T> T await(CompletableFuture<T> future) throws IOException {
+        long start = FXML_WAIT_TIMER.start();
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+            throw new IOException("No se pudo cargar la ventana.", e.getCause());
+        } finally {
+            FXML_WAIT_TIMER.stop(start); // Lo que las ventanas esperan a que termine la precarga
+        }
+    }
+
+    /**
+     * Static inner class that maintains the only instance of StageManager.
+     */
+    private static class StageManagerHolder {
+        private static final StageManager INSTANCE = new StageManager(); // Instancia única de StageManager
+    }
+}
@@ -1,10 +1,22 @@
 module com.example.eclipsado {
     requires javafx.controls;
     requires javafx.fxml;
+    requires java.management;
+    requires jdk.jfr;
 
 
     opens com.example.eclipsado to javafx.fxml;
     exports com.example.eclipsado;
     exports com.example.eclipsado.controller;
+    exports com.example.eclipsado.alert;
+    exports com.example.eclipsado.journal;
+    exports com.example.eclipsado.metrics;
+    exports com.example.eclipsado.model;
+    exports com.example.eclipsado.server;
+    exports com.example.eclipsado.simulation;
+    exports com.example.eclipsado.stats;
+    exports com.example.eclipsado.tools;
+    exports com.example.eclipsado.trace;
+    exports com.example.eclipsado.view;
     opens com.example.eclipsado.controller to javafx.fxml;
 }
\ No newline at end of file
@@ -0,0 +1,59 @@
+package com.example.eclipsado.alert;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Tests for the notifications recorded by {@link HeadlessAlertManager}.
+ * @author Brandon Fernandez
+ */
+class HeadlessAlertManagerTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void recordsWhatThePlayerWouldSee() {
+        AtomicLong clock = new AtomicLong();
+        HeadlessAlertManager alerts = new HeadlessAlertManager(clock::get);
+        assertNull(alerts.getLastNotification());
+
+        // Una ráfaga de letras incorrectas se ve como una sola notificación con contador
+        for (int i = 0; i < 5; i++) {
+            alerts.showErrorAlert("Incorrecto", "Letra incorrecta.");
+            clock.addAndGet(10 * MS);
+        }
+        alerts.showWarningAlert("Entrada inválida", "Debes ingresar una letra.");
+        assertEquals(List.of(new Notification(NotificationLevel.ERROR, "Incorrecto", "Letra incorrecta.", 5),
+                new Notification(NotificationLevel.WARNING, "Entrada inválida", "Debes ingresar una letra.", 1)), alerts.getNotifications());
+
+        // Después de ocultarse, el mismo mensaje es una notificación nueva
+        clock.addAndGet(3_000 * MS);
+        alerts.showErrorAlert("Incorrecto", "Letra incorrecta.");
+        assertEquals(new Notification(NotificationLevel.ERROR, "Incorrecto", "Letra incorrecta.", 1), alerts.getLastNotification());
+        assertEquals(3, alerts.getNotifications().size());
+
+        alerts.clear();
+        alerts.showErrorAlert("Incorrecto", "Letra incorrecta.");
+        assertEquals(List.of(new Notification(NotificationLevel.ERROR, "Incorrecto", "Letra incorrecta.", 1)), alerts.getNotifications());
+    }
+
+    @Test
+    void appliesTheSameRateLimitAsTheToasts() {
+        AtomicLong clock = new AtomicLong();
+        HeadlessAlertManager alerts = new HeadlessAlertManager(clock::get);
+        for (int i = 0; i < 6; i++) {
+            alerts.showInfoAlert("Aviso", "mensaje " + i);
+        }
+        assertEquals(4, alerts.getNotifications().size());
+        assertEquals(2, alerts.getDroppedCount());
+
+        clock.addAndGet(1_000 * MS);
+        alerts.showInfoAlert("Aviso", "mensaje 6");
+        assertEquals("mensaje 6", alerts.getLastNotification().message());
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.eclipsado.alert;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the merging, rate limit and slot reuse of the toast notifications.
+ * @author Brandon Fernandez
+ */
+class ToastQueueTest {
+
+    private static final long MS = 1_000_000L;
+
+    @Test
+    void identicalVisibleMessagesAreMergedWithACounter() {
+        ToastQueue queue = new ToastQueue();
+        ToastQueue.Decision first = queue.offer(NotificationLevel.ERROR, "Incorrecto", "Letra incorrecta", 0);
+        assertEquals(ToastQueue.Outcome.SHOWN, first.outcome());
+        for (int i = 2; i <= 10; i++) {
+            ToastQueue.Decision repeated = queue.offer(NotificationLevel.ERROR, "Incorrecto", "Letra incorrecta", i * MS);
+            assertEquals(ToastQueue.Outcome.MERGED, repeated.outcome());
+            assertEquals(first.slot(), repeated.slot());
+            assertEquals(i, repeated.count());
+        }
+        assertEquals("Incorrecto: Letra incorrecta (x10)", queue.text(first.slot()));
+        assertEquals(0, queue.getDroppedCount()); // Las repeticiones no cuentan para el límite
+
+        // Otra severidad es otra notificación
+        assertEquals(ToastQueue.Outcome.SHOWN, queue.offer(NotificationLevel.INFO, "Incorrecto", "Letra incorrecta", 20 * MS).outcome());
+    }
+
+    @Test
+    void aMessageIsShownAgainAfterItHides() {
+        ToastQueue queue = new ToastQueue();
+        queue.offer(NotificationLevel.INFO, "Letra repetida", "Intenta con otra", 0);
+        // Cada repetición reinicia el tiempo de visualización
+        assertEquals(ToastQueue.Outcome.MERGED, queue.offer(NotificationLevel.INFO, "Letra repetida", "Intenta con otra", 2_000 * MS).outcome());
+        assertEquals(ToastQueue.Outcome.MERGED, queue.offer(NotificationLevel.INFO, "Letra repetida", "Intenta con otra", 4_000 * MS).outcome());
+        assertFalse(queue.isEmpty(6_499 * MS));
+        assertTrue(queue.isEmpty(6_500 * MS));
+
+        ToastQueue.Decision again = queue.offer(NotificationLevel.INFO, "Letra repetida", "Intenta con otra", 6_500 * MS);
+        assertEquals(ToastQueue.Outcome.SHOWN, again.outcome());
+        assertEquals("Letra repetida: Intenta con otra", queue.text(again.slot()));
+
+        queue.expire(again.slot()); // El temporizador de la pantalla terminó antes
+        assertTrue(queue.isEmpty(6_501 * MS));
+    }
+
+    @Test
+    void atMostFourNewToastsPerSecond() {
+        ToastQueue queue = new ToastQueue();
+        for (int i = 0; i < 4; i++) {
+            assertEquals(ToastQueue.Outcome.SHOWN, queue.offer(NotificationLevel.WARNING, "Aviso", "mensaje " + i, i * MS).outcome());
+        }
+        ToastQueue.Decision dropped = queue.offer(NotificationLevel.WARNING, "Aviso", "mensaje 4", 999 * MS);
+        assertEquals(ToastQueue.Outcome.DROPPED, dropped.outcome());
+        assertEquals(-1, dropped.slot());
+        assertEquals(1, queue.getDroppedCount());
+
+        // Una repetición de algo visible se agrupa aunque se haya alcanzado el límite
+        assertEquals(ToastQueue.Outcome.MERGED, queue.offer(NotificationLevel.WARNING, "Aviso", "mensaje 3", 999 * MS).outcome());
+
+        // En la ventana siguiente se vuelve a mostrar
+        assertEquals(ToastQueue.Outcome.SHOWN, queue.offer(NotificationLevel.WARNING, "Aviso", "mensaje 5", 1_000 * MS).outcome());
+    }
+
+    @Test
+    void theOldestToastIsReusedWhenThePoolIsFull() {
+        ToastQueue queue = new ToastQueue();
+        int[] slots = new int[3];
+        for (int i = 0; i < 3; i++) {
+            slots[i] = queue.offer(NotificationLevel.INFO, "Aviso", "mensaje " + i, i * MS).slot();
+        }
+        assertEquals(3, Arrays.stream(slots).distinct().count()); // Tres notificaciones visibles a la vez
+
+        ToastQueue.Decision fourth = queue.offer(NotificationLevel.INFO, "Aviso", "mensaje 3", 3 * MS);
+        assertEquals(slots[0], fourth.slot()); // Reemplaza a la más antigua
+        assertEquals("Aviso: mensaje 3", queue.text(fourth.slot()));
+
+        // El mensaje reemplazado ya no está visible, así que no se agrupa
+        assertEquals(ToastQueue.Outcome.SHOWN, queue.offer(NotificationLevel.INFO, "Aviso", "mensaje 0", 1_500 * MS).outcome());
+
+        // Una notificación oculta se reutiliza antes que la más antigua
+        queue.expire(slots[2]);
+        assertEquals(slots[2], queue.offer(NotificationLevel.INFO, "Aviso", "mensaje 4", 1_600 * MS).slot());
+    }
+}
@@ -0,0 +1,255 @@
+package com.example.eclipsado.journal;
+
+import com.example.eclipsado.model.Alphabet;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.GuessResult;
+import com.example.eclipsado.model.HintPolicy;
+import com.example.eclipsado.model.HintResult;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link GameJournal}: recovering a game, compaction and damaged files.
+ * @author Brandon Fernandez
+ */
+class GameJournalTest {
+
+    private static final String WORD = "murciélago";
+    private static final int FIRST_RECORD = 12; // Tras la cabecera
+    private static final int POLICY = FIRST_RECORD + 2 + WORD.getBytes(StandardCharsets.UTF_8).length + 2; // Política del primer START
+    private static final int ALPHABET = POLICY + 1; // Alfabeto del primer START
+    private static final int FIRST_MOVE = ALPHABET + 1; // Primera jugada tras el START
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void recoversTheGameInProgress() throws IOException {
+        Path file = directory.resolve("partida.journal");
+        GameSession played = newSession();
+        try (GameJournal journal = GameJournal.open(file)) {
+            journal.startGame(played);
+            played.guess('m');
+            played.guess('z');
+            played.useHint();
+            played.guessWord("murcielagos");
+        }
+
+        GameSession recovered = GameJournal.readLastGame(file, new SplittableRandom(1));
+        assertSameState(played, recovered);
+        assertEquals(1, recovered.getLastWordDistance());
+    }
+
+    @Test
+    void keepsRecordingAfterRecovering() throws IOException {
+        Path file = directory.resolve("partida.journal");
+        GameSession played;
+        try (GameJournal journal = GameJournal.open(file)) {
+            played = newSession();
+            journal.startGame(played);
+            played.guess('a');
+        }
+        try (GameJournal journal = GameJournal.open(file)) {
+            played = journal.recover(new SplittableRandom(1));
+            played.guess('o');
+        }
+        assertSameState(played, GameJournal.readLastGame(file, new SplittableRandom(1)));
+    }
+
+    @Test
+    void finishedGamesAreNotResumed() throws IOException {
+        Path file = directory.resolve("partida.journal");
+        try (GameJournal journal = GameJournal.open(file)) {
+            GameSession session = newSession();
+            journal.startGame(session);
+            session.guess('m');
+            journal.endGame(session);
+        }
+        assertNull(GameJournal.readLastGame(file, new SplittableRandom(1)));
+        assertNull(GameJournal.readLastGame(directory.resolve("no-existe"), new SplittableRandom(1)));
+    }
+
+    @Test
+    void compactionKeepsOnlyTheCurrentGame() throws IOException {
+        Path file = directory.resolve("partida.journal");
+        GameSession played = null;
+        try (GameJournal journal = GameJournal.open(file, 256)) {
+            for (int round = 0; round < 40; round++) {
+                if (played != null) {
+                    journal.endGame(played);
+                }
+                played = newSession();
+                journal.startGame(played);
+                played.guess('m');
+                played.guess('z');
+                journal.flush(); // Un lote por ronda: obliga a compactar varias veces
+            }
+            played.useHint();
+            assertTrue(journal.getCompactions() > 0);
+        }
+        assertSameState(played, GameJournal.readLastGame(file, new SplittableRandom(1)));
+    }
+
+    @Test
+    void finishedGamesAreCompactedBeforeTheFileIsFull() throws IOException {
+        Path file = directory.resolve("partida.journal");
+        GameSession played = null;
+        try (GameJournal journal = GameJournal.open(file, 1024)) {
+            for (int round = 0; round < 20; round++) { // 22 bytes por ronda: el fichero no llega a llenarse
+                if (played != null) {
+                    journal.endGame(played);
+                }
+                played = newSession();
+                journal.startGame(played);
+                played.guess('m');
+                played.guess('z');
+                journal.flush();
+            }
+            assertTrue(journal.getCompactions() > 0);
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            assertEquals(List.of(file), files.toList()); // Se compacta dentro del mismo fichero
+        }
+        assertEquals(1024, Files.size(file));
+
+        try (GameJournal journal = GameJournal.open(file)) { // Conserva su tamaño y la mitad activa
+            played = journal.recover(new SplittableRandom(1));
+            played.guess('o');
+        }
+        assertEquals(1024, Files.size(file));
+        assertSameState(played, GameJournal.readLastGame(file, new SplittableRandom(1)));
+    }
+
+    @Test
+    void aRecordThatDoesNotFitStopsTheJournal() throws IOException {
+        Path file = directory.resolve("partida.journal");
+        GameJournal journal = GameJournal.open(file, 64); // Mitades de 26 bytes: no cabe una instantánea
+        GameSession session = newSession();
+        journal.startGame(session);
+        journal.flush();
+        session.guessWord("murcielagos");
+        assertThrows(IOException.class, journal::flush);
+        session.guess('m'); // Ya no se acepta
+        assertThrows(IOException.class, journal::flush);
+        assertThrows(IOException.class, journal::close);
+        assertNotNull(GameJournal.readLastGame(file, new SplittableRandom(1))); // Se conserva lo confirmado
+    }
+
+    @Test
+    void unknownPolicyOrAlphabetIsTreatedAsTheEndOfTheLog() throws IOException {
+        for (int policy : new int[] {3, 15, 0x80, 0xFF}) {
+            Path file = journalWithOneGame();
+            corrupt(file, POLICY, (byte) policy);
+            assertNull(GameJournal.readLastGame(file, new SplittableRandom(1)));
+        }
+        for (int alphabet : new int[] {6, 15, 0x80, 0xFF}) {
+            Path file = journalWithOneGame();
+            corrupt(file, ALPHABET, (byte) alphabet);
+            assertNull(GameJournal.readLastGame(file, new SplittableRandom(1)));
+        }
+    }
+
+    @Test
+    void recordsThatRunPastTheEndAreIgnored() throws IOException {
+        Path file = journalWithOneGame();
+        corrupt(file, FIRST_RECORD + 1, (byte) -1); // Longitud 255: el START no cabe en el diario
+        assertNull(GameJournal.readLastGame(file, new SplittableRandom(1)));
+
+        file = journalWithOneGame();
+        corrupt(file, FIRST_MOVE, (byte) 0x7F); // Tipo desconocido: se descartan las jugadas
+        GameSession recovered = GameJournal.readLastGame(file, new SplittableRandom(1));
+        assertNotNull(recovered);
+        assertEquals(0, recovered.getGuessedLetters());
+    }
+
+    @Test
+    void invalidMovesStopTheReplay() throws IOException {
+        Path file = journalWithOneGame();
+        corrupt(file, FIRST_MOVE + 1, (byte) 100); // Letra inexistente en la primera jugada
+        GameSession recovered = GameJournal.readLastGame(file, new SplittableRandom(1));
+        assertNotNull(recovered);
+        assertEquals(0, recovered.getGuessedLetters());
+
+        file = journalWithOneGame();
+        corrupt(file, FIRST_MOVE + 5, (byte) 3); // HINT de la letra 'd', que no está en la palabra
+        recovered = GameJournal.readLastGame(file, new SplittableRandom(1));
+        assertNotNull(recovered);
+        assertEquals(0, recovered.getHintsUsed());
+        assertEquals(2, Long.bitCount(recovered.getGuessedLetters())); // Las jugadas anteriores se conservan
+    }
+
+    @Test
+    void recoversGamesInOtherAlphabets() throws IOException {
+        Path file = directory.resolve("partida.journal");
+        GameSession played = new GameSession("ĳsbeer", 5, 3, HintPolicy.RANDOM, new SplittableRandom(1), Alphabet.DUTCH);
+        try (GameJournal journal = GameJournal.open(file)) {
+            journal.startGame(played);
+            played.guess('ĳ');
+            played.guessWord("ĳsbier");
+        }
+        assertSameState(played, GameJournal.readLastGame(file, new SplittableRandom(1)));
+    }
+
+    @Test
+    void damagedJournalCanStillBeRecovered() throws IOException {
+        Path file = journalWithOneGame();
+        corrupt(file, POLICY, (byte) 0x0F);
+        try (GameJournal journal = GameJournal.open(file)) {
+            assertNull(journal.recover(new SplittableRandom(1)));
+        }
+    }
+
+    /**
+     * Writes a journal with a game in progress: START, GUESS 'm', GUESS 'z' and a HINT.
+     * @return The file.
+     * @throws IOException If the file cannot be written.
+     */
+    private Path journalWithOneGame() throws IOException {
+        Path file = Files.createTempFile(directory, "partida", ".journal");
+        Files.delete(file);
+        try (GameJournal journal = GameJournal.open(file)) {
+            GameSession session = newSession();
+            journal.startGame(session);
+            assertEquals(GuessResult.CORRECT, session.guess('m'));
+            assertEquals(GuessResult.WRONG, session.guess('z'));
+            assertEquals(HintResult.REVEALED, session.useHint());
+        }
+        return file;
+    }
+
+    private static GameSession newSession() {
+        return new GameSession(WORD, 5, 3, HintPolicy.MOST_REVEALING, new SplittableRandom(1));
+    }
+
+    private static void corrupt(Path file, int position, byte value) throws IOException {
+        ByteBuffer contents = ByteBuffer.wrap(Files.readAllBytes(file));
+        contents.put(position, value);
+        Files.write(file, contents.array());
+    }
+
+    private static void assertSameState(GameSession expected, GameSession actual) {
+        assertNotNull(actual);
+        assertEquals(expected.getSecretWord(), actual.getSecretWord());
+        assertEquals(expected.getDisplayedWord(), actual.getDisplayedWord());
+        assertEquals(expected.getGuessedLetters(), actual.getGuessedLetters());
+        assertEquals(expected.getRemainingAttempts(), actual.getRemainingAttempts());
+        assertEquals(expected.getHintsUsed(), actual.getHintsUsed());
+        assertEquals(expected.getHintPolicy(), actual.getHintPolicy());
+        assertEquals(expected.getAlphabet(), actual.getAlphabet());
+    }
+}
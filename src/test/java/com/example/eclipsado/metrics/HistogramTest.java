@@ -0,0 +1,104 @@
+package com.example.eclipsado.metrics;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the bucket bounds, percentiles and merging of {@link Histogram}.
+ * @author Brandon Fernandez
+ */
+class HistogramTest {
+
+    private final MetricsRegistry registry = MetricsRegistry.getInstance();
+    private boolean wasEnabled; // Estado del registro antes de la prueba
+
+    @BeforeEach
+    void enable() {
+        wasEnabled = registry.isEnabled();
+        registry.setEnabled(true);
+    }
+
+    @AfterEach
+    void restore() {
+        registry.setEnabled(wasEnabled);
+    }
+
+    @Test
+    void bucketsBoundEveryValueWithinTheirError() {
+        for (int precision : new int[] {1, 4, Histogram.DEFAULT_PRECISION, 10}) {
+            SplittableRandom random = new SplittableRandom(precision);
+            for (int i = 0; i < 5_000; i++) {
+                long value = random.nextLong(Long.MAX_VALUE) >>> random.nextInt(63); // Todas las magnitudes
+                Histogram histogram = new Histogram(precision);
+                histogram.record(value);
+                histogram.record(Long.MAX_VALUE);
+                long upper = histogram.percentile(50); // Límite superior de la cubeta del valor
+                assertTrue(upper >= value, value + " > " + upper);
+                assertTrue(upper - value <= value >> precision, value + " -> " + upper);
+            }
+        }
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        for (long value = 0; value < 1 << Histogram.DEFAULT_PRECISION; value++) {
+            Histogram histogram = new Histogram();
+            histogram.record(value);
+            histogram.record(Long.MAX_VALUE);
+            assertEquals(value, histogram.percentile(50));
+        }
+    }
+
+    @Test
+    void extremesAndMerging() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.percentile(99));
+        histogram.record(-5); // Cuenta como 0
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(Long.MAX_VALUE, histogram.percentile(100));
+
+        Histogram other = new Histogram();
+        for (int i = 1; i <= 100; i++) {
+            other.record(i * 1000L);
+        }
+        assertEquals(100_000, other.percentile(100)); // Nunca por encima del máximo
+        assertTrue(Math.abs(other.percentile(50) - 50_000) <= 50_000 >> Histogram.DEFAULT_PRECISION);
+        histogram.merge(other);
+        assertEquals(102, histogram.getCount());
+        assertEquals(Long.MAX_VALUE, histogram.getMax());
+        assertEquals(other.percentile(50), histogram.percentile(50));
+
+        assertThrows(IllegalArgumentException.class, () -> histogram.merge(new Histogram(4)));
+        assertThrows(IllegalArgumentException.class, () -> new Histogram(0));
+        assertThrows(IllegalArgumentException.class, () -> new Histogram(11));
+    }
+
+    @Test
+    void registryHistogramsOnlyRecordWhileEnabled() {
+        Histogram histogram = new Histogram(registry, MetricsRegistry.PRECISION);
+        assertEquals(0, histogram.percentile(50));
+        assertEquals(0, histogram.getMean());
+        histogram.record(-3); // Cuenta como 0
+        histogram.record(10);
+        histogram.record(20);
+        assertEquals(3, histogram.getCount());
+        assertEquals(10, histogram.getMean());
+        assertEquals(20, histogram.getMax());
+        assertEquals(20, histogram.percentile(100));
+
+        registry.setEnabled(false);
+        histogram.record(1000);
+        assertEquals(3, histogram.getCount()); // Sin métricas no se registra nada
+        Histogram own = new Histogram(); // Los histogramas propios registran siempre
+        own.record(1000);
+        assertEquals(1, own.getCount());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.eclipsado.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the letter tables of the {@link Alphabet} packs.
+ * @author Brandon Fernandez
+ */
+class AlphabetTest {
+
+    @Test
+    void packsAreFoundByTagAndCode() {
+        for (Alphabet alphabet : Alphabet.packs()) {
+            assertSame(alphabet, Alphabet.forTag(alphabet.getTag().toUpperCase()));
+            assertSame(alphabet, Alphabet.forCode(alphabet.getCode()));
+            assertTrue(alphabet.size() <= Alphabet.MAX_SIZE);
+            assertEquals(alphabet.size(), Long.bitCount(alphabet.getFullMask()));
+        }
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.forTag("xx"));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.forCode(Alphabet.packs().size()));
+        assertThrows(IllegalArgumentException.class, () -> Alphabet.forCode(-1));
+    }
+
+    @Test
+    void accentsOnlyMakeADifferentLetterWhereTheLanguageSaysSo() {
+        Alphabet spanish = Alphabet.SPANISH;
+        assertEquals(spanish.letterId('e'), spanish.letterId('É'));
+        assertEquals(spanish.letterId('u'), spanish.letterId('ü'));
+        assertTrue(spanish.letterId('ñ') != spanish.letterId('n'));
+        assertEquals(-1, spanish.letterId('ç'));
+        assertEquals('c', Alphabet.FRENCH.normalize('Ç'));
+
+        Alphabet german = Alphabet.GERMAN;
+        assertTrue(german.letterId('ä') != german.letterId('a'));
+        assertTrue(german.letterId('ß') >= 0);
+        assertEquals(ValidationResult.VALID, german.validateWord("straße", 1, 20));
+    }
+
+    @Test
+    void decomposedWordsAreComposedBeforeIndexing() {
+        String decomposed = Normalizer.normalize("pingüino", Normalizer.Form.NFD);
+        assertEquals(9, decomposed.length());
+        assertEquals(ValidationResult.VALID, Alphabet.SPANISH.validateWord(decomposed, 8, 8));
+        assertEquals("pingüino", Alphabet.SPANISH.compose(decomposed));
+
+        String word = "élève";
+        assertSame(word, Alphabet.FRENCH.compose(word)); // Sin cambios no se crea otra cadena
+        assertEquals(word, Alphabet.FRENCH.compose(Normalizer.normalize(word, Normalizer.Form.NFD)));
+
+        assertEquals(ValidationResult.VALID, Alphabet.SPANISH.validateLetter(" é "));
+        assertEquals('é', Alphabet.SPANISH.parseLetter(" É "));
+        assertEquals(ValidationResult.INVALID_CHARACTER, Alphabet.SPANISH.validateWord("x̃", 1, 5)); // x con virgulilla
+    }
+
+    @Test
+    void dutchIjIsASingleLetter() {
+        Alphabet dutch = Alphabet.DUTCH;
+        assertEquals(ValidationResult.VALID, dutch.validateWord("ijs", 2, 2));
+        assertEquals(ValidationResult.TOO_LONG, dutch.validateWord("ijs", 1, 1));
+        assertEquals("ĳs", dutch.compose("ijs"));
+        assertEquals(ValidationResult.VALID, dutch.validateLetter("IJ"));
+        assertEquals('ĳ', dutch.parseLetter("ij"));
+        assertEquals(dutch.letterId('ĳ'), dutch.letterId('Ĳ'));
+
+        LetterIndex index = new LetterIndex(dutch, dutch.compose("vrijheid"));
+        assertEquals(7, index.length());
+        assertTrue(index.contains(dutch.letterId('ĳ')));
+    }
+
+    @Test
+    void validationReportsLengthBeforeCharacters() {
+        assertEquals(ValidationResult.TOO_SHORT, Alphabet.SPANISH.validateWord("a1", 3, 5));
+        assertEquals(ValidationResult.INVALID_CHARACTER, Alphabet.SPANISH.validateWord("ca5a", 3, 5));
+        assertEquals(ValidationResult.NOT_A_SINGLE_LETTER, Alphabet.SPANISH.validateLetter("ab"));
+        assertEquals(ValidationResult.NOT_A_SINGLE_LETTER, Alphabet.SPANISH.validateLetter("  "));
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.eclipsado.model;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for {@link CandidateIndex}, against a linear scan of the dictionary.
+ * @author Brandon Fernandez
+ */
+class CandidateIndexTest {
+
+    @TempDir
+    static Path directory;
+
+    private static WordDictionary dictionary;
+
+    @BeforeAll
+    static void compileDictionary() throws IOException {
+        SplittableRandom random = new SplittableRandom(7);
+        String letters = "aeiosrnlcdmñ";
+        List<String> words = new ArrayList<>();
+        for (int i = 0; i < 3000; i++) {
+            char[] word = new char[6 + random.nextInt(3)];
+            for (int j = 0; j < word.length; j++) {
+                word[j] = letters.charAt(random.nextInt(letters.length()));
+            }
+            words.add(new String(word));
+        }
+        Path source = Files.write(directory.resolve("palabras.txt"), words);
+        WordDictionary.compile(source, directory.resolve("palabras.dic"));
+        dictionary = WordDictionary.open(directory.resolve("palabras.dic"));
+    }
+
+    @Test
+    void suggestionsAgreeWithALinearScan() {
+        SplittableRandom random = new SplittableRandom(11);
+        for (int game = 0; game < 300; game++) {
+            String secret = dictionary.wordAt(7, random.nextInt(dictionary.count(7)));
+            GameSession session = new GameSession(secret, 20, 0, new SplittableRandom(1));
+            for (int guesses = random.nextInt(8); guesses > 0; guesses--) {
+                session.guess("aeiosrnlcdmñtu".charAt(random.nextInt(14)));
+            }
+
+            List<String> expected = new ArrayList<>();
+            for (int i = 0; i < dictionary.count(7); i++) {
+                if (compatible(session, dictionary.wordAt(7, i))) {
+                    expected.add(dictionary.wordAt(7, i));
+                }
+            }
+            CandidateIndex candidates = dictionary.candidates();
+            assertEquals(expected.size(), candidates.count(session));
+            assertEquals(expected.subList(0, Math.min(5, expected.size())), candidates.suggest(session, 5));
+            assertTrue(expected.contains(secret));
+        }
+    }
+
+    @Test
+    void releasedIndexIsRebuilt() {
+        GameSession session = new GameSession(dictionary.wordAt(6, 0));
+        int count = dictionary.candidates().count(session);
+        dictionary.candidates().release();
+        assertEquals(count, dictionary.candidates().count(session));
+        assertEquals(List.of(), dictionary.candidates().suggest(session, -1));
+    }
+
+    @Test
+    void cluesAreACopyOfTheGame() {
+        GameSession session = new GameSession(dictionary.wordAt(7, 0), 20, 0, new SplittableRandom(1));
+        session.guess('a');
+        CandidateIndex.Clues clues = CandidateIndex.Clues.of(session);
+        int count = dictionary.candidates().count(session);
+        session.guess('e');
+        session.guess('o');
+        assertEquals(count, dictionary.candidates().count(clues)); // No cambian con la partida
+        assertEquals(dictionary.candidates().count(session), dictionary.candidates().count(CandidateIndex.Clues.of(session)));
+    }
+
+    @Test
+    void concurrentQueriesBuildTheIndexOnce() throws Exception {
+        dictionary.candidates().release();
+        GameSession session = new GameSession(dictionary.wordAt(8, 0));
+        CandidateIndex.Clues clues = CandidateIndex.Clues.of(session);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Integer>> counts = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                counts.add(executor.submit(() -> dictionary.candidates().count(clues)));
+            }
+            for (Future<Integer> count : counts) {
+                assertEquals(dictionary.count(8), count.get()); // Sin letras descubiertas valen todas
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void otherAlphabetsHaveNoSuggestions() {
+        GameSession session = new GameSession("ĳsbeer", 5, 3, HintPolicy.RANDOM, new SplittableRandom(1), Alphabet.DUTCH);
+        assertEquals(0, dictionary.candidates().count(session));
+    }
+
+    /**
+     * Checks a word against what is known about a game, the slow way.
+     */
+    private static boolean compatible(GameSession session, String word) {
+        for (int position = 0; position < word.length(); position++) {
+            int letter = LetterIndex.letterId(word.charAt(position));
+            boolean revealed = (session.getRevealedPositions() & 1L << position) != 0;
+            boolean discovered = (session.getGuessedLetters() & 1L << letter) != 0;
+            if (revealed ? LetterIndex.letterId(session.getDisplayedLetter(position)) != letter : discovered) {
+                return false; // Una letra intentada en una posición oculta: o no está en la palabra o estaría descubierta
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.eclipsado.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the compiled rules of a variant, {@link GameRules}.
+ * @author Brandon Fernandez
+ */
+class GameRulesTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void guessedWordsMustUseAllowedLetters() {
+        Properties properties = new Properties();
+        properties.setProperty("letters", "abcdeilmnorstu");
+        GameRules rules = GameRules.of(properties);
+
+        assertEquals(ValidationResult.VALID, rules.validateGuessedWord("Camino"));
+        assertEquals(ValidationResult.VALID, rules.validateGuessedWord("no")); // Cualquier longitud
+        assertEquals(ValidationResult.INVALID_CHARACTER, rules.validateGuessedWord("caminoz"));
+        assertEquals(ValidationResult.INVALID_CHARACTER, rules.validateWord("zapato"));
+        assertEquals(ValidationResult.TOO_SHORT, rules.validateGuessedWord(""));
+        assertEquals(ValidationResult.TOO_LONG, rules.validateGuessedWord("a".repeat(LetterIndex.MAX_LENGTH + 1)));
+    }
+
+    @Test
+    void theWordLengthIsCappedAtTwelve() {
+        assertEquals(12, rules("word.max-length", "12").getMaxLength());
+        assertEquals(6, rules("word.min-length", "6", "word.max-length", "6").getMaxLength());
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> rules("word.max-length", "13"));
+        assertTrue(e.getMessage().contains("12"), e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> rules("word.min-length", "0"));
+        assertThrows(IllegalArgumentException.class, () -> rules("word.max-length", "doce"));
+    }
+
+    @Test
+    void theMinimumLengthCannotExceedTheMaximum() {
+        assertThrows(IllegalArgumentException.class, () -> rules("word.min-length", "8", "word.max-length", "7"));
+        assertThrows(IllegalArgumentException.class, () -> rules("word.max-length", "5")); // El mínimo por defecto es 6
+    }
+
+    @Test
+    void unknownHintPoliciesAndAlphabetsAreRejected() {
+        assertEquals(HintPolicy.MOST_REVEALING, rules("hint-policy", " MOST_REVEALING ").getHintPolicy());
+        IllegalArgumentException policy = assertThrows(IllegalArgumentException.class, () -> rules("hint-policy", "SMARTEST"));
+        assertTrue(policy.getMessage().contains("SMARTEST"), policy.getMessage());
+        IllegalArgumentException alphabet = assertThrows(IllegalArgumentException.class, () -> rules("alphabet", "xx"));
+        assertTrue(alphabet.getMessage().contains("xx"), alphabet.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> rules("letters", "abc7"));
+        assertThrows(IllegalArgumentException.class, () -> rules("letters", " , "));
+    }
+
+    @Test
+    void badEclipseCoverageEntriesAreRejected() {
+        GameRules rules = rules("attempts", "2", "eclipse.coverage", "0, 0.7, 1");
+        assertEquals(0.0, rules.eclipseCoverage(2));
+        assertEquals(0.7, rules.eclipseCoverage(1));
+        assertEquals(1.0, rules.eclipseCoverage(0));
+
+        assertThrows(IllegalArgumentException.class, () -> rules("attempts", "2", "eclipse.coverage", "0,1")); // Falta un valor
+        assertThrows(IllegalArgumentException.class, () -> rules("attempts", "2", "eclipse.coverage", "0,0.5,0.8,1"));
+        assertThrows(IllegalArgumentException.class, () -> rules("attempts", "2", "eclipse.coverage", "0,1.5,1"));
+        assertThrows(IllegalArgumentException.class, () -> rules("attempts", "2", "eclipse.coverage", "0,-0.1,1"));
+        assertThrows(IllegalArgumentException.class, () -> rules("attempts", "2", "eclipse.coverage", "0,NaN,1"));
+        IllegalArgumentException text = assertThrows(IllegalArgumentException.class,
+                () -> rules("attempts", "2", "eclipse.coverage", "0,mitad,1"));
+        assertTrue(text.getMessage().contains("mitad"), text.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> rules("attempts", "2", "eclipse.coverage", "0,,1"));
+    }
+
+    @Test
+    void theConfiguredFileWinsOverTheDefaultOne() throws IOException {
+        Path configured = Files.write(directory.resolve("configuradas.properties"), List.of("name=configuradas"));
+        Path home = Files.write(directory.resolve("reglas.properties"), List.of("name=personales"));
+        Path missing = directory.resolve("no-existe.properties");
+
+        assertEquals("configuradas", GameRules.loadFromSystemProperties(configured.toString(), home).getName());
+        assertEquals("personales", GameRules.loadFromSystemProperties(null, home).getName());
+        assertSame(GameRules.DEFAULT, GameRules.loadFromSystemProperties(null, missing));
+        // Un archivo configurado que no se puede usar no hace que se lea el personal
+        assertSame(GameRules.DEFAULT, GameRules.loadFromSystemProperties(missing.toString(), home));
+
+        Path broken = Files.write(directory.resolve("rotas.properties"), List.of("attempts=cero"));
+        assertSame(GameRules.DEFAULT, GameRules.loadFromSystemProperties(broken.toString(), home));
+        assertSame(GameRules.DEFAULT, GameRules.loadFromSystemProperties(null, broken));
+    }
+
+    @Test
+    void theSystemPropertyNamesTheRulesFile() throws IOException {
+        Path file = Files.write(directory.resolve("variante.properties"), List.of("name=variante", "attempts=7"));
+        String previous = System.getProperty(GameRules.FILE_PROPERTY);
+        try {
+            System.setProperty(GameRules.FILE_PROPERTY, file.toString());
+            GameRules rules = GameRules.loadFromSystemProperties();
+            assertEquals("variante", rules.getName());
+            assertEquals(7, rules.getMaxAttempts());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(GameRules.FILE_PROPERTY);
+            } else {
+                System.setProperty(GameRules.FILE_PROPERTY, previous);
+            }
+        }
+    }
+
+    private static GameRules rules(String... keysAndValues) {
+        Properties properties = new Properties();
+        for (int i = 0; i < keysAndValues.length; i += 2) {
+            properties.setProperty(keysAndValues[i], keysAndValues[i + 1]);
+        }
+        return GameRules.of(properties);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.eclipsado.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the rules of {@link GameSession}.
+ * @author Brandon Fernandez
+ */
+class GameSessionTest {
+
+    @Test
+    void revealHintRejectsLettersThatCannotBeRevealed() {
+        GameSession session = new GameSession("casa", 5, 3, HintPolicy.RANDOM, new SplittableRandom(1));
+        int[] journaled = new int[1];
+        session.setEventListener(new GameEventListener() {
+            @Override
+            public void letterGuessed(int letterId) {
+            }
+
+            @Override
+            public void wordGuessed(CharSequence word) {
+            }
+
+            @Override
+            public void hintUsed(int letterId) {
+                journaled[0]++;
+            }
+        });
+
+        assertEquals(HintResult.INVALID, session.revealHint(-1));
+        assertEquals(HintResult.INVALID, session.revealHint(64)); // Fuera del alfabeto (y de la máscara)
+        assertEquals(HintResult.INVALID, session.revealHint(Alphabet.SPANISH.letterId('z'))); // No está en la palabra
+        assertEquals(0, session.getHintsUsed());
+        assertEquals(0, journaled[0]);
+
+        assertEquals(HintResult.REVEALED, session.revealHint(Alphabet.SPANISH.letterId('a')));
+        assertEquals(HintResult.INVALID, session.revealHint(Alphabet.SPANISH.letterId('a'))); // Ya descubierta
+        assertEquals("_a_a", session.getDisplayedWord());
+        assertEquals(1, session.getHintsUsed());
+        assertEquals(1, journaled[0]);
+    }
+
+    @Test
+    void wrongWordCostsAnAttemptAndGivesFeedback() {
+        GameSession session = new GameSession("casa", 2, 3, HintPolicy.RANDOM, new SplittableRandom(1));
+        assertEquals(GuessResult.INVALID, session.guessWord("ca5a"));
+        assertEquals(GuessResult.INVALID, session.guessWord(""));
+        assertEquals(-1, session.getLastWordDistance());
+
+        assertEquals(GuessResult.WRONG, session.guessWord("cosa"));
+        assertEquals(1, session.getLastWordDistance());
+        assertEquals(0b1101, session.getLastWordMatches());
+        assertEquals(1, session.getRemainingAttempts());
+        assertEquals("____", session.getDisplayedWord()); // Las letras en su sitio no se descubren
+
+        assertEquals(GuessResult.WON, session.guessWord("CÁSA"));
+        assertEquals("casa", session.getDisplayedWord());
+        assertEquals(GuessResult.GAME_OVER, session.guessWord("casa"));
+    }
+
+    @Test
+    void wrongWordCanLoseTheGame() {
+        GameSession session = new GameSession("casa", 1, 3, HintPolicy.RANDOM, new SplittableRandom(1));
+        assertEquals(GuessResult.LOST, session.guessWord("caso"));
+        assertTrue(session.isLost());
+    }
+}
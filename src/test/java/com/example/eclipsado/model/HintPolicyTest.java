@@ -0,0 +1,72 @@
+package com.example.eclipsado.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the letters chosen by each {@link HintPolicy}.
+ * @author Brandon Fernandez
+ */
+class HintPolicyTest {
+
+    @Test
+    void mostRevealingGoesDownTheRanking() {
+        GameSession session = new GameSession("banana", 5, 3, HintPolicy.MOST_REVEALING, new SplittableRandom(1));
+        assertEquals(HintResult.REVEALED, session.useHint());
+        assertEquals("_a_a_a", session.getDisplayedWord());
+        assertEquals(HintResult.REVEALED, session.useHint());
+        assertEquals("_anana", session.getDisplayedWord());
+        assertEquals(HintResult.WON, session.useHint());
+    }
+
+    @Test
+    void leastRevealingGoesUpTheRanking() {
+        GameSession session = new GameSession("banana", 5, 3, HintPolicy.LEAST_REVEALING, new SplittableRandom(1));
+        assertEquals(HintResult.REVEALED, session.useHint());
+        assertEquals("b_____", session.getDisplayedWord());
+        assertEquals(HintResult.REVEALED, session.useHint());
+        assertEquals("b_n_n_", session.getDisplayedWord());
+    }
+
+    @Test
+    void theCursorSkipsLettersAlreadyGuessed() {
+        GameSession most = new GameSession("banana", 5, 3, HintPolicy.MOST_REVEALING, new SplittableRandom(1));
+        most.guess('a');
+        most.guess('n');
+        assertEquals(HintResult.WON, most.useHint()); // Solo queda la b
+
+        GameSession least = new GameSession("banana", 5, 3, HintPolicy.LEAST_REVEALING, new SplittableRandom(1));
+        least.guess('b');
+        assertEquals(HintResult.REVEALED, least.useHint());
+        assertEquals("b_n_n_", least.getDisplayedWord());
+    }
+
+    @Test
+    void randomHintsRevealAHiddenLetter() {
+        for (int seed = 0; seed < 200; seed++) {
+            GameSession session = new GameSession("murciélago", 5, 10, HintPolicy.RANDOM, new SplittableRandom(seed));
+            session.guess('a');
+            long revealed = session.getRevealedPositions();
+            HintResult result;
+            while ((result = session.useHint()) == HintResult.REVEALED) {
+                assertTrue((session.getRevealedPositions() & ~revealed) != 0); // Cada ayuda descubre algo nuevo
+                revealed = session.getRevealedPositions();
+            }
+            assertEquals(HintResult.WON, result);
+            assertEquals(9, session.getHintsUsed()); // Una por cada letra distinta que faltaba
+        }
+    }
+
+    @Test
+    void hintsStopAtTheLimit() {
+        GameSession session = new GameSession("banana", 5, 1, HintPolicy.MOST_REVEALING, new SplittableRandom(1));
+        assertEquals(HintResult.REVEALED, session.useHint());
+        assertEquals(HintResult.LIMIT_REACHED, session.useHint());
+        assertEquals(1, session.getHintsUsed());
+        assertEquals(5, session.getRemainingAttempts()); // Las ayudas no cuestan intentos
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.eclipsado.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the bit masks of {@link LetterIndex} and the masks a {@link GameSession} keeps from them.
+ * @author Brandon Fernandez
+ */
+class LetterIndexTest {
+
+    private static final int A = LetterIndex.letterId('a');
+    private static final int B = LetterIndex.letterId('b');
+    private static final int N = LetterIndex.letterId('n');
+
+    @Test
+    void masksDescribeTheWord() {
+        LetterIndex index = new LetterIndex("banana");
+        assertEquals(6, index.length());
+        assertEquals(0b111111, index.getFullMask());
+        assertEquals(0b101010, index.positionsOf(A));
+        assertEquals(0b010100, index.positionsOf(N));
+        assertEquals(0b000001, index.positionsOf(B));
+        assertEquals(0, index.positionsOf(LetterIndex.letterId('z')));
+        assertEquals((1L << A) | (1L << B) | (1L << N), index.getPresence());
+        assertTrue(index.contains(N));
+        assertFalse(index.contains(LetterIndex.letterId('z')));
+        assertEquals(N, index.letterIdAt(2));
+        assertEquals(3, index.distinctLetters());
+    }
+
+    @Test
+    void accentsShareTheLetterOfTheirVowel() {
+        LetterIndex index = new LetterIndex("Canción");
+        assertEquals(index.positionsOf(LetterIndex.letterId('o')), 1L << 5);
+        assertTrue(LetterIndex.letterId('ñ') != N);
+        assertEquals('o', LetterIndex.letterOf(LetterIndex.letterId('Ó')));
+    }
+
+    @Test
+    void ranksLettersByPositionsThenRarity() {
+        LetterIndex banana = new LetterIndex("banana");
+        assertEquals(A, banana.rankedLetter(0));
+        assertEquals(N, banana.rankedLetter(1));
+        assertEquals(B, banana.rankedLetter(2));
+
+        LetterIndex casa = new LetterIndex("casa");
+        assertEquals(A, casa.rankedLetter(0));
+        assertEquals(LetterIndex.letterId('c'), casa.rankedLetter(1)); // La c es menos frecuente que la s
+        assertEquals(LetterIndex.letterId('s'), casa.rankedLetter(2));
+    }
+
+    @Test
+    void wordsUpToSixtyFourLettersAreIndexed() {
+        String longest = "a".repeat(LetterIndex.MAX_LENGTH);
+        LetterIndex index = new LetterIndex(longest);
+        assertEquals(-1L, index.getFullMask());
+        assertEquals(-1L, index.positionsOf(A));
+
+        assertThrows(IllegalArgumentException.class, () -> new LetterIndex(longest + "a"));
+        assertThrows(IllegalArgumentException.class, () -> new LetterIndex(""));
+        assertThrows(IllegalArgumentException.class, () -> new LetterIndex("ca5a"));
+    }
+
+    @Test
+    void sessionMasksFollowTheGuesses() {
+        GameSession session = new GameSession("banana", 2, 3, HintPolicy.RANDOM, new SplittableRandom(1));
+        assertEquals(GuessResult.CORRECT, session.guess('N'));
+        assertEquals(0b010100, session.getRevealedPositions());
+        assertEquals(1L << N, session.getGuessedLetters());
+        assertEquals("__n_n_", session.getDisplayedWord());
+
+        assertEquals(GuessResult.REPEATED, session.guess('n'));
+        assertEquals(GuessResult.INVALID, session.guess('5'));
+        assertEquals(GuessResult.WRONG, session.guess('z'));
+        assertEquals(1, session.getRemainingAttempts());
+        assertEquals(0b010100, session.getRevealedPositions());
+
+        assertEquals(GuessResult.CORRECT, session.guess('á'));
+        assertEquals(GuessResult.WON, session.guess('b'));
+        assertEquals("banana", session.getDisplayedWord());
+        assertEquals(GuessResult.GAME_OVER, session.guess('x'));
+        assertEquals(1, session.getRemainingAttempts());
+    }
+
+    @Test
+    void sessionIsLostWhenTheAttemptsRunOut() {
+        GameSession session = new GameSession("banana", 2, 3, HintPolicy.RANDOM, new SplittableRandom(1));
+        assertEquals(GuessResult.WRONG, session.guess('x'));
+        assertEquals(GuessResult.LOST, session.guess('y'));
+        assertTrue(session.isLost());
+        assertTrue(session.isOver());
+        assertEquals(HintResult.GAME_OVER, session.useHint());
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.eclipsado.model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the binary word list, {@link WordDictionary}.
+ * @author Brandon Fernandez
+ */
+class WordDictionaryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void compileKeepsOnlyValidSecretWords() throws IOException {
+        WordDictionary dictionary = compile("murciélago", "  Pingüino ", "casa", "ventana", "ventana", "año2000",
+                "camiones", "canción");
+        assertEquals(5, dictionary.size()); // Sin «casa» (corta), «año2000» (dígitos) ni la «ventana» repetida
+        assertTrue(dictionary.contains("pingüino"));
+        assertTrue(dictionary.contains("murciélago"));
+        assertFalse(dictionary.contains("casa"));
+        assertFalse(dictionary.contains("ventanas"));
+        assertEquals(2, dictionary.count(7)); // ventana, canción
+        assertEquals(2, dictionary.count(8)); // pingüino, camiones
+        assertEquals(1, dictionary.count(10));
+    }
+
+    @Test
+    void wordsAreOrderedByDifficultyThenAlphabetically() throws IOException {
+        WordDictionary dictionary = compile("ventana", "canción", "xilófago", "pájaros", "pianola");
+        Difficulty previous = Difficulty.EASY;
+        String last = "";
+        for (int i = 0; i < dictionary.count(7); i++) {
+            String word = dictionary.wordAt(7, i);
+            Difficulty difficulty = Difficulty.of(new LetterIndex(word).getPresence());
+            assertTrue(difficulty.compareTo(previous) >= 0);
+            assertTrue(difficulty != previous || word.compareTo(last) > 0);
+            assertEquals(new LetterIndex(word).getPresence(), dictionary.maskAt(7, i));
+            previous = difficulty;
+            last = word;
+        }
+    }
+
+    @Test
+    void randomWordsHaveTheRequestedLengthAndDifficulty() throws IOException {
+        WordDictionary dictionary = compile("ventana", "canción", "pájaros", "pianola", "murciélago", "xilófago");
+        SplittableRandom random = new SplittableRandom(3);
+        for (Difficulty difficulty : Difficulty.values()) {
+            for (int i = 0; i < 20; i++) {
+                String word = dictionary.randomWord(7, difficulty, random);
+                if (dictionary.count(7, difficulty) == 0) {
+                    assertNull(word);
+                } else {
+                    assertEquals(7, word.length());
+                    assertEquals(difficulty, Difficulty.of(new LetterIndex(word).getPresence()));
+                }
+            }
+        }
+        assertNull(dictionary.randomWord(12, random));
+    }
+
+    @Test
+    void drawSecretWordStoresTheWord() throws IOException {
+        GameModel model = GameModel.getInstance();
+        WordDictionary previous = model.getDictionary();
+        try {
+            model.setDictionary(compile("ventana", "canción"));
+            String word = model.drawSecretWord(7, Difficulty.of(new LetterIndex("ventana").getPresence()), new SplittableRandom(1));
+            assertEquals(word, model.getSecretWord());
+            assertThrows(IllegalStateException.class, () -> model.drawSecretWord(12, Difficulty.EASY, new SplittableRandom(1)));
+        } finally {
+            model.setDictionary(previous);
+        }
+    }
+
+    @Test
+    void openFromSystemPropertiesToleratesBadFiles() throws IOException {
+        String previous = System.getProperty(WordDictionary.FILE_PROPERTY);
+        try {
+            compile("ventana");
+            System.setProperty(WordDictionary.FILE_PROPERTY, directory.resolve("palabras.dic").toString());
+            assertEquals(1, WordDictionary.openFromSystemProperties().size());
+            System.setProperty(WordDictionary.FILE_PROPERTY, directory.resolve("palabras.txt").toString());
+            assertNull(WordDictionary.openFromSystemProperties()); // No es un diccionario
+            System.setProperty(WordDictionary.FILE_PROPERTY, directory.resolve("no-existe.dic").toString());
+            assertNull(WordDictionary.openFromSystemProperties());
+        } finally {
+            if (previous == null) {
+                System.clearProperty(WordDictionary.FILE_PROPERTY);
+            } else {
+                System.setProperty(WordDictionary.FILE_PROPERTY, previous);
+            }
+        }
+    }
+
+    private WordDictionary compile(String... words) throws IOException {
+        Path source = Files.write(directory.resolve("palabras.txt"), List.of(words));
+        Path target = directory.resolve("palabras.dic");
+        WordDictionary.compile(source, target);
+        return WordDictionary.open(target);
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.eclipsado.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests for {@link WordMatcher}, against the textbook dynamic programming edit distance.
+ * @author Brandon Fernandez
+ */
+class WordMatcherTest {
+
+    @Test
+    void distanceOfKnownPairs() {
+        assertEquals(0, distance("murciélago", "MURCIELAGO"));
+        assertEquals(1, distance("murciélago", "murcielagos"));
+        assertEquals(1, distance("casa", "cosa"));
+        assertEquals(3, distance("gato", "g"));
+        assertEquals(9, distance("a", "bbbbbbbbb"));
+        assertEquals(3, distance("kitten", "sitting"));
+    }
+
+    @Test
+    void distanceMatchesDynamicProgramming() {
+        SplittableRandom random = new SplittableRandom(42);
+        String letters = "abcdeñ"; // Pocas letras: muchas coincidencias parciales
+        for (int i = 0; i < 20_000; i++) {
+            // Hasta 64 letras en la palabra secreta: prueba también la máscara completa de un long
+            String secret = randomWord(random, letters, 1 + random.nextInt(i % 10 == 0 ? LetterIndex.MAX_LENGTH : 12));
+            String attempt = randomWord(random, letters, random.nextInt(16));
+            assertEquals(reference(secret, attempt), distance(secret, attempt), secret + " / " + attempt);
+        }
+    }
+
+    @Test
+    void matchingPositionsComparesLetterByLetter() {
+        LetterIndex secret = new LetterIndex("casa");
+        assertEquals(0b1101, WordMatcher.matchingPositions(secret, "cosa"));
+        assertEquals(0b0011, WordMatcher.matchingPositions(secret, "ca"));
+        assertEquals(0b1111, WordMatcher.matchingPositions(secret, "cásas"));
+        assertEquals(0, WordMatcher.matchingPositions(secret, ""));
+    }
+
+    private static int distance(String secret, String attempt) {
+        return WordMatcher.distance(new LetterIndex(secret.toLowerCase()), attempt);
+    }
+
+    private static String randomWord(SplittableRandom random, String letters, int length) {
+        char[] word = new char[length];
+        for (int i = 0; i < length; i++) {
+            word[i] = letters.charAt(random.nextInt(letters.length()));
+        }
+        return new String(word);
+    }
+
+    private static int reference(String secret, String attempt) {
+        int[][] table = new int[secret.length() + 1][attempt.length() + 1];
+        for (int i = 0; i <= secret.length(); i++) {
+            for (int j = 0; j <= attempt.length(); j++) {
+                if (i == 0 || j == 0) {
+                    table[i][j] = i + j;
+                } else {
+                    int cost = LetterIndex.letterId(secret.charAt(i - 1)) == LetterIndex.letterId(attempt.charAt(j - 1)) ? 0 : 1;
+                    table[i][j] = Math.min(Math.min(table[i - 1][j] + 1, table[i][j - 1] + 1), table[i - 1][j - 1] + cost);
+                }
+            }
+        }
+        return table[secret.length()][attempt.length()];
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.eclipsado.server;
+
+import com.example.eclipsado.model.GameRules;
+import com.example.eclipsado.model.WordDictionary;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the text commands of {@link GameProtocol}.
+ * @author Brandon Fernandez
+ */
+class GameProtocolTest {
+
+    @Test
+    void solveRespectsTheAllowedLetters() {
+        Properties properties = new Properties();
+        properties.setProperty("letters", "abcdeilmnorstu");
+        GameProtocol protocol = new GameProtocol(null, GameRules.of(properties), new SessionStore(10, Duration.ofMinutes(1)),
+                new SplittableRandom(1));
+
+        assertTrue(protocol.handle("WORD camino").startsWith("OK "));
+        assertEquals("ERR INVALID", protocol.handle("SOLVE caminoz"));
+        assertEquals("ERR INVALID", protocol.handle("GUESS z"));
+        assertTrue(protocol.handle("SOLVE camion").startsWith("WRONG "));
+        assertTrue(protocol.handle("SOLVE Camino").startsWith("WON "));
+    }
+
+    @Test
+    void suggestListsTheWordsThatStillFit(@TempDir Path directory) throws IOException {
+        Path source = Files.write(directory.resolve("palabras.txt"), List.of("camino", "camion", "casino", "molino"));
+        WordDictionary.compile(source, directory.resolve("palabras.dic"));
+        GameProtocol protocol = new GameProtocol(WordDictionary.open(directory.resolve("palabras.dic")), GameRules.DEFAULT,
+                new SessionStore(10, Duration.ofMinutes(1)), new SplittableRandom(1));
+
+        assertEquals("ERR NO_GAME", protocol.handle("SUGGEST"));
+        assertTrue(protocol.handle("WORD camino").startsWith("OK "));
+        String first = protocol.handle("SUGGEST 2");
+        assertTrue(first.startsWith("WORDS 4 "), first); // Sin letras descubiertas valen las cuatro
+        assertEquals(4, first.split(" ").length);
+        protocol.handle("GUESS m");
+        String response = protocol.handle("SUGGEST");
+        assertTrue(response.startsWith("WORDS 2 "), response); // camino y camion tienen la m en su sitio
+        assertEquals("ERR INVALID_LIMIT", protocol.handle("SUGGEST x"));
+    }
+}
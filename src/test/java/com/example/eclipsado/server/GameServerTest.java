@@ -0,0 +1,49 @@
+package com.example.eclipsado.server;
+
+import com.example.eclipsado.model.GameRules;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for starting and stopping a {@link GameServer}.
+ * @author Brandon Fernandez
+ */
+class GameServerTest {
+
+    @Test
+    void closeDisconnectsTheClients() throws IOException {
+        GameServer server = new GameServer(null, GameRules.DEFAULT, 10, Duration.ofMinutes(1));
+        int port = server.start(0);
+        try (Socket client = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            BufferedReader in = new BufferedReader(new InputStreamReader(client.getInputStream(), StandardCharsets.UTF_8));
+            PrintWriter out = new PrintWriter(client.getOutputStream(), true, StandardCharsets.UTF_8);
+            out.println("WORD camino");
+            assertTrue(in.readLine().startsWith("OK "));
+
+            server.close(); // El hilo de la conexión está bloqueado leyendo la siguiente línea
+            assertTimeoutPreemptively(Duration.ofSeconds(10), () -> assertNull(in.readLine()));
+            assertTimeoutPreemptively(Duration.ofSeconds(10), server::awaitTermination);
+        }
+        assertEquals(1, server.getAcceptedConnections());
+    }
+
+    @Test
+    void awaitTerminationReturnsIfTheServerNeverStarted() throws Exception {
+        GameServer server = new GameServer(null, GameRules.DEFAULT, 10, Duration.ofMinutes(1));
+        assertTimeoutPreemptively(Duration.ofSeconds(5), server::awaitTermination);
+        server.close();
+    }
+}
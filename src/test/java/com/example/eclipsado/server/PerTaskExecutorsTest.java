@@ -0,0 +1,40 @@
+package com.example.eclipsado.server;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the threads created by {@link PerTaskExecutors}.
+ * @author Brandon Fernandez
+ */
+class PerTaskExecutorsTest {
+
+    @Test
+    void threadsAreNamedAndMatchTheReportedKind() throws Exception {
+        ExecutorService executor = PerTaskExecutors.newPerTaskExecutor("prueba");
+        try {
+            Thread first = executor.submit(Thread::currentThread).get();
+            assertTrue(first.getName().startsWith("prueba-"), first.getName());
+            assertEquals(PerTaskExecutors.virtualThreadsAvailable(), isVirtual(first));
+            if (!isVirtual(first)) {
+                assertTrue(first.isDaemon()); // Los hilos de plataforma no impiden que la JVM termine
+            }
+        } finally {
+            executor.shutdown();
+            assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        }
+    }
+
+    private static boolean isVirtual(Thread thread) {
+        try {
+            return (boolean) Thread.class.getMethod("isVirtual").invoke(thread);
+        } catch (ReflectiveOperationException e) {
+            return false; // Antes de Java 19 no existen los hilos virtuales
+        }
+    }
+}
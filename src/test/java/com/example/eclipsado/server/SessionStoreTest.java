@@ -0,0 +1,88 @@
+package com.example.eclipsado.server;
+
+import com.example.eclipsado.model.GameSession;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the limits of {@link SessionStore}: size, least recently used eviction and time-to-live.
+ * @author Brandon Fernandez
+ */
+class SessionStoreTest {
+
+    @Test
+    void theLimitAppliesToTheWholeStore() {
+        SessionStore store = new SessionStore(10, Duration.ofMinutes(1));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            ids.add(store.add(new GameSession("ventana")));
+            assertEquals(Math.min(i + 1, 10), store.getLiveSessions()); // Nunca se descarta una sesión si hay sitio
+        }
+        assertEquals(90, store.getEvictedSessions());
+        long alive = ids.stream().filter(id -> store.withSession(id, session -> session) != null).count();
+        assertEquals(10, alive);
+        assertNotNull(store.withSession(ids.get(99), session -> session)); // La última nunca se descarta
+    }
+
+    @Test
+    void theLeastRecentlyUsedSessionsAreEvicted() {
+        SessionStore store = new SessionStore(1, Duration.ofMinutes(1));
+        long first = store.add(new GameSession("ventana"));
+        long second = store.add(new GameSession("ventana"));
+        assertNull(store.withSession(first, session -> session));
+        assertNotNull(store.withSession(second, session -> session));
+        assertEquals(1, store.getLiveSessions());
+    }
+
+    @Test
+    void idleSessionsExpire() throws InterruptedException {
+        SessionStore store = new SessionStore(100, Duration.ofMillis(1));
+        long first = store.add(new GameSession("ventana"));
+        store.add(new GameSession("ventana"));
+        store.add(new GameSession("ventana"));
+        Thread.sleep(5);
+        assertNull(store.withSession(first, session -> session));
+        assertEquals(2, store.evictExpired());
+        assertEquals(3, store.getExpiredSessions());
+        assertEquals(0, store.getLiveSessions());
+    }
+
+    @Test
+    void removeUpdatesTheCount() {
+        SessionStore store = new SessionStore(100, Duration.ofMinutes(1));
+        long id = store.add(new GameSession("ventana"));
+        assertTrue(store.remove(id));
+        assertFalse(store.remove(id));
+        assertEquals(0, store.getLiveSessions());
+        assertEquals(0, store.getEvictedSessions());
+    }
+
+    @Test
+    void concurrentAddsStayWithinTheLimit() throws InterruptedException {
+        SessionStore store = new SessionStore(50, Duration.ofMinutes(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 1000; j++) {
+                    store.add(new GameSession("ventana"));
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        assertEquals(50, store.getLiveSessions());
+        assertEquals(8000 - 50, store.getEvictedSessions());
+    }
+}
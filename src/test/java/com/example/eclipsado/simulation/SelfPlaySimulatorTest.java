@@ -0,0 +1,106 @@
+package com.example.eclipsado.simulation;
+
+import com.example.eclipsado.model.HintPolicy;
+import com.example.eclipsado.model.LetterIndex;
+import com.example.eclipsado.model.WordDictionary;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the games played by {@link SelfPlaySimulator} with both strategies.
+ * @author Brandon Fernandez
+ */
+class SelfPlaySimulatorTest {
+
+    @TempDir
+    Path directory;
+
+    private WordDictionary dictionary; // Cuatro palabras de cada longitud entre 6 y 8
+
+    @BeforeEach
+    void compileDictionary() throws IOException {
+        Path source = Files.write(directory.resolve("palabras.txt"), List.of(
+                "camino", "piedra", "sombra", "ciudad",
+                "ventana", "caminos", "pelotas", "montaña",
+                "elefante", "ardillas", "cuaderno", "pantalla"));
+        Path target = directory.resolve("palabras.dic");
+        WordDictionary.compile(source, target);
+        dictionary = WordDictionary.open(target);
+    }
+
+    @Test
+    void everyGameIsRecordedUnderItsLength() {
+        SelfPlaySimulator simulator = new SelfPlaySimulator(dictionary, FrequencyStrategy::new, 5, 3, HintPolicy.RANDOM, 1, 0);
+        SimulationStats stats = simulator.run(3_001, 7);
+        assertEquals(3_001, stats.totalGames());
+        assertEquals(3_001, stats.games(6) + stats.games(7) + stats.games(8));
+        for (int length = 6; length <= 8; length++) {
+            assertTrue(stats.games(length) > 600, "longitud " + length); // Las longitudes se eligen al azar por igual
+        }
+
+        SelfPlaySimulator onlySeven = new SelfPlaySimulator(dictionary, FrequencyStrategy::new, 5, 3, HintPolicy.RANDOM, 1, 7);
+        assertEquals(500, onlySeven.run(500, 7).games(7));
+        assertThrows(IllegalArgumentException.class,
+                () -> new SelfPlaySimulator(dictionary, FrequencyStrategy::new, 5, 3, HintPolicy.RANDOM, 1, 9)); // No hay palabras de nueve letras
+    }
+
+    @Test
+    void aParallelRunMatchesASequentialOne() {
+        for (boolean entropy : new boolean[] {false, true}) {
+            SelfPlaySimulator simulator = new SelfPlaySimulator(dictionary,
+                    entropy ? EntropyStrategy.factory(dictionary) : FrequencyStrategy::new, 5, 3, HintPolicy.RANDOM, 1, 0);
+            assertEquals(table(simulator.run(2_000, 42, false)), table(simulator.run(2_000, 42, true)));
+            assertEquals(table(simulator.run(2_000, 42, true)), table(simulator.run(2_000, 42, true)));
+        }
+    }
+
+    @Test
+    void theEntropyStrategyAlwaysWinsWithFewCandidates() {
+        // Con cuatro candidatas por longitud, cada fallo descarta al menos una: nunca se llega a cinco fallos
+        SelfPlaySimulator entropy = new SelfPlaySimulator(dictionary, EntropyStrategy.factory(dictionary), 5, 0,
+                HintPolicy.RANDOM, 0, 0);
+        SimulationStats stats = entropy.run(1_000, 3);
+        for (int length = 6; length <= 8; length++) {
+            assertEquals(1.0, stats.winRate(length), "longitud " + length);
+            assertTrue(stats.wrongPercentile(length, 1) <= 3, "longitud " + length);
+        }
+
+        SelfPlaySimulator frequency = new SelfPlaySimulator(dictionary, FrequencyStrategy::new, 5, 0,
+                HintPolicy.RANDOM, 0, 0);
+        SimulationStats baseline = frequency.run(1_000, 3);
+        for (int length = 6; length <= 8; length++) {
+            assertTrue(baseline.winRate(length) <= stats.winRate(length), "longitud " + length);
+            assertTrue(baseline.guessPercentile(length, 0.5) >= stats.guessPercentile(length, 0.5), "longitud " + length);
+        }
+    }
+
+    @Test
+    void aStrategyThatRepeatsALetterStopsTheSimulation() {
+        int e = LetterIndex.letterId('e');
+        SelfPlaySimulator simulator = new SelfPlaySimulator(dictionary, () -> session -> e, 5, 0, HintPolicy.RANDOM, 0, 0);
+        assertTimeoutPreemptively(Duration.ofSeconds(10), () -> {
+            assertThrows(IllegalStateException.class, () -> simulator.run(10, 1, false));
+        });
+    }
+
+    private static String table(SimulationStats stats) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        stats.print(new PrintStream(bytes, true, StandardCharsets.UTF_8));
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+}
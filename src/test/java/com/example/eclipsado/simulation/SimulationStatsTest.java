@@ -0,0 +1,62 @@
+package com.example.eclipsado.simulation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the counters, percentiles and merging of {@link SimulationStats}.
+ * @author Brandon Fernandez
+ */
+class SimulationStatsTest {
+
+    @Test
+    void percentilesOfGuessesAndWrongGuesses() {
+        SimulationStats stats = new SimulationStats();
+        for (int guesses = 1; guesses <= 10; guesses++) {
+            stats.record(6, guesses < 10, guesses, guesses / 2, 0);
+        }
+        assertEquals(10, stats.games(6));
+        assertEquals(0.9, stats.winRate(6), 1e-9);
+        assertEquals(1, stats.guessPercentile(6, 0));
+        assertEquals(5, stats.guessPercentile(6, 0.5));
+        assertEquals(9, stats.guessPercentile(6, 0.9));
+        assertEquals(10, stats.guessPercentile(6, 1));
+        assertEquals(2, stats.wrongPercentile(6, 0.5));
+        assertEquals(5, stats.wrongPercentile(6, 1));
+
+        // Sin partidas de esa longitud
+        assertEquals(0, stats.games(7));
+        assertEquals(0, stats.guessPercentile(7, 0.5));
+        assertEquals(0, stats.winRate(7));
+        assertThrows(IllegalArgumentException.class, () -> stats.guessPercentile(6, 1.5));
+    }
+
+    @Test
+    void valuesAboveTheAlphabetGoToTheLastBin() {
+        SimulationStats stats = new SimulationStats();
+        stats.record(4, false, 100, 100, 0);
+        assertEquals(27, stats.guessPercentile(4, 1));
+        assertEquals(27, stats.wrongPercentile(4, 1));
+    }
+
+    @Test
+    void mergeAddsEveryLength() {
+        SimulationStats first = new SimulationStats();
+        first.record(4, true, 3, 0, 0);
+        first.record(5, false, 9, 5, 2);
+        SimulationStats second = new SimulationStats();
+        second.record(4, false, 12, 5, 1);
+        second.record(12, true, 8, 1, 0);
+
+        assertSame(first, first.merge(second));
+        assertEquals(4, first.totalGames());
+        assertEquals(2, first.games(4));
+        assertEquals(0.5, first.winRate(4), 1e-9);
+        assertEquals(12, first.guessPercentile(4, 1));
+        assertEquals(1, first.games(12));
+        assertEquals(2, second.totalGames()); // La otra instancia no cambia
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.eclipsado.stats;
+
+import com.example.eclipsado.model.Alphabet;
+import com.example.eclipsado.model.GameSession;
+import com.example.eclipsado.model.HintPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the counters, the leaderboard and the file format of {@link PlayerStatistics}.
+ * @author Brandon Fernandez
+ */
+class PlayerStatisticsTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void statisticsSurviveARestart() throws IOException, InterruptedException {
+        Path file = directory.resolve("estadisticas.bin");
+        PlayerStatistics statistics = new PlayerStatistics(file);
+        assertEquals(1, statistics.record(wonGame("casa", Alphabet.SPANISH, 'c', 'a', 's')));
+        assertEquals(1, statistics.record(wonGame("straße", Alphabet.GERMAN, 's', 't', 'r', 'a', 'ß', 'e')));
+        assertEquals(0, statistics.record(lostGame("casa")));
+        statistics.save();
+        statistics.awaitScheduledSaves();
+
+        PlayerStatistics loaded = new PlayerStatistics(file);
+        assertEquals(3, loaded.getGames(0));
+        assertEquals(2, loaded.getGames(4));
+        assertEquals(1, loaded.getWins(4));
+        assertEquals(1, loaded.getLosses(4));
+        assertEquals(1, loaded.getWins(6));
+        assertEquals(1, loaded.getHintsUsed(4));
+        assertArrayEquals(statistics.getLettersToSolve(4), loaded.getLettersToSolve(4));
+        assertEquals(3, loaded.getAverageLettersToSolve(4));
+        assertEquals(statistics.getTop(PlayerStatistics.LEADERBOARD_SIZE), loaded.getTop(PlayerStatistics.LEADERBOARD_SIZE));
+        assertEquals("straße", loaded.getTop(1).get(0).word()); // Las palabras se guardan en UTF-8
+    }
+
+    @Test
+    void theLeaderboardKeepsOnlyTheBestGames() throws InterruptedException {
+        PlayerStatistics statistics = new PlayerStatistics(directory.resolve("estadisticas.bin"));
+        for (char first : "cmptrgblvn".toCharArray()) {
+            statistics.record(wonGame(first + "asas", Alphabet.SPANISH, first, 'a', 's')); // Palabras distintas, misma puntuación
+        }
+        assertEquals(0, statistics.record(wonGame("casa", Alphabet.SPANISH, 'x', 'c', 'a', 's'))); // Peor puntuación
+        assertEquals(1, statistics.record(wonGame("murciélago", Alphabet.SPANISH, 'm', 'u', 'r', 'c', 'i', 'e', 'l', 'a', 'g', 'o')));
+
+        List<LeaderboardEntry> top = statistics.getTop(100);
+        assertEquals(PlayerStatistics.LEADERBOARD_SIZE, top.size());
+        assertEquals("murciélago", top.get(0).word());
+        for (int i = 1; i < top.size(); i++) {
+            assertEquals(-1, Integer.signum(top.get(i - 1).compareTo(top.get(i))));
+        }
+        statistics.awaitScheduledSaves(); // El directorio temporal se borra al terminar
+    }
+
+    @Test
+    void unreadableFilesStartFromScratch() throws IOException {
+        Path file = directory.resolve("estadisticas.bin");
+        Files.write(file, new byte[] {1, 2, 3, 4, 5, 6, 7, 8});
+        PlayerStatistics statistics = new PlayerStatistics(file);
+        assertEquals(0, statistics.getGames(0));
+        assertEquals(0, statistics.getTop(10).size());
+        assertThrows(IllegalArgumentException.class,
+                () -> statistics.record(new GameSession("casa", 5, 3, HintPolicy.RANDOM, new SplittableRandom(1))));
+    }
+
+    private static GameSession wonGame(String word, Alphabet alphabet, char... letters) {
+        GameSession session = new GameSession(word, 5, 3, HintPolicy.RANDOM, new SplittableRandom(1), alphabet);
+        for (char letter : letters) {
+            session.guess(letter);
+        }
+        assertEquals(true, session.isWon());
+        return session;
+    }
+
+    private static GameSession lostGame(String word) {
+        GameSession session = new GameSession(word, 1, 3, HintPolicy.MOST_REVEALING, new SplittableRandom(1));
+        session.useHint();
+        session.guess('z');
+        assertEquals(true, session.isLost());
+        return session;
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.eclipsado.trace;
+
+import com.example.eclipsado.metrics.Histogram;
+import com.example.eclipsado.model.Alphabet;
+import com.example.eclipsado.model.HintPolicy;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests for the file format of {@link InputTrace} and replaying it with {@link TraceReplayer}.
+ * @author Brandon Fernandez
+ */
+class InputTraceTest {
+
+    private static final int POLICY = 4 + 4 + 2 + "murcielago".length() + 8 + 2; // Tras la palabra, la semilla y los límites
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void tracesSurviveTheFileAndReplayTheSameGame() throws IOException {
+        InputTrace recorded = recordGame();
+        Path file = directory.resolve("partida.trace");
+        recorded.write(file);
+        InputTrace read = InputTrace.read(file);
+
+        assertEquals(recorded.getSecretWord(), read.getSecretWord());
+        assertEquals(recorded.getSeed(), read.getSeed());
+        assertEquals(recorded.size(), read.size());
+        for (int i = 0; i < read.size(); i++) {
+            assertEquals(recorded.inputAt(i), read.inputAt(i));
+            assertEquals(recorded.timeAt(i) / 1000, read.timeAt(i) / 1000); // Se guardan microsegundos
+            assertTrue(i == 0 || read.timeAt(i) >= read.timeAt(i - 1));
+        }
+
+        Histogram latencies = new Histogram();
+        assertTrue(TraceReplayer.replay(read, latencies, false));
+        assertEquals(6, latencies.getCount()); // Cuatro letras, una ayuda y una palabra
+        assertEquals(1, TraceReplayer.load(directory).size());
+    }
+
+    @Test
+    void tracesInOtherAlphabetsKeepTheirLetters() throws IOException {
+        TraceRecorder recorder = new TraceRecorder("ĳsbeer", 5, 3, HintPolicy.LEAST_REVEALING, Alphabet.DUTCH, 3);
+        recorder.guess('ĳ');
+        recorder.useHint();
+        recorder.guessWord("ĳsbier");
+        Path file = directory.resolve("ijs.trace");
+        recorder.finish().write(file);
+
+        InputTrace read = InputTrace.read(file);
+        assertEquals("ĳsbeer", read.getSecretWord());
+        assertEquals('ĳ', read.inputAt(0));
+        assertTrue(TraceReplayer.replay(read, new Histogram(), false));
+    }
+
+    @Test
+    void aDifferentGameDoesNotMatch() {
+        InputTrace trace = recordGame();
+        assertFalse(trace.matches(trace.newSession())); // Sin jugadas, el estado final es otro
+    }
+
+    @Test
+    void damagedFilesAreRejected() throws IOException {
+        Path file = directory.resolve("partida.trace");
+        recordGame().write(file);
+        byte[] contents = Files.readAllBytes(file);
+
+        contents[POLICY] = 7;
+        Files.write(file, contents);
+        assertThrows(IOException.class, () -> InputTrace.read(file));
+
+        contents[POLICY] = 0;
+        contents[POLICY + 1] = 15; // Alfabeto desconocido
+        Files.write(file, contents);
+        assertThrows(IOException.class, () -> InputTrace.read(file));
+
+        contents[POLICY + 1] = 0;
+        contents[POLICY + 2] = (byte) 0x80; // Número de eventos negativo
+        Files.write(file, contents);
+        assertThrows(IOException.class, () -> InputTrace.read(file));
+
+        Files.write(file, new byte[] {1, 2, 3});
+        assertThrows(IOException.class, () -> InputTrace.read(file));
+    }
+
+    private static InputTrace recordGame() {
+        TraceRecorder recorder = new TraceRecorder("murcielago", 5, 3, HintPolicy.RANDOM, Alphabet.SPANISH, 42);
+        recorder.guess('m');
+        recorder.guess('z');
+        recorder.useHint();
+        recorder.guess('A');
+        recorder.guess('x');
+        recorder.guessWord("murcielagos");
+        return recorder.finish();
+    }
+}